@@ -5,6 +5,8 @@
 
 package io.openapiprocessor.core.openapi
 
+import java.net.URI
+
 /**
  * OpenAPI parser result abstraction.
  */
@@ -19,4 +21,28 @@ interface OpenApi {
     fun printWarnings()
     fun hasWarnings(): Boolean
 
+    /**
+     * wait for a pending (asynchronous) validation of the OpenAPI description and report its result. A processor
+     * should call it before it finishes. Does nothing if the parser validates synchronously.
+     */
+    fun awaitValidation() {
+        // nop
+    }
+
+    /**
+     * the uris of the documents of the OpenAPI description, i.e. the api document and all documents it references.
+     * Empty if the parser does not provide them.
+     */
+    fun getDocuments(): Set<URI> {
+        return emptySet()
+    }
+
+    /**
+     * the converted documents (i.e. the object trees of the json/yaml documents) of the OpenAPI description by uri.
+     * The first entry is the api document. Empty if the parser does not provide them.
+     */
+    fun getDocumentTrees(): Map<URI, Any> {
+        return emptyMap()
+    }
+
 }
@@ -6,10 +6,13 @@
 package io.openapiprocessor.core.converter
 
 import io.openapiprocessor.core.converter.mapping.*
+import io.openapiprocessor.core.converter.mapping.steps.MappingStepBase
 import io.openapiprocessor.core.converter.wrapper.MultiDataTypeWrapper
 import io.openapiprocessor.core.converter.wrapper.ResultDataTypeWrapper
 import io.openapiprocessor.core.converter.wrapper.SingleDataTypeWrapper
 import io.openapiprocessor.core.framework.Framework
+import io.openapiprocessor.core.incremental.SourceDependencies
+import io.openapiprocessor.core.incremental.SpecElements
 import io.openapiprocessor.core.model.*
 import io.openapiprocessor.core.model.datatypes.*
 import io.openapiprocessor.core.openapi.*
@@ -27,6 +30,9 @@ import io.openapiprocessor.core.writer.Identifier
 import io.openapiprocessor.core.writer.java.OperationPackage
 import org.slf4j.Logger
 import org.slf4j.LoggerFactory
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.Executors
+import java.util.concurrent.Future
 import io.openapiprocessor.core.model.ContentType as ModelContentType
 import io.openapiprocessor.core.model.HttpStatus as ModelHttpStatus
 import io.openapiprocessor.core.model.RequestBody as ModelRequestBody
@@ -60,36 +66,305 @@ class  ApiConverter(
      * @return source generation model
      */
     fun convert(api: OpenApi): Api {
-        val target = Api()
-        createInterfaces(api, target)
-        createResources(api, target)
+        return convertApi(api, null)
+    }
+
+    /**
+     * converts the openapi model to the source generation model. Passes each interface to [onInterface] as soon
+     * as all its endpoints are converted. The interfaces are not added to the result model, so they can be
+     * released after [onInterface] returns.
+     *
+     * The model data types are only complete (i.e. their usage is known) after all endpoints are converted, they
+     * are provided by the result model.
+     *
+     * @param api the open api model
+     * @param onInterface receives the completed interfaces
+     * @return source generation model without interfaces
+     */
+    fun convert(api: OpenApi, onInterface: (Interface) -> Unit): Api {
+        return convertApi(api, onInterface)
+    }
+
+    private fun convertApi(api: OpenApi, onInterface: ((Interface) -> Unit)?): Api {
+        try {
+            val target = Api()
+            target.setSources(createSourceDependencies(api, target))
+            if (isPrepareSchemas()) {
+                prepareSchemas(api, target)
+            }
+            createInterfaces(api, target, onInterface)
+            createResources(api, target)
 
-        if(options.modelUnreferenced) {
-            createUnreferencedSchemas(api, target)
+            if(options.modelUnreferenced) {
+                createUnreferencedSchemas(api, target)
+            }
+
+            log.debug("mapping lookup cache ({})", mappingFinder.cacheStats)
+            log.debug("\$ref conversion cache ({})", dataTypeConverter.conversionStats)
+            return target
+        } finally {
+            // reports the result of an asynchronous validation, which did run in parallel to the conversion
+            api.awaitValidation()
         }
-        return target
     }
 
-    private fun createInterfaces(api: OpenApi, target: Api) {
+    private fun createInterfaces(api: OpenApi, target: Api, onInterface: ((Interface) -> Unit)?) {
+        if (isParallel()) {
+            createInterfacesParallel(api, target, onInterface)
+            return
+        }
+
         val interfaces = hashMapOf<String, Interface>()
+        val pending = PendingEndpoints(countEndpoints(api, onInterface), onInterface)
         val serverPath = getServerPath(api)
 
         api.getPaths().forEach { (path, pathValue) ->
             val operations = pathValue.getOperations()
 
             operations.forEach { op ->
-                val itf = createInterface(path, serverPath, op, interfaces)
+                val name = getTargetInterfaceName(path, op)
+                val itf = createInterface(name, serverPath, op, interfaces)
 
                 val ep = createEndpoint(path, op, target.getDataTypes(), api.getRefResolver())
                 if (ep != null) {
                     itf.add(ep)
                 }
+
+                target.getSources()?.add(itf, path, ep)
+                pending.done(name, interfaces)
             }
         }
 
         target.setInterfaces(interfaces.values.map { it })
     }
 
+    /**
+     * converts the endpoints in parallel. The endpoints are added to their interface in the same order
+     * as the sequential conversion would do it.
+     *
+     * It does not submit all endpoints at once. The number of submitted but not yet added endpoints is limited,
+     * so the memory used by the converted endpoints is bounded (if the interfaces are passed to [onInterface]).
+     */
+    private fun createInterfacesParallel(api: OpenApi, target: Api, onInterface: ((Interface) -> Unit)?) {
+        val interfaces = hashMapOf<String, Interface>()
+        val pending = PendingEndpoints(countEndpoints(api, onInterface), onInterface)
+        val serverPath = getServerPath(api)
+        val loggingOptions = options.loggingOptions
+        val maxTasks = options.parallelOptions.threads * 2
+
+        val executor = Executors.newFixedThreadPool(options.parallelOptions.threads)
+        try {
+            val tasks = ArrayDeque<EndpointTask>()
+
+            api.getPaths().forEach { (path, pathValue) ->
+                val operations = pathValue.getOperations()
+
+                operations.forEach { op ->
+                    val name = getTargetInterfaceName(path, op)
+                    val itf = createInterface(name, serverPath, op, interfaces)
+
+                    val ep = executor.submit<Endpoint?> {
+                        MappingStepBase.options.set(loggingOptions)
+                        createEndpoint(path, op, target.getDataTypes(), api.getRefResolver())
+                    }
+
+                    tasks.addLast(EndpointTask(name, path, itf, ep))
+                    if (tasks.size >= maxTasks) {
+                        addEndpoint(tasks.removeFirst(), pending, interfaces, target)
+                    }
+                }
+            }
+
+            while (tasks.isNotEmpty()) {
+                addEndpoint(tasks.removeFirst(), pending, interfaces, target)
+            }
+        } finally {
+            executor.shutdownNow()
+        }
+
+        target.setInterfaces(interfaces.values.map { it })
+    }
+
+    private class EndpointTask(val name: String, val path: String, val itf: Interface, val endpoint: Future<Endpoint?>)
+
+    private fun addEndpoint(
+        task: EndpointTask,
+        pending: PendingEndpoints,
+        interfaces: MutableMap<String, Interface>,
+        target: Api
+    ) {
+        val ep = getEndpoint(task.endpoint)
+        if (ep != null) {
+            task.itf.add(ep)
+        }
+
+        target.getSources()?.add(task.itf, task.path, ep)
+        pending.done(task.name, interfaces)
+    }
+
+    /**
+     * an incremental run collects the OpenAPI elements each source depends on. It needs the documents of the
+     * OpenAPI description.
+     */
+    private fun createSourceDependencies(api: OpenApi, target: Api): SourceDependencies? {
+        if (options.incrementalInputs == null) {
+            return null
+        }
+
+        val documents = api.getDocumentTrees()
+        if (documents.isEmpty()) {
+            return null
+        }
+
+        return SourceDependencies(SpecElements(documents), target.getDataTypes(), options.packageName)
+    }
+
+    /**
+     * counts the endpoints of each interface. Only needed if the interfaces are passed on when they are complete.
+     */
+    private fun countEndpoints(api: OpenApi, onInterface: ((Interface) -> Unit)?): MutableMap<String, Int> {
+        val counts = hashMapOf<String, Int>()
+        if (onInterface == null) {
+            return counts
+        }
+
+        api.getPaths().forEach { (path, pathValue) ->
+            pathValue.getOperations().forEach { op ->
+                counts.merge(getTargetInterfaceName(path, op), 1, Int::plus)
+            }
+        }
+
+        return counts
+    }
+
+    /**
+     * tracks the number of not yet converted endpoints of each interface and passes a complete interface to
+     * [onInterface].
+     */
+    private class PendingEndpoints(
+        private val counts: MutableMap<String, Int>,
+        private val onInterface: ((Interface) -> Unit)?
+    ) {
+        fun done(name: String, interfaces: MutableMap<String, Interface>) {
+            if (onInterface == null) {
+                return
+            }
+
+            val count = counts.merge(name, -1, Int::plus)
+            if (count == 0) {
+                onInterface(interfaces.remove(name)!!)
+            }
+        }
+    }
+
+    private fun getEndpoint(task: Future<Endpoint?>): Endpoint? {
+        try {
+            return task.get()
+        } catch (e: ExecutionException) {
+            throw e.cause ?: e
+        }
+    }
+
+    /**
+     * parallel conversion is only used if it does not change the result. With endpoint mappings, marker
+     * interfaces or oneOf interfaces the result depends on the order in which the endpoints are converted.
+     */
+    private fun isParallel(): Boolean {
+        if (!options.parallelOptions.converter) {
+            return false
+        }
+
+        if (options.endpointMappings.isNotEmpty() || options.responseInterface || options.oneOfInterface) {
+            log.info("parallel endpoint conversion is disabled (endpoint mappings, responseInterface or oneOfInterface)")
+            return false
+        }
+
+        return options.parallelOptions.threads > 1
+    }
+
+    /**
+     * converts the component schemas in dependency order before the endpoints. The schemas of a dependency level
+     * are independent of each other and are converted in parallel. Only schemas that are part of a $ref loop need
+     * lazy data types.
+     *
+     * The prepared data types are not counted as used. The endpoint conversion finds them and counts the used
+     * ones.
+     */
+    private fun prepareSchemas(api: OpenApi, target: Api) {
+        val schemas = api.getSchemas()
+        val graph = SchemaGraph(schemas)
+        val loggingOptions = options.loggingOptions
+
+        val dataTypes = target.getDataTypes()
+        val names = dataTypes.getNames()
+
+        val executor = Executors.newFixedThreadPool(options.parallelOptions.threads)
+        try {
+            for (level in graph.levels) {
+                val tasks = level.map { component ->
+                    executor.submit<Boolean> {
+                        MappingStepBase.options.set(loggingOptions)
+                        component.names.all { name ->
+                            prepareSchema(name, schemas[name]!!, api.getRefResolver(), dataTypes)
+                        }
+                    }
+                }
+
+                val prepared = tasks.map { it.get() }
+                if (!prepared.all { it }) {
+                    // a failed schema may leave incomplete data types, drop all prepared data types and convert
+                    // the schemas with the endpoints, which will report the failure.
+                    dataTypes.retainAll(names)
+                    dataTypeConverter.clearCache(dataTypes)
+                    return
+                }
+            }
+        } finally {
+            executor.shutdownNow()
+        }
+    }
+
+    private fun prepareSchema(name: String, schema: Schema, resolver: RefResolver, dataTypes: DataTypes): Boolean {
+        val info = SchemaInfo(
+            SchemaInfo.NoEndpoint(),
+            name,
+            "",
+            schema,
+            resolver,
+            "components/schemas",
+            // no marker interfaces
+        )
+
+        return try {
+            dataTypeConverter.prepare(info, dataTypes)
+            true
+        } catch (e: Exception) {
+            log.warn("failed to prepare schema {} ({}), converting the schemas with the endpoints", name, e.message)
+            false
+        }
+    }
+
+    /**
+     * the schemas are only converted before the endpoints if it does not change the result. With endpoint
+     * mappings, content type mappings, marker interfaces or oneOf interfaces the result depends on the context
+     * (i.e. the endpoint) of the first conversion.
+     */
+    private fun isPrepareSchemas(): Boolean {
+        if (!options.parallelOptions.schemas) {
+            return false
+        }
+
+        if (options.endpointMappings.isNotEmpty()
+            || options.globalMappings.hasContentTypeMappings()
+            || options.responseInterface
+            || options.oneOfInterface) {
+            log.info("schema conversion before the endpoints is disabled (endpoint mappings, content type mappings, responseInterface or oneOfInterface)")
+            return false
+        }
+
+        return true
+    }
+
     private fun createResources(api: OpenApi, target: Api) {
         val resources = mutableListOf<Resource>()
 
@@ -133,14 +408,16 @@ class  ApiConverter(
         return servers[options.basePathOptions.serverUrl!!].getUri().path
     }
 
+    private fun getTargetInterfaceName(path: String, operation: Operation): String {
+        return getInterfaceName(operation, isExcluded(path, operation.getMethod()))
+    }
+
     private fun createInterface(
-        path: String,
+        targetInterfaceName: String,
         pathPrefix: String?,
         operation: Operation,
         interfaces: MutableMap<String, Interface>
     ): Interface {
-        val targetInterfaceName = getInterfaceName(operation, isExcluded(path, operation.getMethod()))
-
         var itf = interfaces[targetInterfaceName]
         if (itf != null) {
             return itf
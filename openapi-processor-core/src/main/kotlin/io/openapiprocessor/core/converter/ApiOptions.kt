@@ -9,6 +9,8 @@ import io.openapiprocessor.core.processor.SupportedTypes
 import io.openapiprocessor.core.converter.mapping.*
 import io.openapiprocessor.core.converter.options.BasePathOptions
 import io.openapiprocessor.core.converter.options.PackageOptions
+import io.openapiprocessor.core.converter.options.ParallelOptions
+import io.openapiprocessor.core.converter.options.SharedModelOptions
 import io.openapiprocessor.core.converter.options.TargetDirOptions
 import io.openapiprocessor.core.support.Empty
 
@@ -129,6 +131,38 @@ open class ApiOptions: MappingSettings {
      */
     var formatCodeFormatter: String? = null
 
+    /**
+     * directory of the formatter cache (optional). If set, formatted sources are cached by the hash of the raw
+     * source & the formatter.
+     */
+    var formatCodeCacheDir: String? = null
+
+    /**
+     * maximum size of the formatter cache in bytes. Default is 64 MB (mapping `format-code-cache-size`, in MB).
+     */
+    var formatCodeCacheSize: Long = 64L * 1024 * 1024
+
+    /**
+     * enable/disable streaming of the interfaces to the writer (optional). If enabled, an interface is written as
+     * soon as its endpoints are converted and does not stay in memory until the conversion is done.
+     *
+     * It only bounds the memory of the interfaces. The model types stay in memory until the conversion is done:
+     * any endpoint may still use a model type, and its usage decides if it is generated.
+     */
+    var streamInterfaces = false
+
+    /**
+     * enable/disable the up-to-date check of a run (optional). It requires [TargetDirOptions.prune].
+     */
+    var incremental = false
+
+    /**
+     * hash of the global inputs (processor, options & mapping) of an incremental run, set by the processor session.
+     * If set, the writer only writes the sources whose OpenAPI elements changed since the last run with the same
+     * global inputs (see [io.openapiprocessor.core.incremental.SourceGraph]).
+     */
+    var incrementalInputs: String? = null
+
     /**
      *  enable/disable the @Generated annotation (optional).
      */
@@ -166,6 +200,16 @@ open class ApiOptions: MappingSettings {
      */
     var loggingOptions = LoggingOptions()
 
+    /**
+     * parallel processing related options
+     */
+    var parallelOptions: ParallelOptions = ParallelOptions()
+
+    /**
+     * shared model types related options
+     */
+    var sharedModelOptions: SharedModelOptions = SharedModelOptions()
+
     /**
      * validate that targetDir is set, throws if not.
      */
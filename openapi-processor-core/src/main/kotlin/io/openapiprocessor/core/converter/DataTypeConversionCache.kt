@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026 https://github.com/openapi-processor/openapi-processor-base
+ * PDX-License-Identifier: Apache-2.0
+ */
+
+package io.openapiprocessor.core.converter
+
+import io.openapiprocessor.core.converter.mapping.steps.MappingStepBase
+import io.openapiprocessor.core.model.DataTypes
+import io.openapiprocessor.core.model.datatypes.DataType
+import io.openapiprocessor.core.openapi.HttpMethod
+import io.openapiprocessor.core.openapi.Schema
+import java.util.*
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * cache of converted $ref schemas. A (shared) component schema is converted once per distinct mapping context
+ * instead of once per $ref.
+ *
+ * The cached data types are only valid for the [DataTypes] they were added to, so there is a separate cache for
+ * each [DataTypes] instance.
+ *
+ * The cache is bypassed if mapping logging is enabled, so that each conversion logs its mapping trace.
+ */
+class DataTypeConversionCache {
+
+    /**
+     * cache key of a resolved $ref schema.
+     *
+     * @param schema the resolved schema, compared by identity
+     * @param name the name of the resolved schema
+     * @param location the location of the schema (e.g. response)
+     * @param contentType the content type
+     * @param path the endpoint path, only set if endpoint mappings may apply
+     * @param method the endpoint method, only set if endpoint mappings may apply
+     */
+    data class Key(
+        val schema: Schema,
+        val name: String,
+        val location: String,
+        val contentType: String,
+        val path: String?,
+        val method: HttpMethod?
+    )
+
+    class Stats(val hits: Long, val misses: Long) {
+        override fun toString(): String {
+            return "hits: $hits, misses: $misses"
+        }
+    }
+
+    private val conversions: MutableMap<DataTypes, MutableMap<Key, DataType>> =
+        Collections.synchronizedMap(WeakHashMap())
+
+    private val hits = AtomicLong()
+    private val misses = AtomicLong()
+
+    val stats: Stats
+        get() = Stats(hits.get(), misses.get())
+
+    /**
+     * get the cached data type of a $ref schema or convert it. The result is only cached if [convert] says so.
+     *
+     * @param dataTypes the known data types
+     * @param key the key of the resolved $ref schema
+     * @param convert converts the schema, returns the data type and if it can be cached
+     * @return the data type
+     */
+    fun get(dataTypes: DataTypes, key: Key, convert: () -> Pair<DataType, Boolean>): DataType {
+        if (MappingStepBase.isEnabled()) {
+            return convert().first
+        }
+
+        val cache = conversions.computeIfAbsent(dataTypes) { ConcurrentHashMap() }
+        val cached = cache[key]
+        if (cached != null) {
+            hits.incrementAndGet()
+            return cached
+        }
+
+        misses.incrementAndGet()
+        val (result, cacheable) = convert()
+        if (cacheable) {
+            cache[key] = result
+        }
+        return result
+    }
+
+    /**
+     * drop the cached data types of [dataTypes], e.g. after a failed conversion was rolled back.
+     *
+     * @param dataTypes the known data types
+     */
+    fun clear(dataTypes: DataTypes) {
+        conversions.remove(dataTypes)
+    }
+}
@@ -27,7 +27,27 @@ class DataTypeConverter(
     private val finder: MappingFinder = MappingFinder(options),
     private val nullWrapper: NullDataTypeWrapper = NullDataTypeWrapper(options, finder)
 ) {
-    private val current: Deque<SchemaInfo> = LinkedList()
+    private class State {
+        // the in-progress schemas
+        val current: Deque<SchemaInfo> = LinkedList()
+
+        // names of the in-progress non-ref schemas, used to detect $ref loops
+        val names: MutableMap<String, Int> = HashMap()
+
+        // number of detected $ref loops
+        var loops = 0
+    }
+
+    // per thread, endpoints may be converted in parallel
+    private val state: ThreadLocal<State> = ThreadLocal.withInitial { State() }
+
+    private val conversions = DataTypeConversionCache()
+
+    /**
+     * statistics of the $ref conversion cache.
+     */
+    val conversionStats: DataTypeConversionCache.Stats
+        get() = conversions.stats
 
     /**
      * converts an open api type (i.e. a {@code Schema}) to a java data type including nested types.
@@ -39,37 +59,65 @@ class DataTypeConverter(
      * @return the resulting java data type
      */
     fun convert(schemaInfo: SchemaInfo, dataTypes: DataTypes): DataType {
+        return convert(schemaInfo, dataTypes, true)
+    }
+
+    /**
+     * converts an open api type like [convert] but does not count the usage of the resulting data types. Used to
+     * convert the component schemas before the endpoints.
+     *
+     * @param schemaInfo the open api type with context information
+     * @param dataTypes known object types
+     * @return the resulting java data type
+     */
+    fun prepare(schemaInfo: SchemaInfo, dataTypes: DataTypes): DataType {
+        return convert(schemaInfo, dataTypes, false)
+    }
+
+    /**
+     * drop the cached $ref conversions of [dataTypes]. Required if data types are removed from [dataTypes].
+     *
+     * @param dataTypes known object types
+     */
+    fun clearCache(dataTypes: DataTypes) {
+        conversions.clear(dataTypes)
+    }
+
+    private fun convert(schemaInfo: SchemaInfo, dataTypes: DataTypes, collect: Boolean): DataType {
         if (isLoop(schemaInfo)) {
+            state.get().loops++
             return dataTypes.lazy(schemaInfo.getName())
         }
 
         push(schemaInfo)
 
-        val result: DataType = when {
-            schemaInfo.isRefObject() -> {
-                createRefDataType(schemaInfo, dataTypes)
-            }
-            schemaInfo.isComposedObject() -> {
-                createComposedDataType(schemaInfo, dataTypes)
-            }
-            schemaInfo.isArray () -> {
-                createArrayDataType (schemaInfo, dataTypes)
-            }
-            schemaInfo.isObject () -> {
-                createObjectDataType (schemaInfo, dataTypes)
-            }
-            schemaInfo.isTypeLess() -> {
-                createNoDataType(schemaInfo, dataTypes)
-            }
-            else -> {
-                createSimpleDataType(schemaInfo, dataTypes)
+        val result: DataType = try {
+            when {
+                schemaInfo.isRefObject() -> {
+                    createRefDataType(schemaInfo, dataTypes)
+                }
+                schemaInfo.isComposedObject() -> {
+                    createComposedDataType(schemaInfo, dataTypes)
+                }
+                schemaInfo.isArray () -> {
+                    createArrayDataType (schemaInfo, dataTypes)
+                }
+                schemaInfo.isObject () -> {
+                    createObjectDataType (schemaInfo, dataTypes)
+                }
+                schemaInfo.isTypeLess() -> {
+                    createNoDataType(schemaInfo, dataTypes)
+                }
+                else -> {
+                    createSimpleDataType(schemaInfo, dataTypes)
+                }
             }
+        } finally {
+            pop()
         }
 
-        pop()
-
         // result is complete, add ref what is really required
-        if (current.isEmpty()) {
+        if (collect && state.get().current.isEmpty()) {
             DataTypeCollector(dataTypes, options.packageName).collect(result)
         }
 
@@ -98,13 +146,15 @@ class DataTypeConverter(
             return createMappedDataType(typeMapping, schemaInfo, objectType)
         }
 
-        val found = dataTypes.find(schemaInfo.getName())
-        if (found != null) {
-            return found
-        }
+        return dataTypes.locked {
+            val found = find(schemaInfo.getName())
+            if (found != null) {
+                return@locked found
+            }
 
-        dataTypes.add (objectType)
-        return objectType
+            add (objectType)
+            objectType
+        }
     }
 
     private fun createComposedDataType(schemaInfo: SchemaInfo, items: List<DataType>): DataType {
@@ -117,7 +167,7 @@ class DataTypeConverter(
 
                 val allOf = AllOfObjectDataType(
                     DataTypeName(schemaInfo.getName(), getTypeNameWithSuffix(schemaInfo.getName())),
-                    "${options.packageName}.model",
+                    getModelPackageName(schemaInfo),
                     items,
                     schemaInfo.getDeprecated()
                 )
@@ -187,7 +237,21 @@ class DataTypeConverter(
     }
 
     private fun createRefDataType (schemaInfo: SchemaInfo, dataTypes: DataTypes): DataType {
-        return convert(schemaInfo.buildForRef(), dataTypes)
+        val refSchemaInfo = schemaInfo.buildForRef()
+
+        // the interface collects its implementations on each conversion
+        if (refSchemaInfo.withInterface()) {
+            return convert(refSchemaInfo, dataTypes)
+        }
+
+        val key = refSchemaInfo.getConversionKey(options.endpointMappings.isNotEmpty())
+        return conversions.get(dataTypes, key) {
+            val loopsBefore = state.get().loops
+            val result = convert(refSchemaInfo, dataTypes)
+
+            // a data type that depends on a $ref loop is incomplete until the loop is resolved
+            Pair(result, state.get().loops == loopsBefore)
+        }
     }
 
     private fun createObjectDataType(schemaInfo: SchemaInfo, dataTypes: DataTypes): DataType {
@@ -223,22 +287,24 @@ class DataTypeConverter(
             return createMappedDataType(typeMapping, schemaInfo, objectType)
         }
 
-        val found = dataTypes.find(schemaInfo.getName())
-        if (found != null && found is ObjectDataType) {
-            if (schemaInfo.withInterface()) {
-                return createInterface(schemaInfo, found, dataTypes)
+        return dataTypes.locked {
+            val found = find(schemaInfo.getName())
+            if (found != null && found is ObjectDataType) {
+                if (schemaInfo.withInterface()) {
+                    return@locked createInterface(schemaInfo, found, dataTypes)
+                }
+
+                return@locked found
             }
 
-            return found
-        }
+            add (schemaInfo.getName(), objectType)
 
-        dataTypes.add (schemaInfo.getName(), objectType)
+            if (schemaInfo.withInterface()) {
+                return@locked createInterface(schemaInfo, objectType, dataTypes)
+            }
 
-        if (schemaInfo.withInterface()) {
-            return createInterface(schemaInfo, objectType, dataTypes)
+            objectType
         }
-
-        return objectType
     }
 
     private fun createInterface(schemaInfo: SchemaInfo, objectType: ObjectDataType, dataTypes: DataTypes): DataType {
@@ -256,18 +322,20 @@ class DataTypeConverter(
             Documentation(description = schemaInfo.description)
         )
 
-        val found = dataTypes.find(interfaceType.getName())
-        if (found is InterfaceDataType) {
-            return found.apply {
-                addItem(objectType)
-                objectType.addInterface(this)
+        return dataTypes.locked {
+            val found = find(interfaceType.getName())
+            if (found is InterfaceDataType) {
+                return@locked found.apply {
+                    addItem(objectType)
+                    objectType.addInterface(this)
+                }
             }
-        }
 
-        interfaceType.addItem(objectType)
-        objectType.addInterface(interfaceType)
-        dataTypes.add (interfaceType.getName(), interfaceType)
-        return interfaceType
+            interfaceType.addItem(objectType)
+            objectType.addInterface(interfaceType)
+            add (interfaceType.getName(), interfaceType)
+            interfaceType
+        }
     }
 
     private fun createObjectDataType(
@@ -305,6 +373,18 @@ class DataTypeConverter(
         return SchemaPackage(options).getPackageName(schemaInfo)
     }
 
+    /**
+     * package of model types that are not placed by their location, i.e. the shared package or the model package.
+     */
+    private fun getModelPackageName(schemaInfo: SchemaInfo): String {
+        val shared = options.sharedModelOptions
+        if (shared.isShared(schemaInfo.getDocumentUri(), schemaInfo.getName())) {
+            return shared.packageName!!
+        }
+
+        return "${options.packageName}.model"
+    }
+
     private fun createSimpleDataType(schemaInfo: SchemaInfo, dataTypes: DataTypes): DataType {
         val dataType = createSimpleDataTypeX(schemaInfo, dataTypes)
 
@@ -453,22 +533,24 @@ class DataTypeConverter(
         // class gets an uppercase name!
         val enumName = schemaInfo.getName().capitalizeFirstChar()
 
-        val found = dataTypes.find(enumName)
-        if (found != null) {
-            return found
-        }
-
-        @Suppress("UNCHECKED_CAST")
-        val enumType = StringEnumDataType(
-            DataTypeName(enumName, getTypeNameWithSuffix(enumName)),
-            "${options.packageName}.model",
-            schemaInfo.getEnumValues() as List<String>,
-            constraints,
-            schemaInfo.getDeprecated(),
-            Documentation(description = schemaInfo.description))
+        return dataTypes.locked {
+            val found = find(enumName)
+            if (found != null) {
+                return@locked found
+            }
 
-        dataTypes.add(enumName, enumType)
-        return enumType
+            @Suppress("UNCHECKED_CAST")
+            val enumType = StringEnumDataType(
+                DataTypeName(enumName, getTypeNameWithSuffix(enumName)),
+                getModelPackageName(schemaInfo),
+                schemaInfo.getEnumValues() as List<String>,
+                constraints,
+                schemaInfo.getDeprecated(),
+                Documentation(description = schemaInfo.description))
+
+            add(enumName, enumType)
+            enumType
+        }
     }
 
     private fun createMappedDataType(
@@ -554,7 +636,12 @@ class DataTypeConverter(
      * @param info the schema info that is currently processed
      */
     private fun push(info: SchemaInfo) {
-        current.push(info)
+        val current = state.get()
+        current.current.push(info)
+
+        if (!info.isRefObject()) {
+            current.names.merge(info.getName(), 1, Int::plus)
+        }
     }
 
     /**
@@ -562,7 +649,12 @@ class DataTypeConverter(
      *
      */
     private fun pop() {
-        current.pop()
+        val current = state.get()
+        val info = current.current.pop()
+
+        if (!info.isRefObject()) {
+            current.names.computeIfPresent(info.getName()) { _, count -> if (count > 1) count - 1 else null }
+        }
     }
 
     /**
@@ -574,10 +666,10 @@ class DataTypeConverter(
      * @param info the schema info that is currently processed
      * @return true if loop else false
      */
-    private fun isLoop(info: SchemaInfo): Boolean = current.any {
+    private fun isLoop(info: SchemaInfo): Boolean {
         // $ref and non-ref SchemaInfo have the same name.
         // We are only interested if we have seen a non-ref!
-        it.getName() == info.getName() && !it.isRefObject()
+        return state.get().names.containsKey(info.getName())
     }
 
     private fun getTypeNameWithSuffix(name: String): String {
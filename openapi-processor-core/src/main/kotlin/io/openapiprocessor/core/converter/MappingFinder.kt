@@ -7,6 +7,8 @@ package io.openapiprocessor.core.converter
 
 import io.openapiprocessor.core.converter.mapping.*
 import io.openapiprocessor.core.converter.mapping.steps.MappingStep
+import io.openapiprocessor.core.converter.mapping.steps.MappingStepBase
+import io.openapiprocessor.core.converter.mapping.steps.NullStep
 import io.openapiprocessor.core.converter.mapping.steps.RootStep
 import io.openapiprocessor.core.converter.mapping.steps.RootStepX
 import io.openapiprocessor.core.processor.mapping.BodyStyle
@@ -20,12 +22,22 @@ class MappingFinder(val options: ApiOptions) {
         options.extensionMappings
     )
 
+    private val cache = MappingFinderCache()
+
+    /**
+     * hit/miss statistics of the lookup cache.
+     */
+    val cacheStats: MappingFinderCache.Stats
+        get() = cache.stats
+
     fun findBodyStyleMapping(query: MappingQuery): BodyStyle {
-        val step = rootStep("looking for body style mapping of", query)
-        try {
-            return findBodyStyleMapping(query, step)
-        } finally {
-            step.log()
+        return cache.get("findBodyStyleMapping", MappingFinderQuery.of(query)) {
+            val step = rootStep("looking for body style mapping of", query)
+            try {
+                findBodyStyleMapping(query, step)
+            } finally {
+                step.log()
+            }
         }
     }
 
@@ -45,11 +57,13 @@ class MappingFinder(val options: ApiOptions) {
 
     // path/method
     fun getResultTypeMapping(query: MappingQuery): ResultTypeMapping? {
-        val step = rootStep("looking for result type mapping of", query)
-        try {
-            return getResultTypeMapping(query, step)
-        } finally {
-            step.log()
+        return cache.get("getResultTypeMapping", MappingFinderQuery.of(query)) {
+            val step = rootStep("looking for result type mapping of", query)
+            try {
+                getResultTypeMapping(query, step)
+            } finally {
+                step.log()
+            }
         }
     }
 
@@ -68,11 +82,13 @@ class MappingFinder(val options: ApiOptions) {
     }
 
     fun findResultStyleMapping(query: MappingQuery): ResultStyle {
-        val step = rootStep("looking for result style mapping of", query)
-        try {
-            return findResultStyleMapping(query, step)
-        } finally {
-            step.log()
+        return cache.get("findResultStyleMapping", MappingFinderQuery.of(query)) {
+            val step = rootStep("looking for result style mapping of", query)
+            try {
+                findResultStyleMapping(query, step)
+            } finally {
+                step.log()
+            }
         }
     }
 
@@ -91,11 +107,13 @@ class MappingFinder(val options: ApiOptions) {
     }
 
     fun getResultStatusOption(query: MappingQuery): Boolean {
-        val step = rootStep("looking for result status mapping of", query)
-        try {
-            return getResultStatusOption(query, step)
-        } finally {
-            step.log()
+        return cache.get("getResultStatusOption", MappingFinderQuery.of(query)) {
+            val step = rootStep("looking for result status mapping of", query)
+            try {
+                getResultStatusOption(query, step)
+            } finally {
+                step.log()
+            }
         }
     }
 
@@ -115,11 +133,13 @@ class MappingFinder(val options: ApiOptions) {
 
     // path/method
     fun getSingleTypeMapping(query: MappingQuery): TypeMapping? {
-        val step = rootStep("looking for single type style mapping of", query)
-        try {
-            return getSingleTypeMapping(query, step)
-        } finally {
-            step.log()
+        return cache.get("getSingleTypeMapping", MappingFinderQuery.of(query)) {
+            val step = rootStep("looking for single type style mapping of", query)
+            try {
+                getSingleTypeMapping(query, step)
+            } finally {
+                step.log()
+            }
         }
     }
 
@@ -139,11 +159,13 @@ class MappingFinder(val options: ApiOptions) {
 
     // path/method
     fun getMultiTypeMapping(query: MappingQuery): TypeMapping? {
-        val step = rootStep("looking for multi type mapping of", query)
-        try {
-            return getMultiTypeMapping(query, step)
-        } finally {
-            step.log()
+        return cache.get("getMultiTypeMapping", MappingFinderQuery.of(query)) {
+            val step = rootStep("looking for multi type mapping of", query)
+            try {
+                getMultiTypeMapping(query, step)
+            } finally {
+                step.log()
+            }
         }
     }
 
@@ -174,11 +196,13 @@ class MappingFinder(val options: ApiOptions) {
      * - global type
      */
     fun findAnyTypeMapping(query: MappingQuery): TypeMapping? {
-        val step = rootStep("looking for any type mapping of", query)
-        try {
-            return findAnyTypeMapping(query, step)
-        } finally {
-            step.log()
+        return cache.get("findAnyTypeMapping", MappingFinderQuery.of(query)) {
+            val step = rootStep("looking for any type mapping of", query)
+            try {
+                findAnyTypeMapping(query, step)
+            } finally {
+                step.log()
+            }
         }
     }
 
@@ -235,11 +259,13 @@ class MappingFinder(val options: ApiOptions) {
      * - global type
      */
     fun findAnyInterfaceTypeMapping(query: MappingQuery): List<InterfaceTypeMapping> {
-        val step = rootStep("looking for interface type mappings of", query)
-        try {
-            return findAnyInterfaceTypeMapping(query, step)
-        } finally {
-            step.log()
+        return cache.get("findAnyInterfaceTypeMapping", MappingFinderQuery.of(query)) {
+            val step = rootStep("looking for interface type mappings of", query)
+            try {
+                findAnyInterfaceTypeMapping(query, step)
+            } finally {
+                step.log()
+            }
         }
     }
 
@@ -269,11 +295,13 @@ class MappingFinder(val options: ApiOptions) {
 
     // path/method/name/format/type
     fun findTypeMapping(query: MappingQuery): TypeMapping? {
-        val step = rootStep("looking for type mapping of", query)
-        try {
-            return findTypeMapping(query, step)
-        } finally {
-            step.log()
+        return cache.get("findTypeMapping", MappingFinderQuery.of(query)) {
+            val step = rootStep("looking for type mapping of", query)
+            try {
+                findTypeMapping(query, step)
+            } finally {
+                step.log()
+            }
         }
     }
 
@@ -302,11 +330,13 @@ class MappingFinder(val options: ApiOptions) {
     }
 
     fun findAnnotationTypeMappings(query: MappingQuery): List<AnnotationTypeMapping> {
-        val step = rootStep("looking for annotation type mapping of", query)
-        try {
-            return findAnnotationTypeMappings(query, step)
-        } finally {
-            step.log()
+        return cache.get("findAnnotationTypeMappings", MappingFinderQuery.of(query)) {
+            val step = rootStep("looking for annotation type mapping of", query)
+            try {
+                findAnnotationTypeMappings(query, step)
+            } finally {
+                step.log()
+            }
         }
     }
 
@@ -329,11 +359,13 @@ class MappingFinder(val options: ApiOptions) {
     }
 
     private fun findAnnotationSchemaTypeMappings(query: MappingQuery): List<AnnotationTypeMapping> {
-        val step = rootStep("looking for annotation schema type mapping of", query)
-        try {
-            return findAnnotationSchemaTypeMappings(query, step)
-        } finally {
-            step.log()
+        return cache.get("findAnnotationSchemaTypeMappings", MappingFinderQuery.of(query)) {
+            val step = rootStep("looking for annotation schema type mapping of", query)
+            try {
+                findAnnotationSchemaTypeMappings(query, step)
+            } finally {
+                step.log()
+            }
         }
     }
 
@@ -342,11 +374,13 @@ class MappingFinder(val options: ApiOptions) {
     }
 
     fun findInterfaceTypeMappings(query: MappingQuery): List<InterfaceTypeMapping> {
-        val step = rootStep("looking for interface type mappings of", query)
-        try {
-            return findInterfaceTypeMapping(query, step)
-        } finally {
-            step.log()
+        return cache.get("findInterfaceTypeMappings", MappingFinderQuery.of(query)) {
+            val step = rootStep("looking for interface type mappings of", query)
+            try {
+                findInterfaceTypeMapping(query, step)
+            } finally {
+                step.log()
+            }
         }
     }
 
@@ -365,11 +399,13 @@ class MappingFinder(val options: ApiOptions) {
     }
 
     fun findParameterTypeMapping(query: MappingQuery): TypeMapping? {
-        val step = rootStep("looking for parameter type mapping of", query)
-        try {
-            return findParameterTypeMapping(query, step)
-        } finally {
-            step.log()
+        return cache.get("findParameterTypeMapping", MappingFinderQuery.of(query)) {
+            val step = rootStep("looking for parameter type mapping of", query)
+            try {
+                findParameterTypeMapping(query, step)
+            } finally {
+                step.log()
+            }
         }
     }
 
@@ -388,11 +424,13 @@ class MappingFinder(val options: ApiOptions) {
     }
 
     fun findAnnotationParameterTypeMappings(query: MappingQuery): List<AnnotationTypeMapping> {
-        val step = rootStep("looking for annotation parameter type mapping of", query)
-        try {
-            return findAnnotationParameterTypeMappings(query, step)
-        } finally {
-            step.log()
+        return cache.get("findAnnotationParameterTypeMappings", MappingFinderQuery.of(query)) {
+            val step = rootStep("looking for annotation parameter type mapping of", query)
+            try {
+                findAnnotationParameterTypeMappings(query, step)
+            } finally {
+                step.log()
+            }
         }
     }
 
@@ -416,11 +454,13 @@ class MappingFinder(val options: ApiOptions) {
     }
 
     fun findParameterNameTypeMapping(query: MappingQuery): NameTypeMapping? {
-        val step = rootStep("looking for parameter name type mapping of", query)
-        try {
-            return findParameterNameTypeMapping(query, step)
-        } finally {
-            step.log()
+        return cache.get("findParameterNameTypeMapping", MappingFinderQuery.of(query)) {
+            val step = rootStep("looking for parameter name type mapping of", query)
+            try {
+                findParameterNameTypeMapping(query, step)
+            } finally {
+                step.log()
+            }
         }
     }
 
@@ -439,11 +479,13 @@ class MappingFinder(val options: ApiOptions) {
     }
 
     fun findAnnotationParameterNameTypeMapping(query: MappingQuery): List<AnnotationNameMapping> {
-        val step = rootStep("looking for annotation parameter name type mapping of", query)
-        try {
-            return findAnnotationParameterNameTypeMapping(query, step)
-        } finally {
-            step.log()
+        return cache.get("findAnnotationParameterNameTypeMapping", MappingFinderQuery.of(query)) {
+            val step = rootStep("looking for annotation parameter name type mapping of", query)
+            try {
+                findAnnotationParameterNameTypeMapping(query, step)
+            } finally {
+                step.log()
+            }
         }
     }
 
@@ -457,11 +499,13 @@ class MappingFinder(val options: ApiOptions) {
     }
 
     fun findAddParameterTypeMappings(query: MappingQuery): List<AddParameterTypeMapping> {
-        val step = rootStep("looking for additional parameter type mapping of", query)
-        try {
-            return findAddParameterTypeMappings(query, step)
-        } finally {
-            step.log()
+        return cache.get("findAddParameterTypeMappings", MappingFinderQuery.of(query)) {
+            val step = rootStep("looking for additional parameter type mapping of", query)
+            try {
+                findAddParameterTypeMappings(query, step)
+            } finally {
+                step.log()
+            }
         }
     }
 
@@ -475,11 +519,13 @@ class MappingFinder(val options: ApiOptions) {
     }
 
     fun findDropParameterTypeMappings(query: MappingQuery): List<DropParameterTypeMapping> {
-        val step = rootStep("looking for drop parameter type mapping of", query)
-        try {
-            return findDropParameterTypeMappings(query, step)
-        } finally {
-            step.log()
+        return cache.get("findDropParameterTypeMappings", MappingFinderQuery.of(query)) {
+            val step = rootStep("looking for drop parameter type mapping of", query)
+            try {
+                findDropParameterTypeMappings(query, step)
+            } finally {
+                step.log()
+            }
         }
     }
 
@@ -493,11 +539,13 @@ class MappingFinder(val options: ApiOptions) {
     }
 
     fun findContentTypeMapping(query: MappingQuery): ContentTypeMapping? {
-        val step = rootStep("looking for content type type mapping of", query)
-        try {
-            return findContentTypeMapping(query, step)
-        } finally {
-            step.log()
+        return cache.get("findContentTypeMapping", MappingFinderQuery.of(query)) {
+            val step = rootStep("looking for content type type mapping of", query)
+            try {
+                findContentTypeMapping(query, step)
+            } finally {
+                step.log()
+            }
         }
     }
 
@@ -516,11 +564,13 @@ class MappingFinder(val options: ApiOptions) {
     }
 
     fun findNullTypeMapping(query: MappingQuery): NullTypeMapping? {
-        val step = rootStep("looking for null type mapping of", query)
-        try {
-            return findNullTypeMapping(query, step)
-        } finally {
-            step.log()
+        return cache.get("findNullTypeMapping", MappingFinderQuery.of(query)) {
+            val step = rootStep("looking for null type mapping of", query)
+            try {
+                findNullTypeMapping(query, step)
+            } finally {
+                step.log()
+            }
         }
     }
 
@@ -533,11 +583,13 @@ class MappingFinder(val options: ApiOptions) {
     }
 
     fun findExtensionAnnotations(extension: String, values: List<String>): List<AnnotationNameMapping> {
-        val step = rootStep("looking for annotation extension type mapping", extension)
-        try {
-            return findExtensionAnnotations(extension, values, step)
-        } finally {
-            step.log()
+        return cache.get("findExtensionAnnotations", Pair(extension, values.toList())) {
+            val step = rootStep("looking for annotation extension type mapping", extension)
+            try {
+                findExtensionAnnotations(extension, values, step)
+            } finally {
+                step.log()
+            }
         }
     }
 
@@ -548,11 +600,13 @@ class MappingFinder(val options: ApiOptions) {
     }
 
     fun isEndpointExcluded(query: MappingQuery): Boolean {
-        val step = rootStep("looking for exclude mapping of", query)
-        try {
-            return isEndpointExcluded(query, step)
-        } finally {
-            step.log()
+        return cache.get("isEndpointExcluded", MappingFinderQuery.of(query)) {
+            val step = rootStep("looking for exclude mapping of", query)
+            try {
+                isEndpointExcluded(query, step)
+            } finally {
+                step.log()
+            }
         }
     }
 
@@ -561,10 +615,18 @@ class MappingFinder(val options: ApiOptions) {
     }
 
     private fun rootStep(message: String, query: MappingQuery): MappingStep {
+        if (!MappingStepBase.isEnabled()) {
+            return NullStep
+        }
+
         return RootStep(message, query)
     }
 
     private fun rootStep(message: String, extension: String): MappingStep {
+        if (!MappingStepBase.isEnabled()) {
+            return NullStep
+        }
+
         return RootStepX(message, extension)
     }
 }
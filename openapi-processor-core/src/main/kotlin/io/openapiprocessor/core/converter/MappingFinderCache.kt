@@ -0,0 +1,69 @@
+/*
+ * Copyright 2026 https://github.com/openapi-processor/openapi-processor-base
+ * PDX-License-Identifier: Apache-2.0
+ */
+
+package io.openapiprocessor.core.converter
+
+import io.openapiprocessor.core.converter.mapping.steps.MappingStepBase
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * bounded (lru) cache of [MappingFinder] lookup results.
+ *
+ * The cache is bypassed if mapping logging is enabled, so that each lookup logs its mapping trace.
+ */
+class MappingFinderCache(private val maxSize: Int = 10_000) {
+
+    class Stats(val hits: Long, val misses: Long) {
+        override fun toString(): String {
+            return "hits: $hits, misses: $misses"
+        }
+    }
+
+    private data class Key(val lookup: String, val query: Any)
+
+    private object NullResult
+
+    private val lock = Any()
+    private val hits = AtomicLong()
+    private val misses = AtomicLong()
+
+    private val results = object: LinkedHashMap<Key, Any>(256, 0.75f, true) {
+        override fun removeEldestEntry(eldest: MutableMap.MutableEntry<Key, Any>?): Boolean {
+            return size > maxSize
+        }
+    }
+
+    val stats: Stats
+        get() = Stats(hits.get(), misses.get())
+
+    /**
+     * get the cached result of a lookup or run the lookup and cache its result.
+     *
+     * @param lookup name of the lookup
+     * @param query the value-equal lookup query
+     * @param find runs the lookup
+     * @return the lookup result
+     */
+    fun <T> get(lookup: String, query: Any, find: () -> T): T {
+        if (MappingStepBase.isEnabled()) {
+            return find()
+        }
+
+        val key = Key(lookup, query)
+        val cached = synchronized(lock) { results[key] }
+        if (cached != null) {
+            hits.incrementAndGet()
+            @Suppress("UNCHECKED_CAST")
+            return (if (cached === NullResult) null else cached) as T
+        }
+
+        misses.incrementAndGet()
+        val result = find()
+        synchronized(lock) {
+            results[key] = result ?: NullResult
+        }
+        return result
+    }
+}
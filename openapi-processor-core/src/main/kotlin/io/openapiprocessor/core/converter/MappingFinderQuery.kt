@@ -11,6 +11,7 @@ import io.openapiprocessor.core.converter.mapping.splitTypeName
 import io.openapiprocessor.core.model.Endpoint
 import io.openapiprocessor.core.model.parameters.Parameter
 import io.openapiprocessor.core.openapi.HttpMethod
+import java.util.Objects
 
 class MappingFinderQuery(
     override val path: String? = null,
@@ -35,6 +36,27 @@ class MappingFinderQuery(
 ): MappingQuery {
 
     companion object {
+        /**
+         * value copy of the given query, i.e., a query that can be used as map key.
+         */
+        fun of(query: MappingQuery): MappingFinderQuery {
+            if (query is MappingFinderQuery) {
+                return query
+            }
+
+            return MappingFinderQuery(
+                query.path,
+                query.method,
+                query.name,
+                query.type,
+                query.format,
+                query.contentType,
+                query.primitive,
+                query.array,
+                query.allowObject
+            )
+        }
+
         // callable like constructor
         operator fun invoke(endpoint: Endpoint): MappingQuery {
             return MappingFinderQuery(
@@ -71,6 +93,25 @@ class MappingFinderQuery(
         }
     }
 
+    override fun equals(other: Any?): Boolean {
+        if (this === other) return true
+        if (other !is MappingFinderQuery) return false
+
+        return path == other.path
+            && method == other.method
+            && name == other.name
+            && type == other.type
+            && format == other.format
+            && contentType == other.contentType
+            && primitive == other.primitive
+            && array == other.array
+            && allowObject == other.allowObject
+    }
+
+    override fun hashCode(): Int {
+        return Objects.hash(path, method, name, type, format, contentType, primitive, array, allowObject)
+    }
+
     override fun toString(): String {
         val parts = mutableListOf<String>()
 
@@ -17,6 +17,18 @@ import org.slf4j.LoggerFactory
 
 /**
  * creates [ApiOptions] from processor options and mapping.yaml.
+ *
+ * The options that configure the generated code are read from the mapping.yaml. The processor options provide the
+ * inputs and the options that depend on the environment the processor runs in:
+ *
+ * - `apiPath`, `mapping` & `targetDir`: the inputs and the output of the processor.
+ * - `parallelThreads`: number of threads of the parallel steps (see mapping `options: parallel`). Defaults to the
+ *   number of available processors.
+ * - `formatCodeCacheDir`: directory of the formatter cache. Without it, the formatter does not cache.
+ * - `sharedModelPackage`, `sharedModels`, `sharedModelsWrite` & `sharedModelTargetDir`: models shared by multiple
+ *   processor runs.
+ * - `watch`: set by the watch mode. It enables mapping `options: target-dir: write-changed` unless the mapping
+ *   disables it.
  */
 class OptionsConverter(
     private val mappingReader: MappingReader = MappingReader(),
@@ -40,11 +52,75 @@ class OptionsConverter(
             log.warn("required option 'targetDir' is missing!")
         }
 
+        readWatch(processorOptions, options)
+
         if (processorOptions.containsKey("mapping")) {
             readMapping(processorOptions["mapping"].toString(), options)
         } else {
             log.warn("required option 'mapping' is missing!")
         }
+
+        readParallel(processorOptions, options)
+        readFormatCodeCache(processorOptions, options)
+        readSharedModels(processorOptions, options)
+    }
+
+    private fun readWatch(processorOptions: Map<String, Any>, options: ApiOptions) {
+        // default of the mapping option, the watch mode writes only the changed files
+        if (processorOptions.containsKey("watch")) {
+            options.targetDirOptions.writeChanged = processorOptions["watch"].toString().toBoolean()
+        }
+    }
+
+    private fun readParallel(processorOptions: Map<String, Any>, options: ApiOptions) {
+        if (processorOptions.containsKey("parallelThreads")) {
+            val threads = processorOptions["parallelThreads"].toString().toIntOrNull()
+            if (threads == null || threads < 1) {
+                log.warn("ignoring invalid 'parallelThreads' option: '{}'", processorOptions["parallelThreads"])
+            } else {
+                options.parallelOptions.threads = threads
+            }
+        }
+    }
+
+    private fun readFormatCodeCache(processorOptions: Map<String, Any>, options: ApiOptions) {
+        if (processorOptions.containsKey("formatCodeCacheDir")) {
+            options.formatCodeCacheDir = processorOptions["formatCodeCacheDir"].toString()
+        }
+    }
+
+    private fun readSharedModels(processorOptions: Map<String, Any>, options: ApiOptions) {
+        if (processorOptions.containsKey("sharedModelPackage")) {
+            options.sharedModelOptions.packageName = processorOptions["sharedModelPackage"].toString()
+        }
+
+        if (processorOptions.containsKey("sharedModels")) {
+            options.sharedModelOptions.models = readList(processorOptions["sharedModels"])
+        }
+
+        if (processorOptions.containsKey("sharedModelsWrite")) {
+            options.sharedModelOptions.write = readList(processorOptions["sharedModelsWrite"])
+        }
+
+        if (processorOptions.containsKey("sharedModelTargetDir")) {
+            options.sharedModelOptions.targetDir = processorOptions["sharedModelTargetDir"].toString()
+        }
+    }
+
+    /**
+     * reads a collection or a comma separated string.
+     */
+    private fun readList(value: Any?): Set<String> {
+        val items = when (value) {
+            null -> emptyList()
+            is Collection<*> -> value.filterNotNull().map { it.toString() }
+            else -> value.toString().split(',')
+        }
+
+        return items
+            .map { it.trim() }
+            .filter { it.isNotEmpty() }
+            .toSet()
     }
 
     private fun readMapping(mappingSource: String, options: ApiOptions) {
@@ -58,8 +134,19 @@ class OptionsConverter(
             with(mapping.options) {
                 options.targetDirOptions.clear = targetDir.clear ?: clearTargetDir
                 options.targetDirOptions.layout = TargetDirLayout.from(targetDir.layout)
+                options.targetDirOptions.writeChanged = targetDir.writeChanged ?: options.targetDirOptions.writeChanged
+                // the up-to-date check needs the manifest of the generated files
+                options.targetDirOptions.prune = targetDir.prune || incremental
             }
 
+            with(mapping.options.parallel) {
+                options.parallelOptions.converter = converter
+                options.parallelOptions.schemas = schemas
+                options.parallelOptions.writer = writer
+            }
+            options.streamInterfaces = mapping.options.streamInterfaces
+            options.incremental = mapping.options.incremental
+
             options.packageName = mapping.options.packageName
             with(mapping.options.packageNames) {
                 options.packageOptions.base = base
@@ -101,6 +188,11 @@ class OptionsConverter(
             val (enableFormatCode, formatCodeFormatter) = checkFormatter(mapping.options)
             options.formatCode = enableFormatCode
             options.formatCodeFormatter = formatCodeFormatter
+            if (mapping.options.formatCodeCacheSize < 1) {
+                log.warn("ignoring invalid 'format-code-cache-size' option: '{}'", mapping.options.formatCodeCacheSize)
+            } else {
+                options.formatCodeCacheSize = mapping.options.formatCodeCacheSize * 1024 * 1024
+            }
 
             options.generatedAnnotation = mapping.options.generatedAnnotation
             options.generatedDate = mapping.options.generatedDate
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2026 https://github.com/openapi-processor/openapi-processor-base
+ * PDX-License-Identifier: Apache-2.0
+ */
+
+package io.openapiprocessor.core.converter
+
+import io.openapiprocessor.core.openapi.Schema
+import io.openapiprocessor.core.openapi.getRefName
+
+/**
+ * dependency graph of the component schemas (`#/components/schemas`). A schema depends on the component schemas
+ * it references ($ref) directly or from a nested inline schema.
+ *
+ * The strongly connected components of the graph are the groups of schemas that reference each other (i.e. $ref
+ * loops). Converting the components in dependency order, only the schemas of a cyclic component need lazy
+ * data types.
+ */
+class SchemaGraph(private val schemas: Map<String, Schema>) {
+
+    /**
+     * a strongly connected component, i.e. a single schema or a group of schemas that reference each other.
+     *
+     * @param names schema names
+     * @param cyclic true, if the schemas reference each other (or a single schema references itself)
+     */
+    class Component(val names: List<String>, val cyclic: Boolean)
+
+    private val dependencies: Map<String, Set<String>> = schemas.mapValues { (_, schema) ->
+        val refs = linkedSetOf<String>()
+        collectRefs(schema, refs)
+        refs
+    }
+
+    /**
+     * the strongly connected components in reverse topological order, i.e. a component comes after all components
+     * it depends on.
+     */
+    val components: List<Component> by lazy {
+        createComponents()
+    }
+
+    /**
+     * the components grouped by their dependency level. The components of a level only depend on components of
+     * the previous levels, i.e., the components of a level are independent of each other.
+     */
+    val levels: List<List<Component>> by lazy {
+        createLevels()
+    }
+
+    /**
+     * the component schemas directly referenced by the given schema.
+     */
+    fun getDependencies(name: String): Set<String> {
+        return dependencies[name] ?: emptySet()
+    }
+
+    private fun collectRefs(schema: Schema, refs: MutableSet<String>) {
+        val ref = schema.getRef()
+        if (ref != null) {
+            val name = getRefName(ref)
+            if (name != null && schemas.containsKey(name)) {
+                refs.add(name)
+            }
+            return
+        }
+
+        schema.getProperties().values.forEach {
+            collectRefs(it, refs)
+        }
+
+        schema.getItems().forEach {
+            collectRefs(it, refs)
+        }
+
+        if (schema.getType() == "array") {
+            collectRefs(schema.getItem(), refs)
+        }
+
+        val additional = schema.getAdditionalProperties()
+        if (additional != null) {
+            collectRefs(additional, refs)
+        }
+    }
+
+    /**
+     * Tarjan's algorithm, iterative to handle long $ref chains. It creates the components in reverse topological
+     * order.
+     */
+    private fun createComponents(): List<Component> {
+        val components = mutableListOf<Component>()
+
+        var counter = 0
+        val index = HashMap<String, Int>()
+        val low = HashMap<String, Int>()
+        val stack = ArrayDeque<String>()
+        val onStack = HashSet<String>()
+        val work = ArrayDeque<Pair<String, Iterator<String>>>()
+
+        fun visit(name: String) {
+            index[name] = counter
+            low[name] = counter
+            counter++
+            stack.addLast(name)
+            onStack.add(name)
+            work.addLast(Pair(name, getDependencies(name).iterator()))
+        }
+
+        schemas.keys.forEach { root ->
+            if (index.containsKey(root)) {
+                return@forEach
+            }
+
+            visit(root)
+            while (work.isNotEmpty()) {
+                val (name, deps) = work.last()
+
+                if (deps.hasNext()) {
+                    val dep = deps.next()
+                    if (!index.containsKey(dep)) {
+                        visit(dep)
+                    } else if (onStack.contains(dep)) {
+                        low[name] = minOf(low[name]!!, index[dep]!!)
+                    }
+                    continue
+                }
+
+                work.removeLast()
+                if (work.isNotEmpty()) {
+                    val parent = work.last().first
+                    low[parent] = minOf(low[parent]!!, low[name]!!)
+                }
+
+                if (low[name] == index[name]) {
+                    val names = mutableListOf<String>()
+                    do {
+                        val member = stack.removeLast()
+                        onStack.remove(member)
+                        names.add(member)
+                    } while (member != name)
+
+                    names.reverse()
+                    val cyclic = names.size > 1 || getDependencies(name).contains(name)
+                    components.add(Component(names, cyclic))
+                }
+            }
+        }
+
+        return components
+    }
+
+    private fun createLevels(): List<List<Component>> {
+        val componentLevels = HashMap<String, Int>()
+        val levels = mutableListOf<MutableList<Component>>()
+
+        components.forEach { component ->
+            var level = 0
+            component.names.forEach { name ->
+                getDependencies(name).forEach { dep ->
+                    val depLevel = componentLevels[dep]
+                    if (depLevel != null) {
+                        level = maxOf(level, depLevel + 1)
+                    }
+                }
+            }
+
+            component.names.forEach { componentLevels[it] = level }
+
+            while (levels.size <= level) {
+                levels.add(mutableListOf())
+            }
+            levels[level].add(component)
+        }
+
+        return levels
+    }
+}
@@ -80,6 +80,23 @@ open class SchemaInfo(
         return location == "response" && contentTypeInterface
     }
 
+    /**
+     * key of this (resolved $ref) schema in the [DataTypeConversionCache].
+     *
+     * @param withEndpoint true, if the endpoint should be part of the key, i.e. if endpoint mappings may apply
+     * @return cache key
+     */
+    fun getConversionKey(withEndpoint: Boolean): DataTypeConversionCache.Key {
+        return DataTypeConversionCache.Key(
+            schema,
+            name,
+            location,
+            contentType,
+            if (withEndpoint) endpoint.path else null,
+            if (withEndpoint) endpoint.method else null
+        )
+    }
+
     override fun getPath(): String {
         return endpoint.path
     }
@@ -7,6 +7,7 @@ package io.openapiprocessor.core.converter.mapping
 
 import io.openapiprocessor.core.converter.mapping.matcher.*
 import io.openapiprocessor.core.converter.mapping.steps.MappingStep
+import io.openapiprocessor.core.converter.mapping.steps.add
 import io.openapiprocessor.core.converter.mapping.steps.MethodsStep
 import io.openapiprocessor.core.openapi.HttpMethod
 import io.openapiprocessor.core.processor.mapping.BodyStyle
@@ -19,7 +20,7 @@ class EndpointMappings(
     fun getBodyStyle(query: MappingQuery, step: MappingStep): BodyStyle? {
         val httpMethodMappings = methodMappings[query.method]
         if (httpMethodMappings != null) {
-            val methodMapping = httpMethodMappings.getBodyStyle(step.add(MethodsStep(query)))
+            val methodMapping = httpMethodMappings.getBodyStyle(step.add { MethodsStep(query) })
             if (methodMapping != null) {
                 return methodMapping
             }
@@ -36,7 +37,7 @@ class EndpointMappings(
     fun getResultTypeMapping(query: MappingQuery, step: MappingStep): ResultTypeMapping? {
         val httpMethodMappings = methodMappings[query.method]
         if (httpMethodMappings != null) {
-            val methodMapping = httpMethodMappings.getResultTypeMapping(step.add(MethodsStep(query)))
+            val methodMapping = httpMethodMappings.getResultTypeMapping(step.add { MethodsStep(query) })
             if (methodMapping != null) {
                 return methodMapping
             }
@@ -53,7 +54,7 @@ class EndpointMappings(
     fun getResultStyle(query: MappingQuery, step: MappingStep): ResultStyle? {
         val httpMethodMappings = methodMappings[query.method]
         if (httpMethodMappings != null) {
-            val methodMapping = httpMethodMappings.getResultStyle(step.add(MethodsStep(query)))
+            val methodMapping = httpMethodMappings.getResultStyle(step.add { MethodsStep(query) })
             if (methodMapping != null) {
                 return methodMapping
             }
@@ -70,7 +71,7 @@ class EndpointMappings(
     fun getResultStatus(query: MappingQuery, step: MappingStep): Boolean? {
         val httpMethodMappings = methodMappings[query.method]
         if (httpMethodMappings != null) {
-            val methodMapping = httpMethodMappings.getResultStatus(step.add(MethodsStep(query)))
+            val methodMapping = httpMethodMappings.getResultStatus(step.add { MethodsStep(query) })
             if (methodMapping != null) {
                 return methodMapping
             }
@@ -87,7 +88,7 @@ class EndpointMappings(
     fun getSingleTypeMapping(query: MappingQuery, step: MappingStep): TypeMapping? {
         val httpMethodMappings = methodMappings[query.method]
         if (httpMethodMappings != null) {
-            val methodMapping = httpMethodMappings.getSingleTypeMapping(step.add(MethodsStep(query)))
+            val methodMapping = httpMethodMappings.getSingleTypeMapping(step.add { MethodsStep(query) })
             if (methodMapping != null) {
                 return methodMapping
             }
@@ -104,7 +105,7 @@ class EndpointMappings(
     fun getMultiTypeMapping(query: MappingQuery, step: MappingStep): TypeMapping? {
         val httpMethodMappings = methodMappings[query.method]
         if (httpMethodMappings != null) {
-            val methodMapping = httpMethodMappings.getMultiTypeMapping(step.add(MethodsStep(query)))
+            val methodMapping = httpMethodMappings.getMultiTypeMapping(step.add { MethodsStep(query) })
             if (methodMapping != null) {
                 return methodMapping
             }
@@ -121,7 +122,7 @@ class EndpointMappings(
     fun getNullTypeMapping(query: MappingQuery, step: MappingStep): NullTypeMapping? {
         val httpMethodMappings = methodMappings[query.method]
         if (httpMethodMappings != null) {
-            val methodMapping = httpMethodMappings.getNullTypeMapping(step.add(MethodsStep(query)))
+            val methodMapping = httpMethodMappings.getNullTypeMapping(step.add { MethodsStep(query) })
             if (methodMapping != null) {
                 return methodMapping
             }
@@ -140,7 +141,7 @@ class EndpointMappings(
         if (httpMethodMappings != null) {
             val methodMapping = httpMethodMappings.findTypeMapping(
                 TypeMatcher(query),
-                step.add(MethodsStep(query)))
+                step.add { MethodsStep(query) })
 
             if (methodMapping != null) {
                 return methodMapping
@@ -160,7 +161,7 @@ class EndpointMappings(
         if (httpMethodMappings != null) {
             val methodMappings = httpMethodMappings.findAnnotationTypeMapping(
                 AnnotationTypeMatcher(query),
-                step.add(MethodsStep(query)))
+                step.add { MethodsStep(query) })
 
             if (methodMappings.isNotEmpty()) {
                 return methodMappings
@@ -176,7 +177,7 @@ class EndpointMappings(
         if (httpMethodMappings != null) {
             val methodMapping = httpMethodMappings.findParameterTypeMapping(
                 TypeMatcher(query),
-                step.add(MethodsStep(query)))
+                step.add { MethodsStep(query) })
 
             if (methodMapping != null) {
                 return methodMapping
@@ -196,7 +197,7 @@ class EndpointMappings(
         if (httpMethodMappings != null) {
             val methodMappings = httpMethodMappings.findAnnotationParameterTypeMapping(
                 AnnotationTypeMatcher(query),
-                step.add(MethodsStep(query)))
+                step.add { MethodsStep(query) })
 
             if (methodMappings.isNotEmpty()) {
                 return methodMappings
@@ -212,7 +213,7 @@ class EndpointMappings(
         if (httpMethodMappings != null) {
             val methodMapping = httpMethodMappings.findParameterNameTypeMapping(
                 ParameterNameTypeMatcher(query),
-                step.add(MethodsStep(query)))
+                step.add { MethodsStep(query) })
 
             if (methodMapping != null) {
                 return methodMapping
@@ -232,7 +233,7 @@ class EndpointMappings(
         if (httpMethodMappings != null) {
             val methodMappings = httpMethodMappings.findAnnotationParameterNameTypeMapping(
                 AnnotationParameterNameTypeMatcher(query),
-                step.add(MethodsStep(query)))
+                step.add { MethodsStep(query) })
 
             if (methodMappings.isNotEmpty()) {
                 return methodMappings
@@ -248,7 +249,7 @@ class EndpointMappings(
         if (httpMethodMappings != null) {
             val methodMappings = httpMethodMappings.findAddParameterTypeMappings(
                 AddParameterTypeMatcher(),
-                step.add(MethodsStep(query)))
+                step.add { MethodsStep(query) })
 
             if (methodMappings.isNotEmpty()) {
                 return methodMappings
@@ -264,7 +265,7 @@ class EndpointMappings(
         if (httpMethodMappings != null) {
             val methodMappings = httpMethodMappings.findDropParameterTypeMappings(
                 DropParameterTypeMatcher(),
-                step.add(MethodsStep(query)))
+                step.add { MethodsStep(query) })
 
             if (methodMappings.isNotEmpty()) {
                 return methodMappings
@@ -280,7 +281,7 @@ class EndpointMappings(
         if (httpMethodMappings != null) {
             val methodMapping = httpMethodMappings.findContentTypeMapping(
                 ContentTypeMatcher(query),
-                step.add(MethodsStep(query)))
+                step.add { MethodsStep(query) })
 
             if (methodMapping != null) {
                 return methodMapping
@@ -300,7 +301,7 @@ class EndpointMappings(
         if (httpMethodMappings != null) {
             val methodMappings = httpMethodMappings.findInterfaceTypeMappings(
                 InterfaceTypeMatcher(query),
-                step.add(MethodsStep(query)))
+                step.add { MethodsStep(query) })
 
             if (methodMappings.isNotEmpty()) {
                 return methodMappings
@@ -320,7 +321,7 @@ class EndpointMappings(
         if (httpMethodMappings != null) {
             val methodMapping = httpMethodMappings.findInterfaceParameterTypeMappings(
                 InterfaceTypeMatcher(query),
-                step.add(MethodsStep(query)))
+                step.add { MethodsStep(query) })
 
             if (methodMapping.isNotEmpty()) {
                 return methodMapping
@@ -338,7 +339,7 @@ class EndpointMappings(
     fun isExcluded(query: MappingQuery, step: MappingStep): Boolean {
         val httpMethodMappings = methodMappings[query.method]
         if (httpMethodMappings != null) {
-            val methodExcluded = httpMethodMappings.isExcluded(step.add(MethodsStep(query)))
+            val methodExcluded = httpMethodMappings.isExcluded(step.add { MethodsStep(query) })
             if (methodExcluded) {
                 return true
             }
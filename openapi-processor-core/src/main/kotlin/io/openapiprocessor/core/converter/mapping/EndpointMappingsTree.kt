@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026 https://github.com/openapi-processor/openapi-processor-base
+ * PDX-License-Identifier: Apache-2.0
+ */
+
+package io.openapiprocessor.core.converter.mapping
+
+/**
+ * lookup of the endpoint mappings by path.
+ *
+ * A mapping path matches only the same endpoint path, i.e. `/foo/{id}` matches `/foo/{id}` and not `/foo/bar` or
+ * `/foo/{fooId}`. Pattern matching is opt-in: a mapping path with wildcard segments is a pattern:
+ *
+ * - `*` matches any single segment
+ * - `**` as last segment matches any number (including zero) of segments, e.g. `/admin/**`
+ *
+ * An exact path match wins. Otherwise, the pattern that matches all segments with the most literal segments (from
+ * left to right) wins, then the longest `**` pattern.
+ *
+ * The lookup walks the segments once. It keeps the pattern nodes that match the segments so far, so it does not
+ * backtrack.
+ */
+class EndpointMappingsTree(private val mappings: Map<String /* path */, EndpointMappings>) {
+
+    private class Node {
+        val literals: MutableMap<String, Node> = HashMap()
+        var any: Node? = null
+        var mappings: EndpointMappings? = null
+        var anyDeep: EndpointMappings? = null
+    }
+
+    private val root = Node()
+    private var hasPatterns = false
+
+    init {
+        mappings
+            .filterKeys { isPattern(it) }
+            .forEach { (path, endpoint) -> add(path, endpoint) }
+    }
+
+    /**
+     * find the endpoint mappings of the given path.
+     *
+     * @param path the endpoint path
+     * @return the endpoint mappings or null
+     */
+    fun find(path: String?): EndpointMappings? {
+        if (path == null) {
+            return null
+        }
+
+        val exact = mappings[path]
+        if (exact != null || !hasPatterns) {
+            return exact
+        }
+
+        return findPattern(segments(path))
+    }
+
+    private fun findPattern(segments: List<String>): EndpointMappings? {
+        // ordered by priority: the literal child of a node comes before its wildcard child
+        var nodes = listOf(root)
+        var deep: EndpointMappings? = null
+
+        for (segment in segments) {
+            deep = nodes.firstNotNullOfOrNull { it.anyDeep } ?: deep
+
+            val next = mutableListOf<Node>()
+            nodes.forEach { node ->
+                node.literals[segment]?.let { next.add(it) }
+                node.any?.let { next.add(it) }
+            }
+
+            if (next.isEmpty()) {
+                return deep
+            }
+            nodes = next
+        }
+
+        return nodes.firstNotNullOfOrNull { it.mappings }
+            ?: nodes.firstNotNullOfOrNull { it.anyDeep }
+            ?: deep
+    }
+
+    private fun add(path: String, mappings: EndpointMappings) {
+        val segments = segments(path)
+        var node = root
+
+        segments.forEachIndexed { index, segment ->
+            if (segment == "**" && index == segments.lastIndex) {
+                if (node.anyDeep == null) {
+                    node.anyDeep = mappings
+                }
+                hasPatterns = true
+                return
+            }
+
+            node = if (segment == "*") {
+                node.any ?: Node().also { node.any = it }
+            } else {
+                node.literals.getOrPut(segment) { Node() }
+            }
+        }
+
+        if (node.mappings == null) {
+            node.mappings = mappings
+        }
+        hasPatterns = true
+    }
+
+    private fun isPattern(path: String): Boolean {
+        return segments(path).any { it == "*" || it == "**" }
+    }
+
+    private fun segments(path: String): List<String> {
+        return path.split("/").filter { it.isNotEmpty() }
+    }
+}
@@ -6,6 +6,7 @@
 package io.openapiprocessor.core.converter.mapping
 
 import io.openapiprocessor.core.converter.mapping.steps.MappingStep
+import io.openapiprocessor.core.converter.mapping.steps.add
 import io.openapiprocessor.core.converter.mapping.steps.StringStep
 
 class ExtensionMappings(val extensions: Map<String /* extension value */, List<AnnotationNameMapping>>) {
@@ -13,7 +14,7 @@ class ExtensionMappings(val extensions: Map<String /* extension value */, List<A
     fun get(extensionValue: String, step: MappingStep): List<AnnotationNameMapping> {
         val values = extensions[extensionValue] ?: return emptyList()
         values.forEach { value ->
-            step.add(StringStep("${value.name} @ ${value.annotation}", true))
+            step.add { StringStep("${value.name} @ ${value.annotation}", true) }
         }
         return values
     }
@@ -0,0 +1,21 @@
+/*
+ * Copyright 2026 https://github.com/openapi-processor/openapi-processor-base
+ * PDX-License-Identifier: Apache-2.0
+ */
+
+package io.openapiprocessor.core.converter.mapping
+
+/**
+ * matcher that can pre-select the mappings it may match from a [MappingIndex]. Only the candidates are
+ * passed to [match].
+ */
+interface IndexedMappingMatcher: MappingMatcher {
+
+    /**
+     * select the mappings that may match.
+     *
+     * @param index index of the mapping bucket
+     * @return candidate mappings in original order
+     */
+    fun candidates(index: MappingIndex): List<Mapping>
+}
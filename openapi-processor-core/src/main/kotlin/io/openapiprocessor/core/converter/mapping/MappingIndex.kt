@@ -0,0 +1,97 @@
+/*
+ * Copyright 2026 https://github.com/openapi-processor/openapi-processor-base
+ * PDX-License-Identifier: Apache-2.0
+ */
+
+package io.openapiprocessor.core.converter.mapping
+
+/**
+ * index of the mappings of a [MappingBucket]. Groups the type mappings by source type name & format and the
+ * parameter name mappings by parameter name. Created once with the bucket.
+ *
+ * The lookup functions return the mappings in the same order as the original mapping list.
+ */
+class MappingIndex(private val mappings: List<Mapping>) {
+    private val types: Map<Pair<String?, String?>, List<Int>>
+    private val typeNames: Map<String?, List<Int>>
+    private val parameterNames: Map<String, List<Int>>
+
+    init {
+        val types = mutableMapOf<Pair<String?, String?>, MutableList<Int>>()
+        val typeNames = mutableMapOf<String?, MutableList<Int>>()
+        val parameterNames = mutableMapOf<String, MutableList<Int>>()
+
+        mappings.forEachIndexed { idx, mapping ->
+            when (mapping) {
+                is TypeMapping -> {
+                    types.getOrPut(Pair(mapping.sourceTypeName, mapping.sourceTypeFormat)) { mutableListOf() }.add(idx)
+                    typeNames.getOrPut(mapping.sourceTypeName) { mutableListOf() }.add(idx)
+                }
+                is NameTypeMapping -> {
+                    parameterNames.getOrPut(mapping.parameterName) { mutableListOf() }.add(idx)
+                }
+            }
+        }
+
+        this.types = types
+        this.typeNames = typeNames
+        this.parameterNames = parameterNames
+    }
+
+    /**
+     * find the type mappings with the given source type name & format.
+     *
+     * @param name source type name
+     * @param format source type format
+     * @return matching positions in the mapping list
+     */
+    fun findTypes(name: String?, format: String?): List<Int> {
+        return types[Pair(name, format)] ?: emptyList()
+    }
+
+    /**
+     * find the type mappings with the given source type name, ignoring the format.
+     *
+     * @param name source type name
+     * @return matching positions in the mapping list
+     */
+    fun findTypes(name: String?): List<Int> {
+        return typeNames[name] ?: emptyList()
+    }
+
+    /**
+     * find the parameter name mappings with the given parameter name.
+     *
+     * @param name parameter name
+     * @return matching positions in the mapping list
+     */
+    fun findParameterNames(name: String?): List<Int> {
+        if (name == null) {
+            return emptyList()
+        }
+
+        return parameterNames[name] ?: emptyList()
+    }
+
+    /**
+     * get the mappings at the given positions in original order, without duplicates.
+     *
+     * @param positions positions returned by the find functions
+     * @return the mappings
+     */
+    fun get(vararg positions: List<Int>): List<Mapping> {
+        val nonEmpty = positions.filter { it.isNotEmpty() }
+        if (nonEmpty.isEmpty()) {
+            return emptyList()
+        }
+
+        if (nonEmpty.size == 1) {
+            return nonEmpty.first().map { mappings[it] }
+        }
+
+        return nonEmpty
+            .flatten()
+            .toSortedSet()
+            .map { mappings[it] }
+    }
+}
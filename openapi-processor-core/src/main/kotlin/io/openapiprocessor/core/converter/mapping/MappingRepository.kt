@@ -19,165 +19,167 @@ class MappingRepository(
 ) {
     val log: Logger = LoggerFactory.getLogger(this.javaClass.name)
 
+    private val endpoints = EndpointMappingsTree(endpointMappings)
+
     fun getGlobalBodyStyleMapping(step: MappingStep): BodyStyle? {
-        return globalMappings.getBodyStyle(step.add(GlobalsStep()))
+        return globalMappings.getBodyStyle(step.add { GlobalsStep() })
     }
 
     fun getGlobalResultTypeMapping(step: MappingStep): ResultTypeMapping? {
-        return globalMappings.getResultTypeMapping(step.add(GlobalsStep()))
+        return globalMappings.getResultTypeMapping(step.add { GlobalsStep() })
     }
 
     fun getGlobalResultStyleMapping(step: MappingStep): ResultStyle? {
-        return globalMappings.getResultStyle(step.add(GlobalsStep()))
+        return globalMappings.getResultStyle(step.add { GlobalsStep() })
     }
 
     fun getGlobalResultStatusOption(step: MappingStep): Boolean? {
-        return globalMappings.getResultStatus(step.add(GlobalsStep()))
+        return globalMappings.getResultStatus(step.add { GlobalsStep() })
     }
 
     fun getGlobalSingleTypeMapping(step: MappingStep): TypeMapping? {
-        return globalMappings.getSingleTypeMapping(step.add(GlobalsStep()))
+        return globalMappings.getSingleTypeMapping(step.add { GlobalsStep() })
     }
 
     fun getGlobalMultiTypeMapping(step: MappingStep): TypeMapping? {
-        return globalMappings.getMultiTypeMapping(step.add(GlobalsStep()))
+        return globalMappings.getMultiTypeMapping(step.add { GlobalsStep() })
     }
 
     fun findGlobalTypeMapping(query: MappingQuery, step: MappingStep): TypeMapping? {
-        return globalMappings.findTypeMapping(TypeMatcher(query), step.add(GlobalsStep()))
+        return globalMappings.findTypeMapping(TypeMatcher(query), step.add { GlobalsStep() })
     }
 
     fun findGlobalInterfaceTypeMappings(query: MappingQuery, step: MappingStep): List<InterfaceTypeMapping> {
-        return globalMappings.findInterfaceTypeMappings(InterfaceTypeMatcher(query), step.add(GlobalsStep()))
+        return globalMappings.findInterfaceTypeMappings(InterfaceTypeMatcher(query), step.add { GlobalsStep() })
     }
 
     fun findGlobalAnnotationTypeMapping(query: MappingQuery, step: MappingStep): List<AnnotationTypeMapping> {
-        return globalMappings.findAnnotationTypeMapping(AnnotationTypeMatcher(query), step.add(GlobalsStep()))
+        return globalMappings.findAnnotationTypeMapping(AnnotationTypeMatcher(query), step.add { GlobalsStep() })
     }
 
     fun findGlobalAnnotationSchemaTypeMapping(query: MappingQuery, step: MappingStep): List<AnnotationTypeMapping> {
-        return globalMappings.findAnnotationSchemaTypeMapping(AnnotationTypeMatcher(query), step.add(GlobalsStep()))
+        return globalMappings.findAnnotationSchemaTypeMapping(AnnotationTypeMatcher(query), step.add { GlobalsStep() })
     }
 
     fun findGlobalParameterTypeMapping(query: MappingQuery, step: MappingStep): TypeMapping? {
-        return globalMappings.findParameterTypeMapping(TypeMatcher(query), step.add(GlobalsStep()))
+        return globalMappings.findParameterTypeMapping(TypeMatcher(query), step.add { GlobalsStep() })
     }
 
     fun findGlobalInterfaceParameterTypeMappings(query: MappingQuery, step: MappingStep): List<InterfaceTypeMapping> {
-        return globalMappings.findInterfaceParameterTypeMappings(InterfaceTypeMatcher(query), step.add(GlobalsStep()))
+        return globalMappings.findInterfaceParameterTypeMappings(InterfaceTypeMatcher(query), step.add { GlobalsStep() })
     }
 
     fun findGlobalAnnotationParameterTypeMappings(query: MappingQuery, step: MappingStep): List<AnnotationTypeMapping> {
-        return globalMappings.findAnnotationParameterTypeMapping(AnnotationTypeMatcher(query), step.add(GlobalsStep()))
+        return globalMappings.findAnnotationParameterTypeMapping(AnnotationTypeMatcher(query), step.add { GlobalsStep() })
     }
 
     fun findGlobalParameterNameTypeMapping(query: MappingQuery, step: MappingStep): NameTypeMapping? {
-        return globalMappings.findParameterNameTypeMapping(ParameterNameTypeMatcher(query), step.add(GlobalsStep()))
+        return globalMappings.findParameterNameTypeMapping(ParameterNameTypeMatcher(query), step.add { GlobalsStep() })
     }
 
     fun findGlobalAnnotationParameterNameTypeMapping(query: MappingQuery, step: MappingStep): List<AnnotationNameMapping> {
         return globalMappings.findAnnotationParameterNameTypeMapping(AnnotationParameterNameTypeMatcher(query),
-            step.add(GlobalsStep()))
+            step.add { GlobalsStep() })
     }
 
     fun findGlobalAddParameterTypeMappings(step: MappingStep): List<AddParameterTypeMapping>  {
-        return globalMappings.findAddParameterTypeMappings(AddParameterTypeMatcher(), step.add(GlobalsStep()))
+        return globalMappings.findAddParameterTypeMappings(AddParameterTypeMatcher(), step.add { GlobalsStep() })
     }
 
     fun findGlobalDropParameterTypeMappings(step: MappingStep): List<DropParameterTypeMapping>  {
-        return globalMappings.findDropParameterTypeMappings(DropParameterTypeMatcher(), step.add(GlobalsStep()))
+        return globalMappings.findDropParameterTypeMappings(DropParameterTypeMatcher(), step.add { GlobalsStep() })
     }
 
     fun findGlobalContentTypeMapping(query: MappingQuery, step: MappingStep): ContentTypeMapping? {
-        return globalMappings.findContentTypeMapping(ContentTypeMatcher(query), step.add(GlobalsStep()))
+        return globalMappings.findContentTypeMapping(ContentTypeMatcher(query), step.add { GlobalsStep() })
     }
 
     fun getEndpointBodyStyleMapping(query: MappingQuery, step: MappingStep): BodyStyle? {
-        return endpointMappings[query.path]?.getBodyStyle(query, step.add(EndpointsStep(query)))
+        return endpoints.find(query.path)?.getBodyStyle(query, step.add { EndpointsStep(query) })
     }
 
     fun getEndpointResultTypeMapping(query: MappingQuery, step: MappingStep): ResultTypeMapping? {
-        return endpointMappings[query.path]?.getResultTypeMapping(query, step.add(EndpointsStep(query)))
+        return endpoints.find(query.path)?.getResultTypeMapping(query, step.add { EndpointsStep(query) })
     }
 
     fun getEndpointResultStyleMapping(query: MappingQuery, step: MappingStep): ResultStyle? {
-        return endpointMappings[query.path]?.getResultStyle(query, step.add(EndpointsStep(query)))
+        return endpoints.find(query.path)?.getResultStyle(query, step.add { EndpointsStep(query) })
     }
 
     fun getEndpointResultStatusOption(query: MappingQuery, step: MappingStep): Boolean? {
-        return endpointMappings[query.path]?.getResultStatus(query, step.add(EndpointsStep(query)))
+        return endpoints.find(query.path)?.getResultStatus(query, step.add { EndpointsStep(query) })
     }
 
     fun getEndpointSingleTypeMapping(query: MappingQuery, step: MappingStep): TypeMapping? {
-        return endpointMappings[query.path]?.getSingleTypeMapping(query, step.add(EndpointsStep(query)))
+        return endpoints.find(query.path)?.getSingleTypeMapping(query, step.add { EndpointsStep(query) })
     }
 
     fun getEndpointMultiTypeMapping(query: MappingQuery, step: MappingStep): TypeMapping? {
-        return endpointMappings[query.path]?.getMultiTypeMapping(query, step.add(EndpointsStep(query)))
+        return endpoints.find(query.path)?.getMultiTypeMapping(query, step.add { EndpointsStep(query) })
     }
 
     fun getEndpointNullTypeMapping(query: MappingQuery, step: MappingStep): NullTypeMapping? {
-        return endpointMappings[query.path]?.getNullTypeMapping(query, step.add(EndpointsStep(query)))
+        return endpoints.find(query.path)?.getNullTypeMapping(query, step.add { EndpointsStep(query) })
     }
 
     fun findEndpointTypeMapping(query: MappingQuery, step: MappingStep): TypeMapping? {
-        return endpointMappings[query.path]?.findTypeMapping(query, step.add(EndpointsStep(query)))
+        return endpoints.find(query.path)?.findTypeMapping(query, step.add { EndpointsStep(query) })
     }
 
     fun findEndpointInterfaceTypeMappings(query: MappingQuery, step: MappingStep): List<InterfaceTypeMapping> {
-        val mappings = endpointMappings[query.path] ?: return emptyList()
-        return mappings.findInterfaceTypeMappings(query, step.add(EndpointsStep(query)))
+        val mappings = endpoints.find(query.path) ?: return emptyList()
+        return mappings.findInterfaceTypeMappings(query, step.add { EndpointsStep(query) })
     }
 
     fun findEndpointInterfaceParameterTypeMappings(query: MappingQuery, step: MappingStep): List<InterfaceTypeMapping> {
-        val mappings = endpointMappings[query.path] ?: return emptyList()
-        return mappings.findInterfaceParameterTypeMapping(query, step.add(EndpointsStep(query)))
+        val mappings = endpoints.find(query.path) ?: return emptyList()
+        return mappings.findInterfaceParameterTypeMapping(query, step.add { EndpointsStep(query) })
     }
 
     fun findEndpointAnnotationTypeMapping(query: MappingQuery, step: MappingStep): List<AnnotationTypeMapping> {
-        val pathMappings = endpointMappings[query.path] ?: return emptyList()
-        return pathMappings.findAnnotationTypeMappings(query, step.add(EndpointsStep(query)))
+        val pathMappings = endpoints.find(query.path) ?: return emptyList()
+        return pathMappings.findAnnotationTypeMappings(query, step.add { EndpointsStep(query) })
     }
 
     fun findEndpointParameterTypeMapping(query: MappingQuery, step: MappingStep): TypeMapping? {
-        return endpointMappings[query.path]?.findParameterTypeMapping(query, step.add(EndpointsStep(query)))
+        return endpoints.find(query.path)?.findParameterTypeMapping(query, step.add { EndpointsStep(query) })
     }
 
     fun findEndpointAnnotationParameterTypeMappings(query: MappingQuery, step: MappingStep): List<AnnotationTypeMapping> {
-        val mappings = endpointMappings[query.path] ?: return emptyList()
-        return mappings.findAnnotationParameterTypeMapping(query, step.add(EndpointsStep(query)))
+        val mappings = endpoints.find(query.path) ?: return emptyList()
+        return mappings.findAnnotationParameterTypeMapping(query, step.add { EndpointsStep(query) })
     }
 
     fun findEndpointParameterNameTypeMapping(query: MappingQuery, step: MappingStep): NameTypeMapping? {
-        return endpointMappings[query.path]?.findParameterNameTypeMapping(query, step.add(EndpointsStep(query)))
+        return endpoints.find(query.path)?.findParameterNameTypeMapping(query, step.add { EndpointsStep(query) })
     }
 
     fun findEndpointAnnotationParameterNameTypeMapping(query: MappingQuery, step: MappingStep): List<AnnotationNameMapping> {
-        val mappings = endpointMappings[query.path] ?: return emptyList()
-        return mappings.findAnnotationParameterNameTypeMapping(query, step.add(EndpointsStep(query)))
+        val mappings = endpoints.find(query.path) ?: return emptyList()
+        return mappings.findAnnotationParameterNameTypeMapping(query, step.add { EndpointsStep(query) })
     }
 
     fun findEndpointAddParameterTypeMappings(query: MappingQuery, step: MappingStep): List<AddParameterTypeMapping> {
-        val mappings = endpointMappings[query.path] ?: return emptyList()
-        return mappings.findAddParameterTypeMappings(query, step.add(EndpointsStep(query)))
+        val mappings = endpoints.find(query.path) ?: return emptyList()
+        return mappings.findAddParameterTypeMappings(query, step.add { EndpointsStep(query) })
     }
 
     fun findEndpointDropParameterTypeMappings(query: MappingQuery, step: MappingStep): List<DropParameterTypeMapping> {
-        val mappings = endpointMappings[query.path] ?: return emptyList()
-        return mappings.findDropParameterTypeMappings(query, step.add(EndpointsStep(query)))
+        val mappings = endpoints.find(query.path) ?: return emptyList()
+        return mappings.findDropParameterTypeMappings(query, step.add { EndpointsStep(query) })
     }
 
     fun findEndpointContentTypeMapping(query: MappingQuery, step: MappingStep): ContentTypeMapping? {
-        return endpointMappings[query.path]?.findContentTypeMapping(query, step.add(EndpointsStep(query)))
+        return endpoints.find(query.path)?.findContentTypeMapping(query, step.add { EndpointsStep(query) })
     }
 
     fun findExtensionAnnotations(extension: String, value: String, step: MappingStep): List<AnnotationNameMapping> {
         val extMappings = extensionMappings[extension] ?: return emptyList()
-        return extMappings.get(value, step.add(ExtensionsStep(extension)))
+        return extMappings.get(value, step.add { ExtensionsStep(extension) })
     }
 
     fun isEndpointExcluded(query: MappingQuery, step: MappingStep): Boolean {
-        val mappings = endpointMappings[query.path]?: return false
-        return mappings.isExcluded(query, step.add(EndpointsStep(query)))
+        val mappings = endpoints.find(query.path)?: return false
+        return mappings.isExcluded(query, step.add { EndpointsStep(query) })
     }
 }
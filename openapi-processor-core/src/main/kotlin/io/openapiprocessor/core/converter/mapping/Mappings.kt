@@ -25,55 +25,55 @@ class Mappings(
 ) {
     fun getBodyStyle(step: MappingStep): BodyStyle? {
         if (bodyStyle != null) {
-            step.add(StringStep("body-style: $bodyStyle", true))
+            step.add { StringStep("body-style: $bodyStyle", true) }
         }
         return bodyStyle
     }
 
     fun getResultTypeMapping(step: MappingStep): ResultTypeMapping? {
         if (resultTypeMapping != null) {
-            step.add(StringStep("result-type: ${resultTypeMapping.targetTypeName}", true))
+            step.add { StringStep("result-type: ${resultTypeMapping.targetTypeName}", true) }
         }
         return resultTypeMapping
     }
 
     fun getResultStyle(step: MappingStep): ResultStyle? {
         if (resultStyle != null) {
-            step.add(StringStep("result-style: $resultStyle", true))
+            step.add { StringStep("result-style: $resultStyle", true) }
         }
         return resultStyle
     }
 
     fun getResultStatus(step: MappingStep): Boolean? {
         if (resultStatus != null) {
-            step.add(StringStep("result-status: $resultStatus", true))
+            step.add { StringStep("result-status: $resultStatus", true) }
         }
         return resultStatus
     }
 
     fun getSingleTypeMapping(step: MappingStep): TypeMapping? {
         if (singleTypeMapping != null) {
-            step.add(StringStep("single: ${singleTypeMapping.targetTypeName}", true))
+            step.add { StringStep("single: ${singleTypeMapping.targetTypeName}", true) }
         }
         return singleTypeMapping
     }
 
     fun getMultiTypeMapping(step: MappingStep): TypeMapping? {
         if (multiTypeMapping != null) {
-            step.add(StringStep("multi: ${multiTypeMapping.targetTypeName}", true))
+            step.add { StringStep("multi: ${multiTypeMapping.targetTypeName}", true) }
         }
         return multiTypeMapping
     }
 
     fun getNullTypeMapping(step: MappingStep): NullTypeMapping? {
         if (nullTypeMapping != null) {
-            step.add(StringStep("null: $nullTypeMapping", true))
+            step.add { StringStep("null: $nullTypeMapping", true) }
         }
         return nullTypeMapping
     }
 
     fun findTypeMapping(filter: MappingMatcher, step: MappingStep): TypeMapping? {
-        val mappings = typeMappings.filter(filter, step.add(TypesStep()))
+        val mappings = typeMappings.filter(filter, step.add { TypesStep() })
         if (mappings.isEmpty()) {
             return null
         }
@@ -86,7 +86,7 @@ class Mappings(
     }
 
     fun findAnnotationTypeMapping(filter: MappingMatcher, step: MappingStep): List<AnnotationTypeMapping> {
-        val mappings = typeMappings.filter(filter, step.add(TypesStep()))
+        val mappings = typeMappings.filter(filter, step.add { TypesStep() })
         if (mappings.isEmpty()) {
             return emptyList()
         }
@@ -95,7 +95,7 @@ class Mappings(
     }
 
     fun findInterfaceTypeMappings(filter: MappingMatcher, step: MappingStep): List<InterfaceTypeMapping> {
-        val mappings = typeMappings.filter(filter, step.add(TypesStep()))
+        val mappings = typeMappings.filter(filter, step.add { TypesStep() })
         if (mappings.isEmpty()) {
             return emptyList()
         }
@@ -104,7 +104,7 @@ class Mappings(
     }
 
     fun findSchemaTypeMapping(filter: MappingMatcher, step: MappingStep): TypeMapping? {
-        val mappings = schemaMappings.filter(filter, step.add(SchemasStep()))
+        val mappings = schemaMappings.filter(filter, step.add { SchemasStep() })
         if (mappings.isEmpty()) {
             return null
         }
@@ -117,7 +117,7 @@ class Mappings(
     }
 
     fun findAnnotationSchemaTypeMapping(filter: MappingMatcher, step: MappingStep): List<AnnotationTypeMapping> {
-        val mappings = schemaMappings.filter(filter, step.add(SchemasStep()))
+        val mappings = schemaMappings.filter(filter, step.add { SchemasStep() })
         if (mappings.isEmpty()) {
             return emptyList()
         }
@@ -126,7 +126,7 @@ class Mappings(
     }
 
     fun findParameterTypeMapping(filter: MappingMatcher, step: MappingStep): TypeMapping? {
-        val mappings = parameterTypeMappings.filter(filter, step.add(ParametersStep("type")))
+        val mappings = parameterTypeMappings.filter(filter, step.add { ParametersStep("type") })
         if (mappings.isEmpty()) {
             return null
         }
@@ -139,7 +139,7 @@ class Mappings(
     }
 
     fun findInterfaceParameterTypeMappings(filter: MappingMatcher, step: MappingStep): List<InterfaceTypeMapping> {
-        val mappings = parameterTypeMappings.filter(filter, step.add(ParametersStep("type")))
+        val mappings = parameterTypeMappings.filter(filter, step.add { ParametersStep("type") })
         if (mappings.isEmpty()) {
             return emptyList()
         }
@@ -148,7 +148,7 @@ class Mappings(
     }
 
     fun findAnnotationParameterTypeMapping(filter: MappingMatcher, step: MappingStep): List<AnnotationTypeMapping> {
-        val mappings = parameterTypeMappings.filter(filter, step.add(ParametersStep("type")))
+        val mappings = parameterTypeMappings.filter(filter, step.add { ParametersStep("type") })
         if (mappings.isEmpty()) {
             return emptyList()
         }
@@ -157,7 +157,7 @@ class Mappings(
     }
 
     fun findParameterNameTypeMapping(filter: MappingMatcher, step: MappingStep): NameTypeMapping? {
-        val mappings = parameterTypeMappings.filter(filter, step.add(ParametersStep("name")))
+        val mappings = parameterTypeMappings.filter(filter, step.add { ParametersStep("name") })
         if (mappings.isEmpty()) {
             return null
         }
@@ -170,7 +170,7 @@ class Mappings(
     }
 
     fun findAnnotationParameterNameTypeMapping(filter: MappingMatcher, step: MappingStep): List<AnnotationNameMapping> {
-        val mappings = parameterTypeMappings.filter(filter, step.add(ParametersStep("name")))
+        val mappings = parameterTypeMappings.filter(filter, step.add { ParametersStep("name") })
         if (mappings.isEmpty()) {
             return emptyList()
         }
@@ -179,7 +179,7 @@ class Mappings(
     }
 
     fun findAddParameterTypeMappings(filter: MappingMatcher, step: MappingStep): List<AddParameterTypeMapping>  {
-        val mappings = parameterTypeMappings.filter(filter, step.add(ParametersStep("add")))
+        val mappings = parameterTypeMappings.filter(filter, step.add { ParametersStep("add") })
         if (mappings.isEmpty()) {
             return emptyList()
         }
@@ -188,7 +188,7 @@ class Mappings(
     }
 
     fun findDropParameterTypeMappings(filter: MappingMatcher, step: MappingStep): List<DropParameterTypeMapping>  {
-        val mappings = parameterTypeMappings.filter(filter, step.add(ParametersStep("drop")))
+        val mappings = parameterTypeMappings.filter(filter, step.add { ParametersStep("drop") })
         if (mappings.isEmpty()) {
             return emptyList()
         }
@@ -196,8 +196,12 @@ class Mappings(
         return mappings.map { it as DropParameterTypeMapping }
     }
 
+    fun hasContentTypeMappings(): Boolean {
+        return !responseTypeMappings.isEmpty()
+    }
+
     fun findContentTypeMapping(filter: MappingMatcher, step: MappingStep): ContentTypeMapping? {
-        val mappings = responseTypeMappings.filter(filter, step.add(ContentTypesStep()))
+        val mappings = responseTypeMappings.filter(filter, step.add { ContentTypesStep() })
         if (mappings.isEmpty()) {
             return null
         }
@@ -211,7 +215,7 @@ class Mappings(
 
     fun isExcluded(step: MappingStep): Boolean {
         if (exclude) {
-            step.add(StringStep("exclude: true", true))
+            step.add { StringStep("exclude: true", true) }
         }
         return exclude
     }
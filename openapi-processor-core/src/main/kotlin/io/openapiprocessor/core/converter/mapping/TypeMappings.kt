@@ -12,9 +12,20 @@ import org.slf4j.LoggerFactory
 class TypeMappings(private val mappings: List<Mapping>): MappingBucket {
     val log: Logger = LoggerFactory.getLogger(this.javaClass.name)
 
+    private val index = MappingIndex(mappings)
+
     constructor(vararg mapping: Mapping): this(mapping.toList())
 
+    fun isEmpty(): Boolean {
+        return mappings.isEmpty()
+    }
+
     override fun filter(filter: MappingMatcher, step: MappingStep): List<Mapping> {
+        if (filter is IndexedMappingMatcher) {
+            return filter.candidates(index)
+                .filter { filter.match(it, step) }
+        }
+
         return mappings
             .filter { filter.match(it, step) }
     }
@@ -10,13 +10,14 @@ import io.openapiprocessor.core.converter.mapping.Mapping
 import io.openapiprocessor.core.converter.mapping.MappingMatcher
 import io.openapiprocessor.core.converter.mapping.MappingQueryType
 import io.openapiprocessor.core.converter.mapping.steps.MappingStep
+import io.openapiprocessor.core.converter.mapping.steps.add
 import io.openapiprocessor.core.converter.mapping.steps.MatcherStep
 
 class AnnotationTypeMatcher(private val query: MappingQueryType): MappingMatcher {
 
     override fun match(mapping: Mapping, step: MappingStep): Boolean {
         if (mapping !is AnnotationTypeMapping) {
-            step.add(MatcherStep(mapping, false))
+            step.add { MatcherStep(mapping, false) }
             return false
         }
 
@@ -29,7 +30,7 @@ class AnnotationTypeMatcher(private val query: MappingQueryType): MappingMatcher
                 || (matchType && matchFormat)
                 || (query.allowObject && matchObject)
 
-        step.add(MatcherStep(mapping, match))
+        step.add { MatcherStep(mapping, match) }
         return match
     }
 
@@ -7,18 +7,19 @@ package io.openapiprocessor.core.converter.mapping.matcher
 
 import io.openapiprocessor.core.converter.mapping.*
 import io.openapiprocessor.core.converter.mapping.steps.MappingStep
+import io.openapiprocessor.core.converter.mapping.steps.add
 import io.openapiprocessor.core.converter.mapping.steps.MatcherStep
 
 class ContentTypeMatcher(private val query: MappingQuery): MappingMatcher, (ContentTypeMapping) -> Boolean {
 
     override fun match(mapping: Mapping, step: MappingStep): Boolean {
         if (mapping !is ContentTypeMapping) {
-            step.add(MatcherStep(mapping, false))
+            step.add { MatcherStep(mapping, false) }
             return false
         }
 
         val match = this.invoke(mapping)
-        step.add(MatcherStep(mapping, match))
+        step.add { MatcherStep(mapping, match) }
         return match
     }
 
@@ -10,13 +10,14 @@ import io.openapiprocessor.core.converter.mapping.Mapping
 import io.openapiprocessor.core.converter.mapping.MappingMatcher
 import io.openapiprocessor.core.converter.mapping.MappingQuery
 import io.openapiprocessor.core.converter.mapping.steps.MappingStep
+import io.openapiprocessor.core.converter.mapping.steps.add
 import io.openapiprocessor.core.converter.mapping.steps.MatcherStep
 
 class InterfaceTypeMatcher(private val query: MappingQuery): MappingMatcher {
 
     override fun match(mapping: Mapping, step: MappingStep): Boolean {
         if (mapping !is InterfaceTypeMapping) {
-            step.add(MatcherStep(mapping, false))
+            step.add { MatcherStep(mapping, false) }
             return false
         }
 
@@ -28,7 +29,7 @@ class InterfaceTypeMatcher(private val query: MappingQuery): MappingMatcher {
                 || matchType
                 || (query.allowObject && matchObject)
 
-        step.add(MatcherStep(mapping, match))
+        step.add { MatcherStep(mapping, match) }
         return match
     }
 
@@ -7,18 +7,23 @@ package io.openapiprocessor.core.converter.mapping.matcher
 
 import io.openapiprocessor.core.converter.mapping.*
 import io.openapiprocessor.core.converter.mapping.steps.MappingStep
+import io.openapiprocessor.core.converter.mapping.steps.add
 import io.openapiprocessor.core.converter.mapping.steps.MatcherStep
 
-class ParameterNameTypeMatcher(private val query: MappingQuery): MappingMatcher {
+class ParameterNameTypeMatcher(private val query: MappingQuery): IndexedMappingMatcher {
+
+    override fun candidates(index: MappingIndex): List<Mapping> {
+        return index.get(index.findParameterNames(query.name))
+    }
 
     override fun match(mapping: Mapping, step: MappingStep): Boolean {
         if (mapping !is NameTypeMapping) {
-            step.add(MatcherStep(mapping, false))
+            step.add { MatcherStep(mapping, false) }
             return false
         }
 
         val match = mapping.parameterName == query.name
-        step.add(MatcherStep(mapping, match))
+        step.add { MatcherStep(mapping, match) }
         return match
     }
 }
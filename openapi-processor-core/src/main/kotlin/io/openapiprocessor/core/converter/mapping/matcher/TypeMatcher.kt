@@ -5,26 +5,36 @@
 
 package io.openapiprocessor.core.converter.mapping.matcher
 
+import io.openapiprocessor.core.converter.mapping.IndexedMappingMatcher
 import io.openapiprocessor.core.converter.mapping.Mapping
-import io.openapiprocessor.core.converter.mapping.MappingMatcher
+import io.openapiprocessor.core.converter.mapping.MappingIndex
 import io.openapiprocessor.core.converter.mapping.MappingQuery
 import io.openapiprocessor.core.converter.mapping.TypeMapping
 import io.openapiprocessor.core.converter.mapping.steps.MappingStep
+import io.openapiprocessor.core.converter.mapping.steps.add
 import io.openapiprocessor.core.converter.mapping.steps.MatcherStep
 
 /**
  * [io.openapiprocessor.core.converter.MappingFinder] matcher for type mappings.
  */
-class TypeMatcher(private val query: MappingQuery): MappingMatcher, (TypeMapping) -> Boolean {
+class TypeMatcher(private val query: MappingQuery): IndexedMappingMatcher, (TypeMapping) -> Boolean {
+
+    override fun candidates(index: MappingIndex): List<Mapping> {
+        return index.get(
+            index.findTypes(query.name, query.format),
+            if (query.primitive) index.findTypes(query.type, query.format) else emptyList(),
+            if (query.array) index.findTypes("array") else emptyList()
+        )
+    }
 
     override fun match(mapping: Mapping, step: MappingStep): Boolean {
         if (mapping !is TypeMapping) {
-            step.add(MatcherStep(mapping, false))
+            step.add { MatcherStep(mapping, false) }
             return false
         }
 
         val match = this.invoke(mapping)
-        step.add(MatcherStep(mapping, match))
+        step.add { MatcherStep(mapping, match) }
         return match
     }
 
@@ -13,5 +13,17 @@ interface MappingStep {
     fun log(indent: String = "")
 }
 
+/**
+ * add the step created by [create]. Does not create the step if this is the [NullStep], i.e., if mapping
+ * logging is disabled.
+ */
+inline fun MappingStep.add(create: () -> MappingStep): MappingStep {
+    if (this === NullStep) {
+        return this
+    }
+
+    return add(create())
+}
+
 const val MATCH = "+  {}"
 const val NO_MATCH = "-  {}"
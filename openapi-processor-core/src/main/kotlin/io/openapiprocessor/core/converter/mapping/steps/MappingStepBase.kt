@@ -34,6 +34,13 @@ abstract class MappingStepBase : MappingStep {
     }
 
     companion object {
+        /**
+         * true, if mapping logging is enabled for the current thread.
+         */
+        fun isEnabled(): Boolean {
+            return options.get().mapping
+        }
+
         val options: ThreadLocal<LoggingOptions> = ThreadLocal.withInitial {
             object : LoggingOptions {
                 override var mapping = false
@@ -0,0 +1,33 @@
+/*
+ * Copyright 2026 https://github.com/openapi-processor/openapi-processor-base
+ * PDX-License-Identifier: Apache-2.0
+ */
+
+package io.openapiprocessor.core.converter.mapping.steps
+
+/**
+ * no-op mapping step used if mapping logging is disabled. It does not collect anything, adding a step
+ * returns the null step itself.
+ */
+object NullStep: MappingStep {
+
+    override fun isMatch(): Boolean {
+        return false
+    }
+
+    override fun hasMappings(): Boolean {
+        return false
+    }
+
+    override fun add(step: MappingStep): MappingStep {
+        return this
+    }
+
+    override fun isEqual(step: MappingStep): Boolean {
+        return false
+    }
+
+    override fun log(indent: String) {
+        // nop
+    }
+}
@@ -0,0 +1,29 @@
+/*
+ * Copyright 2026 https://github.com/openapi-processor/openapi-processor-base
+ * PDX-License-Identifier: Apache-2.0
+ */
+
+package io.openapiprocessor.core.converter.options
+
+class ParallelOptions {
+    /**
+     * enable/disable parallel conversion of the endpoints.
+     */
+    var converter = false
+
+    /**
+     * enable/disable conversion of the component schemas in dependency order (and in parallel) before the
+     * endpoints.
+     */
+    var schemas = false
+
+    /**
+     * enable/disable parallel formatting & writing of the generated source files.
+     */
+    var writer = false
+
+    /**
+     * number of threads used by the parallel steps. Defaults to the number of available processors.
+     */
+    var threads: Int = Runtime.getRuntime().availableProcessors()
+}
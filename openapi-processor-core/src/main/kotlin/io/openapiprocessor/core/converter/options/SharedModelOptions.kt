@@ -0,0 +1,50 @@
+/*
+ * Copyright 2026 https://github.com/openapi-processor/openapi-processor-base
+ * PDX-License-Identifier: Apache-2.0
+ */
+
+package io.openapiprocessor.core.converter.options
+
+import java.net.URI
+
+/**
+ * options of model types shared by multiple OpenAPI descriptions, e.g. the common schemas of several services.
+ */
+class SharedModelOptions {
+    /**
+     * package of the shared model types. Sharing is disabled if it is not set.
+     */
+    var packageName: String? = null
+
+    /**
+     * the shared model types, identified by [key].
+     */
+    var models: Set<String> = emptySet()
+
+    /**
+     * names of the shared model types that are written by this run. Writes all of them if not set.
+     */
+    var write: Set<String>? = null
+
+    /**
+     * target dir of the shared model types (optional). If not set, they are written to the target dir of the run.
+     */
+    var targetDir: String? = null
+
+    fun isShared(documentUri: URI, name: String): Boolean {
+        return packageName != null && models.contains(key(documentUri, name))
+    }
+
+    fun isWritten(name: String): Boolean {
+        return write?.contains(name) ?: true
+    }
+
+    companion object {
+        /**
+         * identifies a shared schema by the uri of its document and its name.
+         */
+        fun key(documentUri: URI, name: String): String {
+            return "$documentUri#$name"
+        }
+    }
+}
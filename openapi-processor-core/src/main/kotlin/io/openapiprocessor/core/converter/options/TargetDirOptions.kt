@@ -13,6 +13,19 @@ class TargetDirOptions {
      */
     var clear = true
 
+    /**
+     * enable/disable writing only changed files (optional). If enabled, a file is only written if its content is
+     * different from the existing file.
+     */
+    var writeChanged = false
+
+    /**
+     * enable/disable pruning of stale files (optional). If enabled, the writer keeps a manifest of the generated
+     * files in targetDir. Instead of clearing targetDir it deletes only the files of the previous run that are not
+     * generated anymore. Without a manifest (first run) it falls back to [clear].
+     */
+    var prune = false
+
     /**
      * the layout of the target dir
      *
@@ -0,0 +1,454 @@
+/*
+ * Copyright 2026 https://github.com/openapi-processor/openapi-processor-base
+ * PDX-License-Identifier: Apache-2.0
+ */
+
+package io.openapiprocessor.core.daemon
+
+import com.fasterxml.jackson.core.type.TypeReference
+import com.fasterxml.jackson.databind.ObjectMapper
+import io.openapiprocessor.core.processor.SchemaStores
+import io.openapiprocessor.core.session.ProcessorSession
+import io.openapiprocessor.core.session.SessionProcessor
+import org.slf4j.Logger
+import org.slf4j.LoggerFactory
+import java.io.ByteArrayOutputStream
+import java.io.IOException
+import java.io.InputStream
+import java.io.OutputStream
+import java.io.StringWriter
+import java.io.Writer
+import java.net.StandardProtocolFamily
+import java.net.UnixDomainSocketAddress
+import java.nio.ByteBuffer
+import java.nio.channels.SelectionKey
+import java.nio.channels.Selector
+import java.nio.channels.ServerSocketChannel
+import java.nio.channels.SocketChannel
+import java.nio.file.FileSystems
+import java.nio.file.Files
+import java.nio.file.Path
+import java.nio.file.StandardCopyOption
+import java.nio.file.attribute.PosixFilePermissions
+import java.time.Duration
+import java.util.*
+import java.util.concurrent.LinkedBlockingQueue
+import java.util.concurrent.TimeUnit
+import kotlin.system.exitProcess
+
+/**
+ * long-lived processor process. It runs generation requests one after the other in the same jvm, so the classes
+ * are loaded & jitted once, and the process-wide caches (meta-schema stores, formatter instances, validated
+ * documents, ...) stay warm between the requests.
+ *
+ * A request is a single line json object:
+ *
+ * - `{"id": "1", "options": {...}}` runs the processor with the given processor options
+ * - `{"id": "2", "command": "ping"}`
+ * - `{"id": "3", "command": "shutdown"}` stops the daemon
+ *
+ * The response is a single line json object with the `id` of the request, a `status` (`ok` or `error`), the
+ * `millis` of a generation request or the error `message`.
+ *
+ * The processor should not log to stdout if the daemon uses stdin/stdout.
+ *
+ * @param processor runs a processor with the given processor options
+ * @param idleTimeout the daemon stops if it does not get a request in this time
+ */
+class ProcessorDaemon(
+    private val processor: (Map<String, Any>) -> Unit,
+    private val idleTimeout: Duration = Duration.ofMinutes(10)
+) {
+    private val log: Logger = LoggerFactory.getLogger(this.javaClass.name)
+
+    private val mapper = ObjectMapper()
+
+    /**
+     * serve the requests from [input] and write the responses to [output] until the input is closed, the daemon
+     * gets a `shutdown` request or is idle for [idleTimeout].
+     */
+    fun serve(input: InputStream, output: OutputStream) {
+        warmUp()
+
+        val lines = LinkedBlockingQueue<Optional<String>>()
+        val reader = Thread({
+            try {
+                input.bufferedReader().forEachLine { lines.put(Optional.of(it)) }
+            } catch (ex: Exception) {
+                log.debug("failed to read request", ex)
+            } finally {
+                lines.put(Optional.empty())
+            }
+        }, "openapi-processor-daemon")
+        reader.isDaemon = true
+        reader.start()
+
+        val writer = output.bufferedWriter()
+        while (true) {
+            val line = lines.poll(idleTimeout.toMillis(), TimeUnit.MILLISECONDS)
+            if (line == null) {
+                log.info("idle timeout, stopping daemon")
+                return
+            }
+
+            if (line.isEmpty || !handle(line.get(), writer)) {
+                return
+            }
+        }
+    }
+
+    /**
+     * serve the requests on a unix domain socket until the daemon gets a `shutdown` request or does not get a
+     * request for [idleTimeout]. A connected client without requests does not keep the daemon alive.
+     *
+     * The clients are served by a selector, i.e. an idle client does not block other clients. The requests run
+     * one after the other. A response that a client does not read is kept until the client is writable. A client
+     * that does not read its responses is dropped.
+     *
+     * Only the owner can connect to the socket: a missing parent directory is created owner-only. The socket is
+     * bound in an owner-only temporary directory, made owner-only and then moved to [socket] (on a posix file
+     * system), i.e. it is never accessible by others, even in a shared directory like /tmp.
+     */
+    fun serve(socket: Path) {
+        warmUp()
+
+        createSocketDir(socket)
+        Files.deleteIfExists(socket)
+        try {
+            ServerSocketChannel.open(StandardProtocolFamily.UNIX).use { server ->
+                bind(server, socket)
+                server.configureBlocking(false)
+
+                Selector.open().use { selector ->
+                    try {
+                        server.register(selector, SelectionKey.OP_ACCEPT)
+                        serve(server, selector)
+                    } finally {
+                        selector.keys()
+                            .map { it.channel() }
+                            .filter { it != server }
+                            .forEach { it.close() }
+                    }
+                }
+            }
+        } finally {
+            Files.deleteIfExists(socket)
+        }
+    }
+
+    private fun serve(server: ServerSocketChannel, selector: Selector) {
+        var deadline = System.nanoTime() + idleTimeout.toNanos()
+
+        while (true) {
+            val wait = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())
+            if (wait <= 0) {
+                log.info("idle timeout, stopping daemon")
+                return
+            }
+
+            selector.select(wait)
+
+            val keys = selector.selectedKeys()
+            for (key in keys.toList()) {
+                keys.remove(key)
+                if (!key.isValid) {
+                    continue
+                }
+
+                if (key.isAcceptable) {
+                    val channel = server.accept() ?: continue
+                    channel.configureBlocking(false)
+                    val clientKey = channel.register(selector, SelectionKey.OP_READ)
+                    clientKey.attach(Client(clientKey))
+                    continue
+                }
+
+                val client = key.attachment() as Client
+                if (key.isWritable) {
+                    client.flush()
+                }
+
+                if (!key.isValid || !key.isReadable) {
+                    continue
+                }
+
+                val lines = client.read()
+                if (lines == null) {
+                    client.close()
+                    continue
+                }
+
+                for (line in lines) {
+                    deadline = System.nanoTime() + idleTimeout.toNanos()
+
+                    if (!handle(line, client)) {
+                        return
+                    }
+                }
+            }
+        }
+    }
+
+    private fun handle(line: String, client: Client): Boolean {
+        val response = StringWriter()
+        val running = handle(line, response)
+
+        client.write(response.toString())
+        return running
+    }
+
+    /**
+     * a connected client. It collects the request bytes until a request line is complete, and keeps the response
+     * bytes the client did not read yet.
+     */
+    private inner class Client(private val key: SelectionKey) {
+        private val channel = key.channel() as SocketChannel
+        private val buffer = ByteBuffer.allocate(8192)
+        private val line = ByteArrayOutputStream()
+        private val pending = ArrayDeque<ByteBuffer>()
+        private var pendingBytes = 0L
+
+        /**
+         * read the available bytes.
+         *
+         * @return the complete request lines or null if the client closed the connection
+         */
+        fun read(): List<String>? {
+            val lines = mutableListOf<String>()
+
+            while (true) {
+                buffer.clear()
+                val count = try {
+                    channel.read(buffer)
+                } catch (ex: IOException) {
+                    log.debug("failed to read request", ex)
+                    -1
+                }
+
+                if (count < 0) {
+                    return null
+                }
+
+                if (count == 0) {
+                    return lines
+                }
+
+                buffer.flip()
+                while (buffer.hasRemaining()) {
+                    val b = buffer.get()
+                    if (b == '\n'.code.toByte()) {
+                        lines.add(line.toString(Charsets.UTF_8))
+                        line.reset()
+                    } else {
+                        line.write(b.toInt())
+                    }
+                }
+            }
+        }
+
+        /**
+         * write a response. The channel is non-blocking, it writes what the client can take and keeps the rest
+         * until the client is writable (see [flush]). It drops the client if it does not read its responses.
+         */
+        fun write(response: String) {
+            val bytes = response.toByteArray(Charsets.UTF_8)
+            if (pendingBytes + bytes.size > MAX_PENDING_BYTES) {
+                log.warn("dropping client, it does not read its responses")
+                close()
+                return
+            }
+
+            pending.addLast(ByteBuffer.wrap(bytes))
+            pendingBytes += bytes.size
+            flush()
+        }
+
+        /**
+         * write the pending response bytes. It selects [SelectionKey.OP_WRITE] until all bytes are written.
+         */
+        fun flush() {
+            try {
+                while (pending.isNotEmpty()) {
+                    val bytes = pending.first()
+                    pendingBytes -= channel.write(bytes)
+                    if (bytes.hasRemaining()) {
+                        break
+                    }
+                    pending.removeFirst()
+                }
+            } catch (ex: IOException) {
+                log.debug("failed to write response", ex)
+                close()
+                return
+            }
+
+            if (key.isValid) {
+                val ops = if (pending.isEmpty()) SelectionKey.OP_READ else SelectionKey.OP_READ or SelectionKey.OP_WRITE
+                key.interestOps(ops)
+            }
+        }
+
+        fun close() {
+            key.cancel()
+            channel.close()
+        }
+    }
+
+    /**
+     * bind the socket in an owner-only temporary directory next to [socket] and move it to [socket] after making
+     * it owner-only. Without posix permissions it binds [socket].
+     */
+    private fun bind(server: ServerSocketChannel, socket: Path) {
+        if (!isPosix()) {
+            server.bind(UnixDomainSocketAddress.of(socket))
+            return
+        }
+
+        val dir = socket.toAbsolutePath().parent
+        val tmp = Files.createTempDirectory(dir, ".ops", PosixFilePermissions.asFileAttribute(OWNER_ONLY_DIR))
+        try {
+            val bound = tmp.resolve("s")
+            server.bind(UnixDomainSocketAddress.of(bound))
+            Files.setPosixFilePermissions(bound, OWNER_ONLY_FILE)
+            Files.move(bound, socket, StandardCopyOption.ATOMIC_MOVE)
+        } finally {
+            Files.deleteIfExists(tmp)
+        }
+    }
+
+    private fun createSocketDir(socket: Path) {
+        val dir = socket.toAbsolutePath().parent
+        if (dir == null || Files.exists(dir)) {
+            return
+        }
+
+        if (isPosix()) {
+            Files.createDirectories(dir, PosixFilePermissions.asFileAttribute(OWNER_ONLY_DIR))
+        } else {
+            Files.createDirectories(dir)
+        }
+    }
+
+    private fun isPosix(): Boolean {
+        return FileSystems.getDefault().supportedFileAttributeViews().contains("posix")
+    }
+
+    /**
+     * handle a single request.
+     *
+     * @return false if the daemon should stop, true otherwise
+     */
+    private fun handle(line: String, writer: Writer): Boolean {
+        if (line.isBlank()) {
+            return true
+        }
+
+        var running = true
+        val response = linkedMapOf<String, Any?>()
+        try {
+            val request = mapper.readValue(line, object : TypeReference<Map<String, Any?>>() {})
+            response["id"] = request["id"]
+
+            when (val command = request["command"] ?: GENERATE) {
+                GENERATE -> {
+                    val start = System.nanoTime()
+                    processor(getOptions(request))
+                    response["millis"] = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)
+                }
+                PING -> {}
+                SHUTDOWN -> {
+                    running = false
+                }
+                else -> {
+                    throw IllegalArgumentException("unknown command: $command")
+                }
+            }
+            response["status"] = OK
+
+        } catch (ex: Exception) {
+            log.error("request failed", ex)
+            response["status"] = ERROR
+            response["message"] = ex.message ?: ex.javaClass.name
+        }
+
+        writer.write(mapper.writeValueAsString(response))
+        writer.write("\n")
+        writer.flush()
+        return running
+    }
+
+    private fun getOptions(request: Map<String, Any?>): Map<String, Any> {
+        val options = request["options"] as? Map<*, *>
+            ?: throw IllegalArgumentException("missing processor options")
+
+        val processorOptions = linkedMapOf<String, Any>()
+        options.forEach { (key, value) ->
+            if (value != null) {
+                processorOptions[key.toString()] = value
+            }
+        }
+        return processorOptions
+    }
+
+    private fun warmUp() {
+        try {
+            SchemaStores.warmUp()
+        } catch (ex: Exception) {
+            log.warn("failed to warm up the schema stores", ex)
+        }
+    }
+
+    companion object {
+        private const val GENERATE = "generate"
+        private const val PING = "ping"
+        private const val SHUTDOWN = "shutdown"
+        private const val OK = "ok"
+        private const val ERROR = "error"
+
+        // responses a client did not read, before it is dropped
+        private const val MAX_PENDING_BYTES = 1024L * 1024
+
+        private val OWNER_ONLY_DIR = PosixFilePermissions.fromString("rwx------")
+        private val OWNER_ONLY_FILE = PosixFilePermissions.fromString("rw-------")
+
+        /**
+         * run a processor as daemon.
+         *
+         * - `--processor <name>`: the processor name (required). The processor is found by [ServiceLoader]. If it
+         *   is a [SessionProcessor] all requests run with the same [ProcessorSession].
+         * - `--socket <path>`: listen on a unix domain socket, default is stdin/stdout.
+         * - `--idle-timeout <seconds>`: default is 600.
+         */
+        @JvmStatic
+        fun main(args: Array<String>) {
+            val arguments = args.toList()
+                .chunked(2)
+                .filter { it.size == 2 }
+                .associate { (key, value) -> key to value }
+
+            val name = arguments["--processor"]
+            val processor = ServiceLoader.load(io.openapiprocessor.api.v2.OpenApiProcessor::class.java)
+                .find { it.name == name }
+
+            if (processor == null) {
+                System.err.println("unknown processor: $name")
+                exitProcess(2)
+            }
+
+            val timeout = Duration.ofSeconds(arguments["--idle-timeout"]?.toLongOrNull() ?: 600)
+            val daemon = if (processor is SessionProcessor) {
+                val session = ProcessorSession(processor)
+                ProcessorDaemon({ session.generate(it) }, timeout)
+            } else {
+                ProcessorDaemon({ processor.run(it) }, timeout)
+            }
+
+            val socket = arguments["--socket"]
+            if (socket != null) {
+                daemon.serve(Path.of(socket))
+            } else {
+                daemon.serve(System.`in`, System.out)
+            }
+        }
+    }
+}
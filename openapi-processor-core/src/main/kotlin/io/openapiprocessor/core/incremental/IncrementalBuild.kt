@@ -0,0 +1,163 @@
+/*
+ * Copyright 2026 https://github.com/openapi-processor/openapi-processor-base
+ * PDX-License-Identifier: Apache-2.0
+ */
+
+package io.openapiprocessor.core.incremental
+
+import io.openapiprocessor.core.processor.mapping.Mapping
+import io.openapiprocessor.core.support.toURI
+import io.openapiprocessor.core.writer.TargetManifest
+import io.openapiprocessor.core.writer.java.ChangedPathWriter
+import org.slf4j.Logger
+import org.slf4j.LoggerFactory
+import java.nio.file.Files
+import java.nio.file.Path
+
+/**
+ * up-to-date check of a processor run. It stores the [InputFingerprint] of the last successful run in the target
+ * dir. A run is up-to-date if no input changed and all files listed in the [TargetManifest] still exist.
+ *
+ * The conversion is global (usage of the model types, name assignment, response interfaces, ...), so a run that is
+ * not up-to-date converts the whole api. The writer then only renders & writes the sources whose OpenAPI elements
+ * changed (see [SourceGraph]). A change of the processor, the options or the mapping changes the global inputs, and
+ * all sources are written.
+ *
+ * @param targetDir the target dir
+ * @param fingerprint the fingerprint of the current inputs
+ */
+class IncrementalBuild(targetDir: Path, private val fingerprint: InputFingerprint) {
+    private val log: Logger = LoggerFactory.getLogger(this.javaClass.name)
+
+    private val targetDir: Path = targetDir.toAbsolutePath().normalize()
+    private val state: Path = this.targetDir.resolve(NAME)
+
+    /**
+     * check if the last successful run had the same inputs and its outputs are unchanged.
+     *
+     * @return true if the run can be skipped, false otherwise
+     */
+    fun isUpToDate(): Boolean {
+        val previous = read()
+        if (previous == null) {
+            log.debug("no previous inputs, full run")
+            return false
+        }
+
+        val changed = fingerprint.diff(previous)
+        if (changed.isNotEmpty()) {
+            log.info("changed inputs: {}", changed.joinToString())
+            return false
+        }
+
+        val outputs = TargetManifest(targetDir).read()
+        if (outputs == null) {
+            log.debug("no previous outputs, full run")
+            return false
+        }
+
+        val missing = outputs.filter { !Files.exists(targetDir.resolve(it)) }
+        if (missing.isNotEmpty()) {
+            log.info("missing outputs: {}", missing.joinToString())
+            return false
+        }
+
+        return true
+    }
+
+    /**
+     * store the fingerprint of the current inputs. Call it after a successful run.
+     */
+    fun update() {
+        Files.createDirectories(targetDir)
+        ChangedPathWriter(state).use { writer ->
+            fingerprint.inputs.forEach { (key, hash) ->
+                writer.write("$hash $key\n")
+            }
+        }
+    }
+
+    private fun read(): InputFingerprint? {
+        if (!Files.isRegularFile(state)) {
+            return null
+        }
+
+        return try {
+            val inputs = linkedMapOf<String, String>()
+            Files.readAllLines(state, Charsets.UTF_8)
+                .filter { it.isNotBlank() }
+                .forEach {
+                    val (hash, key) = it.split(" ", limit = 2)
+                    inputs[key] = hash
+                }
+            InputFingerprint(inputs)
+        } catch (ex: Exception) {
+            log.warn("failed to read previous inputs {} ({})", state, ex.message)
+            null
+        }
+    }
+
+    companion object {
+        const val NAME = ".openapi-processor-inputs"
+
+        /**
+         * create the up-to-date check if it is enabled by the `incremental` mapping option.
+         *
+         * @param processor processor name & version
+         * @param processorOptions the processor options
+         * @param mapping the mapping of the run
+         * @return the up-to-date check or null if it is disabled
+         */
+        fun of(processor: String, processorOptions: Map<String, *>, mapping: Mapping?): IncrementalBuild? {
+            if (!isEnabled(mapping)) {
+                return null
+            }
+
+            val targetDir = processorOptions["targetDir"]?.toString() ?: return null
+            return IncrementalBuild(Path.of(toURI(targetDir)), InputFingerprint.of(processor, processorOptions))
+        }
+
+        /**
+         * check if the up-to-date check is enabled by the `incremental` mapping option.
+         *
+         * @param mapping the mapping of the run
+         */
+        fun isEnabled(mapping: Mapping?): Boolean {
+            return mapping?.options?.incremental ?: false
+        }
+
+        /**
+         * the id of a processor, its class name and the versions of the processor & core jars. A new version of
+         * the processor or of core makes the next run a full run.
+         *
+         * @param processor the processor class
+         * @return the processor id
+         */
+        fun processorId(processor: Class<*>): String {
+            return "${processor.name}:${version(processor)} core:${version(IncrementalBuild::class.java)}"
+        }
+
+        /**
+         * the implementation version of the jar of the class. Without a version (e.g. a local build) it is the size
+         * & modification time of the jar, or the location of the classes (classes dir).
+         */
+        private fun version(type: Class<*>): String {
+            val version = type.`package`?.implementationVersion
+            if (version != null) {
+                return version
+            }
+
+            return try {
+                val location = type.protectionDomain?.codeSource?.location ?: return "unknown"
+                val path = Path.of(location.toURI())
+                if (Files.isRegularFile(path)) {
+                    "${Files.size(path)}-${Files.getLastModifiedTime(path).toMillis()}"
+                } else {
+                    location.toString()
+                }
+            } catch (_: Exception) {
+                "unknown"
+            }
+        }
+    }
+}
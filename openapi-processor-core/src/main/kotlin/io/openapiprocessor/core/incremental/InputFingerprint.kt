@@ -0,0 +1,88 @@
+/*
+ * Copyright 2026 https://github.com/openapi-processor/openapi-processor-base
+ * PDX-License-Identifier: Apache-2.0
+ */
+
+package io.openapiprocessor.core.incremental
+
+import io.openapiprocessor.core.parser.openapi.DocumentPrefetcher
+import io.openapiprocessor.core.parser.openapi.cache.contentHash
+import io.openapiprocessor.core.processor.MappingReader
+import io.openapiprocessor.core.support.toURI
+import io.openapiprocessor.jackson.JacksonConverter
+import io.openapiprocessor.jsonschema.reader.UriReader
+
+/**
+ * content hashes of the inputs of a processor run: the processor (name & version), the processor options, the
+ * mapping and each document of the OpenAPI description.
+ *
+ * @param inputs input key to content hash
+ */
+class InputFingerprint(val inputs: Map<String, String>) {
+
+    /**
+     * the keys of the inputs that are different in [other], i.e. changed, added or removed inputs.
+     */
+    fun diff(other: InputFingerprint): Set<String> {
+        return (inputs.keys + other.inputs.keys)
+            .filter { inputs[it] != other.inputs[it] }
+            .toSortedSet()
+    }
+
+    companion object {
+        const val PROCESSOR = "processor"
+        const val OPTIONS = "options"
+        const val MAPPING = "mapping"
+        const val DOCUMENT = "document:"
+
+        /**
+         * create the fingerprint of a processor run.
+         *
+         * @param processor processor name & version
+         * @param processorOptions the processor options
+         */
+        fun of(processor: String, processorOptions: Map<String, *>): InputFingerprint {
+            val inputs = global(processor, processorOptions)
+
+            val apiPath = processorOptions["apiPath"]?.toString()
+            if (apiPath != null) {
+                val prefetcher = DocumentPrefetcher(UriReader(), JacksonConverter())
+                prefetcher.prefetch(toURI(apiPath))
+                prefetcher.documentHashes.forEach { (uri, hash) ->
+                    inputs["$DOCUMENT$uri"] = hash
+                }
+            }
+
+            return InputFingerprint(inputs)
+        }
+
+        /**
+         * a hash of the global inputs of a processor run, i.e. the inputs without the documents. Any change of a
+         * global input may change all generated sources.
+         *
+         * @param processor processor name & version
+         * @param processorOptions the processor options
+         */
+        fun globalHash(processor: String, processorOptions: Map<String, *>): String {
+            val inputs = global(processor, processorOptions)
+            return contentHash(inputs.entries.joinToString("\n") { "${it.value} ${it.key}" })
+        }
+
+        private fun global(processor: String, processorOptions: Map<String, *>): MutableMap<String, String> {
+            val inputs = linkedMapOf<String, String>()
+            inputs[PROCESSOR] = contentHash(processor)
+
+            val options = processorOptions.entries
+                .sortedBy { it.key }
+                .joinToString("\n") { "${it.key}=${it.value}" }
+            inputs[OPTIONS] = contentHash(options)
+
+            val mapping = processorOptions[MAPPING]?.toString()
+            if (!mapping.isNullOrEmpty()) {
+                inputs[MAPPING] = contentHash(MappingReader().readSource(mapping))
+            }
+
+            return inputs
+        }
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2026 https://github.com/openapi-processor/openapi-processor-base
+ * PDX-License-Identifier: Apache-2.0
+ */
+
+package io.openapiprocessor.core.incremental
+
+import io.openapiprocessor.core.model.DataTypes
+import io.openapiprocessor.core.model.Endpoint
+import io.openapiprocessor.core.model.Interface
+import io.openapiprocessor.core.model.datatypes.*
+
+/**
+ * the OpenAPI elements (see [SpecElements]) each generated source depends on. An interface depends on the elements
+ * of its endpoints. A model type depends on the elements of all endpoints that use it, directly or nested. A model
+ * type that is not used by an endpoint (e.g. an unreferenced schema) has no known dependencies.
+ *
+ * @param elements the elements of the OpenAPI description
+ * @param dataTypes the data types of the api
+ * @param generatedPackageName the base package of the generated sources
+ */
+class SourceDependencies(
+    private val elements: SpecElements,
+    private val dataTypes: DataTypes,
+    private val generatedPackageName: String
+) {
+    private val sources: MutableMap<String, Dependencies> = mutableMapOf()
+
+    /**
+     * add an endpoint of an interface.
+     *
+     * @param itf the interface
+     * @param path the path of the endpoint
+     * @param endpoint the endpoint or null if its conversion failed
+     */
+    fun add(itf: Interface, path: String, endpoint: Endpoint?) {
+        val dependencies = elements.dependencies(path)
+
+        synchronized(sources) {
+            get(source(itf.getPackageName(), itf.getInterfaceName())).add(dependencies)
+
+            if (endpoint != null) {
+                collect(endpoint).forEach {
+                    get(it).add(dependencies)
+                }
+            }
+        }
+    }
+
+    /**
+     * the elements a source depends on.
+     *
+     * @param packageName package of the source
+     * @param className class name of the source
+     * @return element key to content hash or null if the dependencies are not known
+     */
+    fun get(packageName: String, className: String): Map<String, String>? {
+        val dependencies = synchronized(sources) {
+            sources[source(packageName, className)]
+        }
+
+        return dependencies?.elements
+    }
+
+    private fun get(source: String): Dependencies {
+        return sources.getOrPut(source) { Dependencies() }
+    }
+
+    private fun collect(endpoint: Endpoint): Set<String> {
+        val types = mutableSetOf<String>()
+        endpoint.parameters.forEach { collect(it.dataType, types) }
+        endpoint.requestBodies.forEach { collect(it.dataType, types) }
+        endpoint.responses.values.forEach { responses ->
+            responses.forEach { collect(it.responseType, types) }
+        }
+        return types
+    }
+
+    private fun collect(dataType: DataType, types: MutableSet<String>) {
+        when (dataType) {
+            is PropertyDataType -> {
+                collect(dataType.dataType, types)
+            }
+            is LazyDataType -> {
+                dataTypes.find(dataType.getName())?.let { collect(it, types) }
+            }
+            is ModelDataType -> {
+                if (!types.add(source(dataType))) {
+                    return
+                }
+
+                dataType.forEach { _, propDataType -> collect(propDataType, types) }
+                dataType.implementsDataTypes.forEach { collect(it, types) }
+            }
+            is InterfaceDataType -> {
+                if (!types.add(source(dataType))) {
+                    return
+                }
+
+                dataType.items.forEach { collect(it, types) }
+            }
+            is StringEnumDataType -> {
+                types.add(source(dataType))
+            }
+            is AnyOneOfObjectDataType -> {
+                dataType.forEach { collect(it, types) }
+            }
+            is CollectionDataType -> {
+                collect(dataType.item, types)
+            }
+            is MappedDataType -> {
+                dataType.genericTypes.forEach { collect(it, types) }
+            }
+            is GenericDataType -> {
+                val found = dataTypes.find(dataType.getName())
+                if (found != null && dataType.getPackageName().startsWith(generatedPackageName)) {
+                    collect(found, types)
+                }
+
+                dataType.generics.forEach { collect(it, types) }
+            }
+            is ResultDataType -> {
+                collect(dataType.dataType, types)
+            }
+            is SingleDataType -> {
+                collect(dataType.dataType, types)
+            }
+            is SourceDataType -> {
+                dataType.sourceDataType?.let { collect(it, types) }
+            }
+        }
+    }
+
+    private fun source(dataType: DataType): String {
+        return source(dataType.getPackageName(), dataType.getTypeName())
+    }
+
+    private fun source(packageName: String, className: String): String {
+        return "$packageName.$className"
+    }
+
+    /**
+     * the merged dependencies of the endpoints of a source. They are unknown if the dependencies of one of the
+     * endpoints are unknown.
+     */
+    private class Dependencies {
+        var elements: MutableMap<String, String>? = sortedMapOf()
+            private set
+
+        fun add(dependencies: Map<String, String>?) {
+            if (dependencies == null) {
+                elements = null
+                return
+            }
+
+            elements?.putAll(dependencies)
+        }
+    }
+}
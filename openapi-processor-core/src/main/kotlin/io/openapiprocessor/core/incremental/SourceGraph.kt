@@ -0,0 +1,109 @@
+/*
+ * Copyright 2026 https://github.com/openapi-processor/openapi-processor-base
+ * PDX-License-Identifier: Apache-2.0
+ */
+
+package io.openapiprocessor.core.incremental
+
+import io.openapiprocessor.core.writer.java.ChangedPathWriter
+import org.slf4j.Logger
+import org.slf4j.LoggerFactory
+import java.io.IOException
+import java.nio.file.Files
+import java.nio.file.Path
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * the generated sources of the last run with the OpenAPI elements (see [SpecElements]) they depend on. It is stored
+ * in the target dir. A source is unchanged if the run has the same global inputs (processor, options & mapping) and
+ * the same dependencies as the last run.
+ *
+ * It drops the stored graph when it is created and writes the new graph in [write], i.e. after all sources are
+ * written. If a run fails, the next run writes all sources.
+ *
+ * @param targetDir the target dir
+ * @param inputs hash of the global inputs of the run
+ */
+class SourceGraph(targetDir: Path, private val inputs: String) {
+    private val log: Logger = LoggerFactory.getLogger(this.javaClass.name)
+
+    private val graph: Path = targetDir.toAbsolutePath().normalize().resolve(NAME)
+    private val previous: Map<String, Map<String, String>> = read()
+    private val current: MutableMap<String, Map<String, String>> = ConcurrentHashMap()
+
+    init {
+        try {
+            Files.deleteIfExists(graph)
+        } catch (ex: IOException) {
+            log.warn("failed to delete source graph {} ({})", graph, ex.message)
+        }
+    }
+
+    /**
+     * add a source of this run.
+     *
+     * @param source the source, i.e. the qualified class name
+     * @param dependencies element key to content hash
+     * @return true if the source has the same dependencies as in the last run, false otherwise
+     */
+    fun add(source: String, dependencies: Map<String, String>): Boolean {
+        current[source] = dependencies
+        return previous[source] == dependencies
+    }
+
+    /**
+     * store the graph of this run.
+     */
+    fun write() {
+        Files.createDirectories(graph.parent)
+        ChangedPathWriter(graph).use { writer ->
+            writer.write("$INPUTS $inputs\n")
+
+            current.keys.sorted().forEach { source ->
+                writer.write("$SOURCE $source\n")
+                current.getValue(source).forEach { (key, hash) ->
+                    writer.write("$hash $key\n")
+                }
+            }
+        }
+    }
+
+    private fun read(): Map<String, Map<String, String>> {
+        if (!Files.isRegularFile(graph)) {
+            return emptyMap()
+        }
+
+        return try {
+            val lines = Files.readAllLines(graph, Charsets.UTF_8)
+            if (lines.firstOrNull() != "$INPUTS $inputs") {
+                log.debug("changed global inputs, writing all sources")
+                return emptyMap()
+            }
+
+            val sources = mutableMapOf<String, MutableMap<String, String>>()
+            var dependencies = mutableMapOf<String, String>()
+            lines.drop(1)
+                .filter { it.isNotBlank() }
+                .forEach {
+                    val (first, second) = it.split(" ", limit = 2)
+                    if (first == SOURCE) {
+                        dependencies = sortedMapOf()
+                        sources[second] = dependencies
+                    } else {
+                        dependencies[second] = first
+                    }
+                }
+            sources
+        } catch (ex: Exception) {
+            log.warn("failed to read source graph {} ({})", graph, ex.message)
+            emptyMap()
+        }
+    }
+
+    companion object {
+        const val NAME = ".openapi-processor-sources"
+
+        private const val INPUTS = "inputs"
+        private const val SOURCE = "source"
+    }
+}
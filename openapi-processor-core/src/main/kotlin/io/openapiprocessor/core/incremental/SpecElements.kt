@@ -0,0 +1,176 @@
+/*
+ * Copyright 2026 https://github.com/openapi-processor/openapi-processor-base
+ * PDX-License-Identifier: Apache-2.0
+ */
+
+package io.openapiprocessor.core.incremental
+
+import io.openapiprocessor.core.parser.openapi.cache.contentHash
+import java.net.URI
+import java.net.URLDecoder
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * the elements of an OpenAPI description an endpoint depends on, with the content hash of each element. An element
+ * is
+ *
+ * - the api document without its paths & components ([ROOT], e.g. the servers),
+ * - a path item ([PATH]),
+ * - the target of a `$ref` ([REF]).
+ *
+ * The content of an element includes its inline objects and its `$ref`s as strings. The target of a `$ref` is an
+ * element of its own, i.e. an endpoint depends on the path item and on all elements that are reachable from it.
+ *
+ * @param documents the converted documents of the OpenAPI description by uri, the first one is the api document
+ */
+class SpecElements(documents: Map<URI, Any>) {
+    private val documents: Map<URI, Any> = documents.mapKeys { it.key.normalize() }
+    private val apiUri: URI? = this.documents.keys.firstOrNull()
+    private val elements: MutableMap<String, Element> = ConcurrentHashMap()
+
+    /**
+     * the elements the endpoints of a path depend on.
+     *
+     * @param path the path of the endpoints
+     * @return element key to content hash, or null if a `$ref` could not be resolved
+     */
+    fun dependencies(path: String): Map<String, String>? {
+        val apiUri = apiUri ?: return null
+        val api = documents[apiUri] as? Map<*, *> ?: return null
+
+        val result = sortedMapOf<String, String>()
+        val root = elements.computeIfAbsent(ROOT) {
+            Element(ROOT, hash(api.filterKeys { it != "paths" && it != "components" }), emptyList())
+        }
+        result[root.key] = root.hash!!
+
+        val pathKey = "$PATH$path"
+        val pending = ArrayDeque<Element>()
+        pending.add(elements.computeIfAbsent(pathKey) {
+            create(pathKey, apiUri, (api["paths"] as? Map<*, *>)?.get(path))
+        })
+
+        while (pending.isNotEmpty()) {
+            val element = pending.removeFirst()
+            val hash = element.hash ?: return null
+            if (result.put(element.key, hash) != null) {
+                continue
+            }
+
+            element.refs.forEach { ref ->
+                pending.add(elements.computeIfAbsent(ref.key) { create(ref.key, ref.document, ref.target) })
+            }
+        }
+
+        return result
+    }
+
+    private fun create(key: String, document: URI?, node: Any?): Element {
+        if (document == null || node == null) {
+            return Element(key, null, emptyList())
+        }
+
+        val refs = mutableListOf<Ref>()
+        collectRefs(document, node, refs)
+        return Element(key, hash(node), refs)
+    }
+
+    private fun collectRefs(document: URI, node: Any?, refs: MutableList<Ref>) {
+        when (node) {
+            is Map<*, *> -> {
+                node.forEach { (key, value) ->
+                    if (key == "\$ref" && value is String) {
+                        refs.add(resolve(document, value))
+                    } else {
+                        collectRefs(document, value, refs)
+                    }
+                }
+            }
+            is Collection<*> -> {
+                node.forEach { collectRefs(document, it, refs) }
+            }
+        }
+    }
+
+    private fun resolve(base: URI, ref: String): Ref {
+        return try {
+            val path = ref.substringBefore("#")
+            val pointer = ref.substringAfter("#", "")
+            val document = if (path.isEmpty()) base else base.resolve(URI(path)).normalize()
+            Ref("$REF$document#$pointer", document, find(documents[document], pointer))
+        } catch (_: Exception) {
+            Ref("$REF$base|$ref", null, null)
+        }
+    }
+
+    private fun find(document: Any?, pointer: String): Any? {
+        var node = document
+        pointer.split("/")
+            .drop(1)
+            .forEach { token ->
+                val name = URLDecoder.decode(token.replace("+", "%2B"), Charsets.UTF_8)
+                    .replace("~1", "/")
+                    .replace("~0", "~")
+
+                node = when (val current = node) {
+                    is Map<*, *> -> current[name]
+                    is List<*> -> current.getOrNull(name.toIntOrNull() ?: -1)
+                    else -> null
+                }
+            }
+        return node
+    }
+
+    private fun hash(node: Any?): String {
+        val content = StringBuilder()
+        write(node, content)
+        return contentHash(content.toString())
+    }
+
+    private fun write(node: Any?, content: StringBuilder) {
+        when (node) {
+            is Map<*, *> -> {
+                content.append('{')
+                node.forEach { (key, value) ->
+                    write(key, content)
+                    content.append(':')
+                    write(value, content)
+                    content.append(',')
+                }
+                content.append('}')
+            }
+            is Collection<*> -> {
+                content.append('[')
+                node.forEach {
+                    write(it, content)
+                    content.append(',')
+                }
+                content.append(']')
+            }
+            is String -> {
+                content.append('"')
+                content.append(node.replace("\\", "\\\\").replace("\"", "\\\""))
+                content.append('"')
+            }
+            else -> {
+                content.append(node)
+            }
+        }
+    }
+
+    /**
+     * an element with its content hash and its `$ref`s. The hash is null if the element was not found.
+     */
+    private class Element(val key: String, val hash: String?, val refs: List<Ref>)
+
+    /**
+     * a `$ref` and its target. The document is null if the `$ref` is not a valid uri.
+     */
+    private class Ref(val key: String, val document: URI?, val target: Any?)
+
+    companion object {
+        const val ROOT = "root"
+        const val PATH = "path:"
+        const val REF = "ref:"
+    }
+}
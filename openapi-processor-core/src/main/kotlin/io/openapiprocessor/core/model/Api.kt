@@ -5,6 +5,7 @@
 
 package io.openapiprocessor.core.model
 
+import io.openapiprocessor.core.incremental.SourceDependencies
 import io.openapiprocessor.core.model.datatypes.InterfaceDataType
 import io.openapiprocessor.core.model.datatypes.ModelDataType
 import io.openapiprocessor.core.model.datatypes.StringEnumDataType
@@ -26,6 +27,11 @@ class Api(
      */
     private val dataTypes: DataTypes = DataTypes()
 ) {
+    /**
+     * the OpenAPI elements the generated sources depend on, only collected by an incremental run.
+     */
+    private var sources: SourceDependencies? = null
+
     fun getInterfaces(): List<Interface> {
         return interfaces
     }
@@ -46,6 +52,14 @@ class Api(
         return dataTypes
     }
 
+    fun getSources(): SourceDependencies? {
+        return sources
+    }
+
+    fun setSources(sources: SourceDependencies?) {
+        this.sources = sources
+    }
+
     fun forEachInterface(action: Consumer<Interface>) {
         interfaces.forEach(action)
     }
@@ -10,6 +10,10 @@ import io.openapiprocessor.core.model.datatypes.*
 /**
  * ref counts used model data types honoring data type mappings to generate only required (used)
  * classes.
+ *
+ * The nested data types of a named object data type are collected only on its first use. Its nested
+ * data types are already ref counted from that first use, so a shared data type is not walked again for
+ * each endpoint or property that uses it.
  */
 class DataTypeCollector(
     private val dataTypes: DataTypes, private val generatedPackageName: String) {
@@ -23,7 +27,10 @@ class DataTypeCollector(
                 collect(dataType.item)
             }
             is ObjectDataType -> {
-                dataTypes.addRef(dataType.getName())
+                if (!dataTypes.addRefCollect(dataType.getName())) {
+                    return
+                }
+
                 dataType.forEach { _, propDataType ->
                     collect(propDataType)
                 }
@@ -47,7 +54,10 @@ class DataTypeCollector(
                 }
             }
             is AllOfObjectDataType -> {
-                dataTypes.addRef(dataType.getName())
+                if (!dataTypes.addRefCollect(dataType.getName())) {
+                    return
+                }
+
                 dataType.forEach { _, propDataType ->
                     collect(propDataType)
                 }
@@ -65,6 +75,9 @@ class DataTypeCollector(
             }
             is InterfaceDataType -> {
                 dataTypes.addRef(dataType.getName())
+
+                // the converter may add items after the interface was collected, so the items are always
+                // walked. The items are object data types, i.e. their nested data types are collected once.
                 dataType.items.forEach {
                     collect(it)
                 }
@@ -8,24 +8,71 @@ package io.openapiprocessor.core.model
 import io.openapiprocessor.core.model.datatypes.*
 import org.slf4j.Logger
 import org.slf4j.LoggerFactory
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.ConcurrentSkipListMap
+import java.util.concurrent.atomic.AtomicBoolean
+import java.util.concurrent.atomic.AtomicLong
 
 /**
  * Container of data types from OpenAPI '#/component/schemas'.
+ *
+ * It is shared by endpoints that are converted in parallel. Lookups and ref counting are lock-free, adding
+ * and removing data types is synchronized. The model, enum & interface data types are indexed by kind when
+ * they are used the first time, so the used data types of a kind are found without a scan of all data types.
  */
 class DataTypes {
     private val log: Logger = LoggerFactory.getLogger(this.javaClass.name)
 
-    class DataTypeInfo(val dataType: DataType, var refCount: Long = 0) {
-        fun addRef() {
-            refCount++
+    class DataTypeInfo(val dataType: DataType, refCount: Long = 0, internal val sequence: Long = 0) {
+        private val refs = AtomicLong(refCount)
+
+        // nested data types already collected
+        private val collected = AtomicBoolean(false)
+
+        val refCount: Long
+            get() = refs.get()
+
+        fun addRef(): Long {
+            return refs.incrementAndGet()
+        }
+
+        fun relRef(): Long {
+            return refs.updateAndGet { (it - 1).coerceAtLeast(0) }
         }
 
-        fun relRef() {
-            refCount = (refCount -1).coerceAtLeast(0)
+        /**
+         * mark as collected.
+         *
+         * @return true if it was not collected before, false otherwise
+         */
+        fun collect(): Boolean {
+            return collected.compareAndSet(false, true)
         }
     }
 
-    private val dataTypeInfos: MutableMap<String, DataTypeInfo> = mutableMapOf()
+    private enum class Kind { MODEL, ENUM, INTERFACE }
+
+    private val dataTypeInfos: MutableMap<String, DataTypeInfo> = ConcurrentHashMap()
+
+    // insertion order, guarded by lock
+    private val ordered: MutableMap<String, DataTypeInfo> = linkedMapOf()
+    private var sequence = 0L
+    private val lock = Any()
+
+    // insertion sequence to name of the data types of a kind that were used, see markUsed()
+    private val used: Map<Kind, MutableMap<Long, String>> = Kind.entries.associateWith { ConcurrentSkipListMap() }
+
+    /**
+     * run a find/add sequence as a single step.
+     *
+     * @param action the action to run while holding the lock
+     * @return the result of action
+     */
+    fun <T> locked(action: DataTypes.() -> T): T {
+        synchronized(lock) {
+            return action()
+        }
+    }
 
     /**
      * provides the *object* data types (model classes) used by the api endpoints.
@@ -34,10 +81,7 @@ class DataTypes {
      * @return list of object data types
      */
     fun getModelDataTypes(): Collection<ModelDataType> {
-        return dataTypeInfos.values
-            .filter { it.dataType is ModelDataType }
-            .filter { it.refCount > 0 }
-            .map { it.dataType as ModelDataType }
+        return getUsed(Kind.MODEL)
     }
 
     /**
@@ -47,10 +91,7 @@ class DataTypes {
      * @return list of enum data types
      */
     fun getEnumDataTypes(): Collection<StringEnumDataType> {
-        return dataTypeInfos.values
-            .filter { it.dataType is StringEnumDataType }
-            .filter { it.refCount > 0 }
-            .map { it.dataType as StringEnumDataType }
+        return getUsed(Kind.ENUM)
     }
 
     /**
@@ -60,10 +101,34 @@ class DataTypes {
      * @return list of object data types
      */
     fun getInterfaceDataTypes(): Collection<InterfaceDataType> {
-        return dataTypeInfos.values
-            .filter { it.dataType is InterfaceDataType }
-            .filter { it.refCount > 0 }
-            .map { it.dataType as InterfaceDataType }
+        return getUsed(Kind.INTERFACE)
+    }
+
+    /**
+     * the used data types of a kind in insertion order. The index may contain data types that are not used anymore
+     * or that were replaced, so it checks the current data type.
+     */
+    @Suppress("UNCHECKED_CAST")
+    private fun <T: DataType> getUsed(kind: Kind): Collection<T> {
+        return used.getValue(kind).entries
+            .mapNotNull { (position, name) -> dataTypeInfos[name]?.takeIf { it.sequence == position } }
+            .filter { it.refCount > 0 && isKind(kind, it.dataType) }
+            .map { it.dataType as T }
+    }
+
+    /**
+     * add a data type to the index of its kind if its ref count did change from 0 to 1.
+     */
+    private fun markUsed(name: String, info: DataTypeInfo, refCount: Long) {
+        if (refCount != 1L) {
+            return
+        }
+
+        Kind.entries.forEach { kind ->
+            if (isKind(kind, info.dataType)) {
+                used.getValue(kind)[info.sequence] = name
+            }
+        }
     }
 
     /**
@@ -82,7 +147,24 @@ class DataTypes {
      * @param dataType the source data type
      */
     fun add(name: String, dataType: DataType) {
-        dataTypeInfos[name] = DataTypeInfo(dataType)
+        synchronized(lock) {
+            put(name, dataType)
+        }
+    }
+
+    private fun put(name: String, dataType: DataType) {
+        // a replaced data type keeps its position, like in ordered
+        val info = DataTypeInfo(dataType, sequence = ordered[name]?.sequence ?: sequence++)
+        dataTypeInfos[name] = info
+        ordered[name] = info
+    }
+
+    private fun isKind(kind: Kind, dataType: DataType): Boolean {
+        return when (kind) {
+            Kind.MODEL -> dataType is ModelDataType
+            Kind.ENUM -> dataType is StringEnumDataType
+            Kind.INTERFACE -> dataType is InterfaceDataType
+        }
     }
 
     /**
@@ -91,7 +173,37 @@ class DataTypes {
      * @param dataType the source data type
      */
     fun del(dataType: DataType) {
-        dataTypeInfos.remove (dataType.getName())
+        synchronized(lock) {
+            val name = dataType.getName()
+            dataTypeInfos.remove(name)
+            ordered.remove(name)
+            used.values.forEach { it.values.remove(name) }
+        }
+    }
+
+    /**
+     * remove all data types that are not in [names], i.e. the data types added after [getNames]. Used to roll back
+     * a failed conversion.
+     *
+     * @param names the data type names to keep
+     */
+    fun retainAll(names: Set<String>) {
+        synchronized(lock) {
+            dataTypeInfos.keys.retainAll(names)
+            ordered.keys.retainAll(names)
+            used.values.forEach { it.values.retainAll(names) }
+        }
+    }
+
+    /**
+     * the names of the known data types.
+     *
+     * @return the data type names
+     */
+    fun getNames(): Set<String> {
+        synchronized(lock) {
+            return ordered.keys.toSet()
+        }
     }
 
     /**
@@ -126,8 +238,30 @@ class DataTypes {
             return
         }
 
-        info.addRef()
-        log.debug("ref {} {}", name, info.refCount)
+        val refCount = info.addRef()
+        markUsed(name, info, refCount)
+        log.debug("ref {} {}", name, refCount)
+    }
+
+    /**
+     * increment usage count of a data type and mark it as collected. The nested data types of a data type need to
+     * be collected only once.
+     *
+     * @param name the data type name
+     * @return true if the data type was not collected before (or is unknown), false otherwise
+     */
+    fun addRefCollect(name: String): Boolean {
+        val info: DataTypeInfo? = dataTypeInfos[name]
+        if (info == null) {
+            log.error("unknown data type $name")
+            return true
+        }
+
+        val refCount = info.addRef()
+        markUsed(name, info, refCount)
+        log.debug("ref {} {}", name, refCount)
+
+        return info.collect()
     }
 
     /**
@@ -142,8 +276,8 @@ class DataTypes {
             return
         }
 
-        info.relRef()
-        log.debug("ref {} {}", name, info.refCount)
+        val refCount = info.relRef()
+        log.debug("ref {} {}", name, refCount)
     }
 
     val size: Int
@@ -153,13 +287,15 @@ class DataTypes {
      * copy the data types. The data types itself are not copied but referenced. The ref count is not copied.
      */
     fun copy(): DataTypes {
-        val copy = DataTypes()
+        synchronized(lock) {
+            val copy = DataTypes()
 
-        for ((k, v) in dataTypeInfos) {
-            copy.dataTypeInfos.put(k, DataTypeInfo(v.dataType))
-        }
+            for ((k, v) in ordered) {
+                copy.put(k, v.dataType)
+            }
 
-        return copy
+            return copy
+        }
     }
 
     /**
@@ -168,9 +304,11 @@ class DataTypes {
      * @return list of data types
      */
     fun getDataTypes(): Collection<DataType> {
-        return dataTypeInfos.values
-            .filter { it.dataType !is MappedDataType }
-            .map { it.dataType }
+        synchronized(lock) {
+            return ordered.values
+                .filter { it.dataType !is MappedDataType }
+                .map { it.dataType }
+        }
     }
 
     /**
@@ -184,8 +322,10 @@ class DataTypes {
      * debug.
      */
     fun print() {
-        dataTypeInfos.forEach {
-            println("${it.key} (${it.value.dataType.getPackageName()}) ${it.value.refCount}")
+        synchronized(lock) {
+            ordered.forEach {
+                println("${it.key} (${it.value.dataType.getPackageName()}) ${it.value.refCount}")
+            }
         }
     }
 }
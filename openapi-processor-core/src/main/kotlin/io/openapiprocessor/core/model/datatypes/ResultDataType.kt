@@ -11,7 +11,7 @@ package io.openapiprocessor.core.model.datatypes
 class ResultDataType(
     private val name: String,
     private val pkg: String,
-    private val dataType: DataType, // response data type
+    val dataType: DataType, // response data type
     private val genericTypes: List<GenericDataType> = emptyList(),
     private val plainReplacement: Boolean = false
 ): DataType {
@@ -11,7 +11,7 @@ package io.openapiprocessor.core.model.datatypes
 class SingleDataType(
     private val name: String,
     private val pkg: String,
-    private val dataType: DataType
+    val dataType: DataType
 ): DataType {
 
     override fun getName(): String {
@@ -6,6 +6,7 @@
 package io.openapiprocessor.core.parser
 
 import io.openapiprocessor.core.openapi.OpenApi
+import io.openapiprocessor.core.parser.openapi.ParserOptions
 import io.openapiprocessor.core.parser.openapi.Parser as OpenApiParser
 import java.util.*
 import org.slf4j.Logger
@@ -13,8 +14,10 @@ import org.slf4j.LoggerFactory
 
 /**
  * OpenAPI parser abstraction. Supports internal, swagger or openapi4j parser.
+ *
+ * @param documents optional in-memory cache of converted documents (internal parser only)
  */
-class OpenApiParser {
+class OpenApiParser(private val documents: MutableMap<String, Any>? = null) {
     private val log: Logger = LoggerFactory.getLogger(this.javaClass.name)
 
     fun parse(processorOptions: Map<String, *>): OpenApi {
@@ -33,7 +36,7 @@ class OpenApiParser {
             }
             ParserType.INTERNAL.name -> {
                 log.info("using INTERNAL parser")
-                OpenApiParser().parse(apiPath)
+                OpenApiParser(ParserOptions.of(processorOptions), documents).parse(apiPath)
             }
             else -> {
                 if (parser != null) {
@@ -43,7 +46,7 @@ class OpenApiParser {
                     log.warn("  SWAGGER   (OpenAPI 3.0)   - alternative")
                     log.warn("  OPENAPI4J (OpenAPI 3.0)   - deprecated")
                 }
-                OpenApiParser().parse(apiPath)
+                OpenApiParser(ParserOptions.of(processorOptions), documents).parse(apiPath)
             }
         }
     }
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2026 https://github.com/openapi-processor/openapi-processor-base
+ * PDX-License-Identifier: Apache-2.0
+ */
+
+package io.openapiprocessor.core.parser.openapi
+
+import io.openapiprocessor.core.parser.openapi.cache.contentHash
+import io.openapiprocessor.interfaces.Converter
+import io.openapiprocessor.interfaces.Reader
+import org.slf4j.Logger
+import org.slf4j.LoggerFactory
+import java.io.ByteArrayInputStream
+import java.io.InputStream
+import java.net.URI
+import java.util.concurrent.Callable
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.Executors
+
+/**
+ * loads the documents of a multi-file OpenAPI description in parallel. Starting at the root document it
+ * follows the (external) `$ref`s level by level, reads and converts the documents of a level in parallel.
+ *
+ * The parser uses [reader] and [converter] which return the prefetched content/document and fall back to the
+ * wrapped reader/converter for anything that was not prefetched.
+ */
+class DocumentPrefetcher(
+    private val baseReader: Reader,
+    private val baseConverter: Converter,
+    private val threads: Int = Runtime.getRuntime().availableProcessors()
+) {
+    private val log: Logger = LoggerFactory.getLogger(this.javaClass.name)
+
+    private val contents: MutableMap<URI, ByteArray> = ConcurrentHashMap()
+    private val documents: MutableMap<String, Any> = ConcurrentHashMap()
+
+    val reader: Reader = Reader { uri -> read(uri) }
+    val converter: Converter = Converter { api -> convert(api) }
+
+    /**
+     * content hashes of the prefetched documents.
+     */
+    val documentHashes: Map<URI, String>
+        get() = contents.mapValues { contentHash(String(it.value, Charsets.UTF_8)) }
+
+    /**
+     * prefetch the document tree starting at [uri].
+     *
+     * @param uri uri of the root document
+     */
+    fun prefetch(uri: URI) {
+        val executor = Executors.newFixedThreadPool(threads)
+        try {
+            val seen = mutableSetOf(uri)
+            var level = listOf(uri)
+
+            while (level.isNotEmpty()) {
+                val tasks = level.map { Callable { load(it) } }
+
+                val next = mutableListOf<URI>()
+                executor.invokeAll(tasks).forEach { task ->
+                    task.get().forEach { ref ->
+                        if (seen.add(ref)) {
+                            next.add(ref)
+                        }
+                    }
+                }
+
+                level = next
+            }
+
+            log.debug("prefetched {} documents", contents.size)
+        } finally {
+            executor.shutdownNow()
+        }
+    }
+
+    private fun load(uri: URI): List<URI> {
+        return try {
+            val content = baseReader.read(uri).use { it.readAllBytes() }
+            contents[uri] = content
+
+            val text = String(content, Charsets.UTF_8)
+            val document: Any = baseConverter.convert(text)!!
+            documents[text] = document
+
+            val refs = mutableListOf<URI>()
+            collectRefs(uri, document, refs)
+            refs
+        } catch (ex: Exception) {
+            // the parser will report it when it loads the document
+            log.debug("failed to prefetch {}", uri, ex)
+            emptyList()
+        }
+    }
+
+    private fun collectRefs(base: URI, node: Any?, refs: MutableList<URI>) {
+        when (node) {
+            is Map<*, *> -> {
+                node.forEach { (key, value) ->
+                    if (key == "\$ref" && value is String) {
+                        val ref = resolve(base, value)
+                        if (ref != null) {
+                            refs.add(ref)
+                        }
+                    } else {
+                        collectRefs(base, value, refs)
+                    }
+                }
+            }
+            is Collection<*> -> {
+                node.forEach { collectRefs(base, it, refs) }
+            }
+        }
+    }
+
+    private fun resolve(base: URI, ref: String): URI? {
+        val document = ref.substringBefore("#")
+        if (document.isEmpty()) {
+            return null
+        }
+
+        return try {
+            val uri = URI(document)
+            if (uri.isAbsolute) {
+                return uri
+            }
+
+            if (base.isOpaque) {
+                return null
+            }
+
+            base.resolve(uri)
+        } catch (ex: Exception) {
+            null
+        }
+    }
+
+    private fun read(uri: URI): InputStream {
+        val content = contents[uri] ?: return baseReader.read(uri)
+        return ByteArrayInputStream(content)
+    }
+
+    private fun convert(api: String): Any {
+        return documents[api] ?: baseConverter.convert(api)!!
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 https://github.com/openapi-processor/openapi-processor-base
+ * PDX-License-Identifier: Apache-2.0
+ */
+
+package io.openapiprocessor.core.parser.openapi
+
+import io.openapiprocessor.core.parser.openapi.cache.contentHash
+import io.openapiprocessor.interfaces.Converter
+import io.openapiprocessor.interfaces.Reader
+import java.io.ByteArrayInputStream
+import java.io.InputStream
+import java.net.URI
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * records the documents a parser run reads, i.e. the api document and all documents it references, with the content
+ * hash and the converted document (the object tree) of each document.
+ *
+ * @param baseReader the reader that reads the documents
+ * @param baseConverter the converter that converts the documents
+ */
+class DocumentRecorder(private val baseReader: Reader, private val baseConverter: Converter) {
+    private val hashes: MutableMap<URI, String> = ConcurrentHashMap()
+    private val converted: MutableMap<String, Any> = ConcurrentHashMap()
+
+    val reader: Reader = Reader { uri -> read(uri) }
+    val converter: Converter = Converter { api -> convert(api) }
+
+    /**
+     * uri to content hash of the read documents.
+     */
+    val documentHashes: Map<URI, String>
+        get() = hashes
+
+    /**
+     * the converted documents by uri, the document of [first] is the first entry.
+     *
+     * @param first uri of the api document
+     */
+    fun getDocuments(first: URI): Map<URI, Any> {
+        val documents = linkedMapOf<URI, Any>()
+        hashes[first]?.let { converted[it] }?.let { documents[first] = it }
+
+        hashes.forEach { (uri, hash) ->
+            val document = converted[hash]
+            if (document != null && uri != first) {
+                documents[uri] = document
+            }
+        }
+
+        return documents
+    }
+
+    /**
+     * a hash of the uris & contents of the read documents, independent of the read order.
+     *
+     * @param prefix additional key data
+     * @return the hash
+     */
+    fun documentsHash(prefix: String): String {
+        val all = hashes.entries
+            .map { "${it.key}=${it.value}" }
+            .sorted()
+        return contentHash(prefix + all.joinToString(","))
+    }
+
+    private fun read(uri: URI): InputStream {
+        val content = baseReader.read(uri).use { it.readAllBytes() }
+        hashes[uri] = contentHash(String(content, Charsets.UTF_8))
+        return ByteArrayInputStream(content)
+    }
+
+    private fun convert(api: String): Any {
+        val document: Any = baseConverter.convert(api)!!
+        converted[contentHash(api)] = document
+        return document
+    }
+}
@@ -9,7 +9,14 @@ import io.openapiparser.OpenApiParser
 import io.openapiparser.OpenApiResult
 import io.openapiparser.OpenApiVersion
 import io.openapiparser.ValidationErrorTextBuilder
+import io.openapiprocessor.core.parser.openapi.cache.CachingConverter
+import io.openapiprocessor.core.parser.openapi.cache.DocumentCache
+import io.openapiprocessor.core.parser.openapi.cache.ValidatedDocuments
+import io.openapiprocessor.core.parser.openapi.cache.ValidationResult
+import io.openapiprocessor.core.processor.SchemaStores
 import io.openapiprocessor.core.support.toURI
+import io.openapiprocessor.interfaces.Converter
+import io.openapiprocessor.interfaces.Reader
 import io.openapiprocessor.jackson.JacksonConverter
 import io.openapiprocessor.jsonschema.reader.UriReader
 import io.openapiprocessor.jsonschema.schema.DocumentLoader
@@ -20,6 +27,12 @@ import io.openapiprocessor.jsonschema.validator.Validator
 import io.openapiprocessor.jsonschema.validator.ValidatorSettings
 import org.slf4j.Logger
 import org.slf4j.LoggerFactory
+import java.net.URI
+import java.nio.file.Path
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
 import io.openapiparser.model.v30.OpenApi as OpenApi30
 import io.openapiparser.model.v31.OpenApi as OpenApi31
 import io.openapiparser.model.v32.OpenApi as OpenApi32
@@ -30,82 +43,197 @@ import io.openapiprocessor.core.parser.openapi.v32.OpenApi as ParserOpenApi32
 
 /**
  * openapi-parser
+ *
+ * @param options parser options
+ * @param documents optional in-memory cache of converted documents by content hash, shared by multiple runs
  */
-class Parser {
+class Parser(
+    private val options: ParserOptions = ParserOptions(),
+    private val documents: MutableMap<String, Any>? = null
+) {
     private val log: Logger = LoggerFactory.getLogger(this.javaClass.name)
 
 
     fun parse(apiPath: String): OpenApiOpenApi {
-        val reader = UriReader ()
-        val converter = JacksonConverter ()
-        val loader = DocumentLoader (reader, converter)
+        val cache = options.cacheDir?.let { getCache(it) }
+
+        // all documents the run reads, i.e. the api document and the documents it references
+        val baseConverter = createConverter(cache)
+        val recorder = DocumentRecorder(UriReader (), baseConverter)
+        val reader = recorder.reader
+        val converter = recorder.converter
+        val baseUri = toURI(apiPath)
+
+        val source = if (options.prefetch) {
+            val prefetcher = DocumentPrefetcher(reader, converter)
+            prefetcher.prefetch(baseUri)
+            RunSource(prefetcher.reader, prefetcher.converter)
+        } else {
+            RunSource(reader, converter)
+        }
 
         val documents = DocumentStore ()
-        val parser = OpenApiParser(documents, loader)
+        val parser = OpenApiParser(documents, DocumentLoader (source.reader, source.converter))
 
-        val baseUri = toURI(apiPath)
         val result = parser.parse(baseUri)
 
+        val validation = PendingValidation(apiPath, startValidation(source, recorder, baseConverter, cache, result))
+        if (!options.asyncValidation) {
+            validation.await()
+        }
+
         return when (result.version) {
             OpenApiVersion.V32 -> {
-                validate32(loader, apiPath, result)
-                createApi32(result)
+                createApi32(result, validation, recorder.getDocuments(baseUri))
             }
             OpenApiVersion.V31 -> {
-                validate31(loader, apiPath, result)
-                createApi31(result)
+                createApi31(result, validation, recorder.getDocuments(baseUri))
             }
             OpenApiVersion.V30 -> {
-                validate30(loader, apiPath, result)
-                createApi30(result)
+                createApi30(result, validation, recorder.getDocuments(baseUri))
             }
         }
     }
 
-    private fun createApi32(result: OpenApiResult): OpenApiOpenApi {
+    private fun getCache(cacheDir: String): DocumentCache {
+        val cache = DocumentCache(Path.of(cacheDir), options.cacheSize)
+        if (evicted.add(cacheDir)) {
+            cache.evict()
+        }
+        return cache
+    }
+
+    private fun createConverter(cache: DocumentCache?): Converter {
+        val converter = JacksonConverter ()
+        if (cache == null && !options.skipValidated && documents == null) {
+            return converter
+        }
+
+        return CachingConverter(converter, cache, documents)
+    }
+
+    private fun createApi32(
+        result: OpenApiResult,
+        validation: PendingValidation,
+        documents: Map<URI, Any>
+    ): OpenApiOpenApi {
         val model = result.getModel(OpenApi32::class.java)
-        return ParserOpenApi32(model)
+        return ParserOpenApi32(model, validation, documents)
     }
 
-    private fun createApi31(result: OpenApiResult): OpenApiOpenApi {
+    private fun createApi31(
+        result: OpenApiResult,
+        validation: PendingValidation,
+        documents: Map<URI, Any>
+    ): OpenApiOpenApi {
         val model = result.getModel(OpenApi31::class.java)
-        return ParserOpenApi31(model)
+        return ParserOpenApi31(model, validation, documents)
     }
 
-    private fun createApi30(result: OpenApiResult): OpenApiOpenApi {
+    private fun createApi30(
+        result: OpenApiResult,
+        validation: PendingValidation,
+        documents: Map<URI, Any>
+    ): OpenApiOpenApi {
         val model = result.getModel(OpenApi30::class.java)
-        return ParserOpenApi30(model)
+        return ParserOpenApi30(model, validation, documents)
+    }
+
+    private fun startValidation(
+        source: RunSource,
+        recorder: DocumentRecorder,
+        converter: Converter,
+        cache: DocumentCache?,
+        result: OpenApiResult
+    ): CompletableFuture<ValidationResult> {
+        // only cached if the documents are cached
+        val key = if (converter is CachingConverter) recorder.documentsHash(result.version.name) else null
+        if (key != null) {
+            val validated = getValidated(key, cache)
+            if (validated != null) {
+                return CompletableFuture.completedFuture(validated)
+            }
+        }
+
+        if (!options.asyncValidation) {
+            return CompletableFuture.completedFuture(validate(source, result, key, cache))
+        }
+
+        return CompletableFuture.supplyAsync({ validate(source, result, key, cache) }, executor)
     }
 
-    private fun validate32(loader: DocumentLoader, apiPath: String, result: OpenApiResult) {
-        val store = SchemaStore(loader)
-        store.registerDraft202012()
-        validate(apiPath, result, store)
+    private fun getValidated(key: String, cache: DocumentCache?): ValidationResult? {
+        if (options.skipValidated) {
+            val validated = ValidatedDocuments.get(key)
+            if (validated != null) {
+                log.debug("skipping validation of already validated documents")
+                return validated
+            }
+        }
+
+        val cached = cache?.getValidation(key)
+        if (cached != null) {
+            log.debug("using cached validation result")
+        }
+        return cached
     }
 
-    private fun validate31(loader: DocumentLoader, apiPath: String, result: OpenApiResult) {
-        val store = SchemaStore(loader)
-        store.registerDraft202012()
-        validate(apiPath, result, store)
+    private fun validate(
+        source: RunSource,
+        result: OpenApiResult,
+        key: String?,
+        cache: DocumentCache?
+    ): ValidationResult {
+        val validation = validate(source, result)
+
+        if (key != null) {
+            cache?.putValidation(key, validation)
+
+            if (options.skipValidated) {
+                ValidatedDocuments.put(key, validation)
+            }
+        }
+
+        return validation
     }
 
-    private fun validate30(loader: DocumentLoader, apiPath: String, result: OpenApiResult) {
-        val store = SchemaStore(loader)
-        store.registerDraft4()
-        validate(apiPath, result, store)
+    /**
+     * validates with a pooled store. Documents the store has to load are loaded with the reader & converter of
+     * this run.
+     */
+    private fun validate(source: RunSource, result: OpenApiResult): ValidationResult {
+        return when (result.version) {
+            OpenApiVersion.V32 -> SchemaStores.withDraft202012(source.reader, source.converter) { validate(result, it) }
+            OpenApiVersion.V31 -> SchemaStores.withDraft202012(source.reader, source.converter) { validate(result, it) }
+            OpenApiVersion.V30 -> SchemaStores.withDraft4(source.reader, source.converter) { validate(result, it) }
+        }
     }
 
-    private fun validate(apiPath: String, result: OpenApiResult, store: SchemaStore) {
+    private fun validate(result: OpenApiResult, store: SchemaStore): ValidationResult {
         val validator = Validator(ValidatorSettings().setOutput(Output.BASIC))
         val valid = result.validate(validator, store)
 
-        if (!valid) {
-            val builder = ValidationErrorTextBuilder()
+        if (valid) {
+            return ValidationResult(true)
+        }
+
+        val builder = ValidationErrorTextBuilder()
+        return ValidationResult(false, result.validationErrors.map { builder.getText(it) })
+    }
 
-            log.warn("OpenAPI description '{}' does not pass schema validation:", apiPath)
-            for (error in result.validationErrors) {
-                log.warn(builder.getText(error))
-            }
+    /**
+     * reader & converter of the documents of a parser run.
+     */
+    private class RunSource(val reader: Reader, val converter: Converter)
+
+    companion object {
+        // the cache directories that were trimmed by this process
+        private val evicted: MutableSet<String> = ConcurrentHashMap.newKeySet()
+
+        private val executor: ExecutorService = Executors.newCachedThreadPool { runnable ->
+            val thread = Thread(runnable, "openapi-validation")
+            thread.isDaemon = true
+            thread
         }
     }
-}
\ No newline at end of file
+}
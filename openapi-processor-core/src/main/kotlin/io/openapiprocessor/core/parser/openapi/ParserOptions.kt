@@ -0,0 +1,66 @@
+/*
+ * Copyright 2026 https://github.com/openapi-processor/openapi-processor-base
+ * PDX-License-Identifier: Apache-2.0
+ */
+
+package io.openapiprocessor.core.parser.openapi
+
+import io.openapiprocessor.core.parser.openapi.cache.DocumentCache
+
+/**
+ * options of the internal OpenAPI parser.
+ */
+class ParserOptions(
+    /**
+     * directory of the document cache. If set, parsed documents and the validation result are cached by
+     * content hash.
+     */
+    val cacheDir: String? = null,
+
+    /**
+     * maximum size of the document cache in bytes. The least recently used entries are dropped first.
+     */
+    val cacheSize: Long = DocumentCache.DEFAULT_MAX_SIZE,
+
+    /**
+     * run the schema validation on a background thread. The result is reported by
+     * [io.openapiprocessor.core.openapi.OpenApi.awaitValidation], which the api converter calls at the end of the
+     * conversion.
+     */
+    val asyncValidation: Boolean = false,
+
+    /**
+     * skip the schema validation if the same documents were already validated by this process.
+     */
+    val skipValidated: Boolean = false,
+
+    /**
+     * load the documents of a multi-file OpenAPI description in parallel before parsing it.
+     */
+    val prefetch: Boolean = false
+) {
+    companion object {
+        /**
+         * create the parser options from the processor options.
+         *
+         * - `parserCacheDir`: document cache directory
+         * - `parserCacheSize`: maximum size of the document cache in MB, default is 256
+         * - `parserValidation`: `async` to validate in the background
+         * - `parserSkipValidated`: `true` to skip the validation of already validated documents
+         * - `parserPrefetch`: `true` to load the documents in parallel
+         */
+        fun of(processorOptions: Map<String, *>): ParserOptions {
+            val cacheSize = processorOptions["parserCacheSize"]?.toString()?.toLongOrNull()
+                ?.takeIf { it > 0 }
+                ?.let { it * 1024 * 1024 }
+
+            return ParserOptions(
+                processorOptions["parserCacheDir"]?.toString(),
+                cacheSize ?: DocumentCache.DEFAULT_MAX_SIZE,
+                processorOptions["parserValidation"]?.toString() == "async",
+                processorOptions["parserSkipValidated"]?.toString().toBoolean(),
+                processorOptions["parserPrefetch"]?.toString().toBoolean()
+            )
+        }
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2026 https://github.com/openapi-processor/openapi-processor-base
+ * PDX-License-Identifier: Apache-2.0
+ */
+
+package io.openapiprocessor.core.parser.openapi
+
+import io.openapiprocessor.core.parser.openapi.cache.ValidationResult
+import org.slf4j.Logger
+import org.slf4j.LoggerFactory
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.ExecutionException
+
+/**
+ * (possibly) pending validation of an OpenAPI description. [await] waits for the validation and reports
+ * the validation errors once.
+ */
+class PendingValidation(
+    private val apiPath: String,
+    private val result: CompletableFuture<ValidationResult>
+) {
+    private val log: Logger = LoggerFactory.getLogger(this.javaClass.name)
+    private var reported = false
+
+    /**
+     * wait for the validation and report its result.
+     */
+    fun await() {
+        synchronized(this) {
+            if (reported) {
+                return
+            }
+            reported = true
+        }
+
+        try {
+            report(result.get())
+        } catch (ex: ExecutionException) {
+            log.warn("OpenAPI description '{}' validation failed.", apiPath, ex.cause)
+        }
+    }
+
+    private fun report(validation: ValidationResult) {
+        if (validation.valid) {
+            return
+        }
+
+        log.warn("OpenAPI description '{}' does not pass schema validation:", apiPath)
+        for (message in validation.messages) {
+            log.warn(message)
+        }
+    }
+
+    companion object {
+        val NONE = PendingValidation("", CompletableFuture.completedFuture(ValidationResult(true)))
+    }
+}
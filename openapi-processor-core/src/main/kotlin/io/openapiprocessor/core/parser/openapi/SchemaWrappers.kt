@@ -0,0 +1,51 @@
+/*
+ * Copyright 2026 https://github.com/openapi-processor/openapi-processor-base
+ * PDX-License-Identifier: Apache-2.0
+ */
+
+package io.openapiprocessor.core.parser.openapi
+
+import java.net.URI
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * identity cache of schema wrappers. Maps the location of a schema (i.e. its document uri and json pointer) to
+ * a single wrapper, so that a component schema and all `$ref`s to it share the same wrapper.
+ */
+class SchemaWrappers<T: Any> {
+    private val wrappers = ConcurrentHashMap<String, T>()
+
+    /**
+     * get the wrapper of the schema at the given location, creates it if it does not exist.
+     *
+     * @param location location of the schema, see [location]
+     * @param create creates the wrapper
+     */
+    fun get(location: String, create: () -> T): T {
+        return wrappers.computeIfAbsent(location) { create() }
+    }
+
+    companion object {
+
+        /**
+         * create the location of a schema from a (relative) [ref] and the uri of the document that contains the
+         * [ref].
+         *
+         * @param documentUri uri of the document
+         * @param ref (relative) reference
+         * @return absolute location of the referenced schema
+         */
+        fun location(documentUri: URI, ref: String): String {
+            if (ref.startsWith("#")) {
+                return documentUri.toString().substringBefore("#") + ref
+            }
+
+            val uri = URI(ref)
+            if (uri.isAbsolute || documentUri.isOpaque) {
+                return ref
+            }
+
+            return documentUri.resolve(uri).toString()
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 https://github.com/openapi-processor/openapi-processor-base
+ * PDX-License-Identifier: Apache-2.0
+ */
+
+package io.openapiprocessor.core.parser.openapi.cache
+
+import io.openapiprocessor.interfaces.Converter
+
+/**
+ * document converter that returns the cached result for unchanged documents and only runs the
+ * [converter] for new or modified documents.
+ *
+ * [documents] is an in-memory cache (e.g. of a long-lived session) that is checked before the on-disk [cache].
+ * The runs of a session may run in parallel, so it stores a copy of the document and returns a copy on a hit, i.e.
+ * each run gets its own (mutable) document. Copying the maps & lists is still a lot cheaper than parsing the
+ * document.
+ *
+ * Without any cache it only converts the documents.
+ */
+class CachingConverter(
+    private val converter: Converter,
+    private val cache: DocumentCache? = null,
+    private val documents: MutableMap<String, Any>? = null
+): Converter {
+    override fun convert(api: String): Any {
+        val hash = contentHash(api)
+
+        if (documents == null) {
+            return convert(api, hash)
+        }
+
+        val known = documents[hash]
+        if (known != null) {
+            return copy(known)!!
+        }
+
+        val document = convert(api, hash)
+        documents[hash] = copy(document)!!
+        return document
+    }
+
+    /**
+     * deep copy of a converted document. It only copies the containers, the values (strings, numbers, booleans)
+     * are immutable.
+     */
+    private fun copy(value: Any?): Any? {
+        return when (value) {
+            is Map<*, *> -> {
+                val map = LinkedHashMap<Any?, Any?>(value.size)
+                value.forEach { (k, v) -> map[k] = copy(v) }
+                map
+            }
+            is List<*> -> {
+                val list = ArrayList<Any?>(value.size)
+                value.forEach { list.add(copy(it)) }
+                list
+            }
+            else -> value
+        }
+    }
+
+    private fun convert(api: String, hash: String): Any {
+        if (cache == null) {
+            return converter.convert(api)!!
+        }
+
+        val cached = cache.getDocument(hash)
+        if (cached != null) {
+            return cached
+        }
+
+        val document: Any = converter.convert(api)!!
+        cache.putDocument(hash, document)
+        return document
+    }
+}
@@ -0,0 +1,20 @@
+/*
+ * Copyright 2026 https://github.com/openapi-processor/openapi-processor-base
+ * PDX-License-Identifier: Apache-2.0
+ */
+
+package io.openapiprocessor.core.parser.openapi.cache
+
+import java.security.MessageDigest
+
+/**
+ * content hash of a document.
+ *
+ * @param content document content
+ * @return hex encoded sha-256 hash
+ */
+fun contentHash(content: String): String {
+    val digest = MessageDigest.getInstance("SHA-256")
+    return digest.digest(content.toByteArray(Charsets.UTF_8))
+        .joinToString("") { "%02x".format(it) }
+}
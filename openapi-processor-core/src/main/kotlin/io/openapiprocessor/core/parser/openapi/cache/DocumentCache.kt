@@ -0,0 +1,233 @@
+/*
+ * Copyright 2026 https://github.com/openapi-processor/openapi-processor-base
+ * PDX-License-Identifier: Apache-2.0
+ */
+
+package io.openapiprocessor.core.parser.openapi.cache
+
+import com.fasterxml.jackson.databind.ObjectMapper
+import org.slf4j.Logger
+import org.slf4j.LoggerFactory
+import java.io.*
+import java.nio.file.Files
+import java.nio.file.Path
+import java.nio.file.StandardCopyOption
+import java.nio.file.attribute.FileTime
+import kotlin.io.path.extension
+import kotlin.io.path.isRegularFile
+
+/**
+ * on-disk cache of parsed OpenAPI documents and their validation result. Cache entries are keyed by a
+ * content hash (sha-256) of the document. A corrupt or unreadable entry is dropped and treated as missing.
+ *
+ * The parsed documents (plain maps, lists & values) are stored as json, which is faster to read than the yaml
+ * source. A read updates the modification time of the entry, so [evict] drops the least recently used entries
+ * first.
+ *
+ * @param dir cache directory
+ * @param maxSize maximum size of the cache in bytes
+ */
+class DocumentCache(private val dir: Path, private val maxSize: Long = DEFAULT_MAX_SIZE) {
+    private val log: Logger = LoggerFactory.getLogger(this.javaClass.name)
+
+    /**
+     * content hash of a document.
+     *
+     * @param content document content
+     * @return hex encoded sha-256 hash
+     */
+    fun hash(content: String): String {
+        return contentHash(content)
+    }
+
+    /**
+     * get a cached parsed document.
+     *
+     * @param hash content hash of the document
+     * @return the parsed document or null if it is not cached
+     */
+    fun getDocument(hash: String): Any? {
+        val path = dir.resolve("$hash.$DOCUMENT")
+        if (!Files.exists(path)) {
+            return null
+        }
+
+        return try {
+            val document = BufferedInputStream(Files.newInputStream(path)).use {
+                mapper.readValue(it, Any::class.java)
+            }
+            Files.setLastModifiedTime(path, FileTime.fromMillis(System.currentTimeMillis()))
+            document
+        } catch (ex: Exception) {
+            log.warn("dropping corrupt cache entry {} ({})", path, ex.message)
+            drop(path)
+            null
+        }
+    }
+
+    /**
+     * cache a parsed document.
+     *
+     * @param hash content hash of the document
+     * @param document the parsed document
+     */
+    fun putDocument(hash: String, document: Any) {
+        write(dir.resolve("$hash.$DOCUMENT")) { out ->
+            mapper.writeValue(out, document)
+        }
+    }
+
+    /**
+     * get a cached validation result.
+     *
+     * @param key hash of the validated documents
+     * @return the validation result or null if it is not cached
+     */
+    fun getValidation(key: String): ValidationResult? {
+        val path = dir.resolve("$key.$VALIDATION")
+        if (!Files.exists(path)) {
+            return null
+        }
+
+        return try {
+            val lines = Files.readAllLines(path, Charsets.UTF_8)
+            when (lines.firstOrNull()) {
+                VALID -> ValidationResult(true)
+                INVALID -> ValidationResult(false, lines.drop(1).map { unescape(it) })
+                else -> throw IOException("unknown validation state")
+            }
+        } catch (ex: Exception) {
+            log.warn("dropping corrupt cache entry {} ({})", path, ex.message)
+            drop(path)
+            null
+        }
+    }
+
+    /**
+     * cache a validation result.
+     *
+     * @param key hash of the validated documents
+     * @param result the validation result
+     */
+    fun putValidation(key: String, result: ValidationResult) {
+        write(dir.resolve("$key.$VALIDATION")) { out ->
+            val writer = BufferedWriter(OutputStreamWriter(out, Charsets.UTF_8))
+            writer.write(if (result.valid) VALID else INVALID)
+            writer.newLine()
+            result.messages.forEach {
+                writer.write(escape(it))
+                writer.newLine()
+            }
+            writer.flush()
+        }
+    }
+
+    /**
+     * drops the least recently used entries until the cache is not larger than [maxSize]. It also drops entries
+     * of older cache versions.
+     */
+    fun evict() {
+        if (!Files.isDirectory(dir)) {
+            return
+        }
+
+        val entries = try {
+            Files.list(dir).use { paths ->
+                paths.filter { it.isRegularFile() }
+                    .toList()
+            }
+        } catch (ex: Exception) {
+            log.warn("failed to read cache directory {} ({})", dir, ex.message)
+            return
+        }
+
+        val (current, obsolete) = entries.partition { it.extension == DOCUMENT || it.extension == VALIDATION }
+        obsolete
+            .filter { it.extension == OBSOLETE_DOCUMENT }
+            .forEach { drop(it) }
+
+        val sized = current.map { Entry(it, Files.size(it), Files.getLastModifiedTime(it).toMillis()) }
+
+        var size = sized.sumOf { it.size }
+        if (size <= maxSize) {
+            return
+        }
+
+        var dropped = 0
+        for (entry in sized.sortedBy { it.modified }) {
+            if (size <= maxSize) {
+                break
+            }
+
+            drop(entry.path)
+            size -= entry.size
+            dropped++
+        }
+
+        log.debug("evicted {} document cache entries", dropped)
+    }
+
+    private fun write(target: Path, content: (OutputStream) -> Unit) {
+        try {
+            Files.createDirectories(dir)
+
+            val tmp = Files.createTempFile(dir, target.fileName.toString(), ".tmp")
+            try {
+                BufferedOutputStream(Files.newOutputStream(tmp)).use(content)
+                Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE)
+            } finally {
+                Files.deleteIfExists(tmp)
+            }
+        } catch (ex: Exception) {
+            log.warn("failed to write cache entry {} ({})", target, ex.message)
+        }
+    }
+
+    private fun drop(path: Path) {
+        try {
+            Files.deleteIfExists(path)
+        } catch (_: IOException) {
+            // ignore
+        }
+    }
+
+    private fun escape(text: String): String {
+        return text.replace("\\", "\\\\").replace("\n", "\\n")
+    }
+
+    private fun unescape(text: String): String {
+        val result = StringBuilder()
+        var i = 0
+        while (i < text.length) {
+            val c = text[i]
+            if (c == '\\' && i + 1 < text.length) {
+                result.append(if (text[i + 1] == 'n') '\n' else text[i + 1])
+                i += 2
+            } else {
+                result.append(c)
+                i++
+            }
+        }
+        return result.toString()
+    }
+
+    private class Entry(val path: Path, val size: Long, val modified: Long)
+
+    companion object {
+        /**
+         * default maximum size of the cache, 256 MB.
+         */
+        const val DEFAULT_MAX_SIZE = 256L * 1024 * 1024
+
+        private const val DOCUMENT = "json"
+        private const val VALIDATION = "validation"
+
+        // java serialized documents of the first cache version, never read
+        private const val OBSOLETE_DOCUMENT = "document"
+
+        private const val VALID = "valid"
+        private const val INVALID = "invalid"
+
+        private val mapper = ObjectMapper()
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2026 https://github.com/openapi-processor/openapi-processor-base
+ * PDX-License-Identifier: Apache-2.0
+ */
+
+package io.openapiprocessor.core.parser.openapi.cache
+
+import java.util.*
+
+/**
+ * process-wide in-memory store of validation results, keyed by the hash of the validated documents. It drops the
+ * least recently used result if it is full.
+ */
+object ValidatedDocuments {
+    private const val MAX_SIZE = 1000
+
+    private val results: MutableMap<String, ValidationResult> = Collections.synchronizedMap(
+        object : LinkedHashMap<String, ValidationResult>(16, 0.75f, true) {
+            override fun removeEldestEntry(eldest: MutableMap.MutableEntry<String, ValidationResult>?): Boolean {
+                return size > MAX_SIZE
+            }
+        })
+
+    fun get(key: String): ValidationResult? {
+        return results[key]
+    }
+
+    fun put(key: String, result: ValidationResult) {
+        results[key] = result
+    }
+
+    fun clear() {
+        results.clear()
+    }
+}
@@ -0,0 +1,14 @@
+/*
+ * Copyright 2026 https://github.com/openapi-processor/openapi-processor-base
+ * PDX-License-Identifier: Apache-2.0
+ */
+
+package io.openapiprocessor.core.parser.openapi.cache
+
+/**
+ * result of the OpenAPI schema validation.
+ *
+ * @param valid true if the OpenAPI description is valid
+ * @param messages the validation error messages
+ */
+class ValidationResult(val valid: Boolean, val messages: List<String> = emptyList())
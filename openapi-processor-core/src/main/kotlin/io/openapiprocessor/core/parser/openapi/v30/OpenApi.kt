@@ -7,6 +7,9 @@ package io.openapiprocessor.core.parser.openapi.v30
 
 import org.slf4j.Logger
 import org.slf4j.LoggerFactory
+import java.net.URI
+import io.openapiprocessor.core.parser.openapi.PendingValidation
+import io.openapiprocessor.core.parser.openapi.SchemaWrappers
 import io.openapiparser.model.v30.OpenApi as OpenApi30
 import io.openapiparser.model.v30.PathItem as PathItem30
 import io.openapiparser.model.v30.Schema as Schema30
@@ -23,7 +26,9 @@ import io.openapiprocessor.core.parser.openapi.v30.Schema as ParserSchema30
  * openapi-parser result.
  */
 open class OpenApi(
-    private val api: OpenApi30
+    private val api: OpenApi30,
+    private val validation: PendingValidation = PendingValidation.NONE,
+    private val documents: Map<URI, Any> = emptyMap()
 ): OpenApiOpenApi {
     private val log: Logger = LoggerFactory.getLogger(this.javaClass.name)
 
@@ -37,7 +42,9 @@ open class OpenApi(
         return servers
     }
 
-    override fun getPaths(): Map<String, OpenApiPath> {
+    private val wrappers = SchemaWrappers<ParserSchema30>()
+
+    private val pathItems: Map<String, OpenApiPath> by lazy {
         val paths = linkedMapOf<String, OpenApiPath>()
 
         api.paths.pathItems.forEach { (name: String, value: PathItem30) ->
@@ -48,28 +55,49 @@ open class OpenApi(
             paths[name] = ParserPath30(name, path)
         }
 
-        return paths
+        paths
     }
 
-    override fun getSchemas(): Map<String, OpenApiSchema> {
+    private val componentSchemas: Map<String, OpenApiSchema> by lazy {
         val schemas = linkedMapOf<String, OpenApiSchema>()
 
         api.components?.schemas?.forEach { (name: String, schema: Schema30) ->
-            schemas[name] = ParserSchema30(schema)
+            val location = SchemaWrappers.location(schema.documentUri, "#/components/schemas/$name")
+            schemas[name] = wrappers.get(location) { ParserSchema30(schema) }
         }
 
-        return schemas
+        schemas
+    }
+
+    private val resolver: OpenApiRefResolver by lazy {
+        RefResolver(api, wrappers)
     }
 
-    override fun getRefResolver(): OpenApiRefResolver = RefResolver(api)
+    override fun getPaths(): Map<String, OpenApiPath> = pathItems
+
+    override fun getSchemas(): Map<String, OpenApiSchema> = componentSchemas
+
+    override fun getRefResolver(): OpenApiRefResolver = resolver
 
     override fun printWarnings() {
-        // unused
+        validation.await()
     }
 
     override fun hasWarnings(): Boolean {
         return false;
     }
 
+    override fun awaitValidation() {
+        validation.await()
+    }
+
+    override fun getDocuments(): Set<URI> {
+        return documents.keys
+    }
+
+    override fun getDocumentTrees(): Map<URI, Any> {
+        return documents
+    }
+
 }
 
@@ -10,7 +10,7 @@ import io.openapiparser.model.v30.Schema as Schema30
 import io.openapiprocessor.core.openapi.Schema as OpenApiSchema
 
 /**
- * openapi-parser Schema abstraction.
+ * openapi-parser Schema abstraction. The nested schemas are created lazily and only once.
  */
 class Schema(val schema: Schema30) : OpenApiSchema {
 
@@ -52,40 +52,47 @@ class Schema(val schema: Schema30) : OpenApiSchema {
         return schema.ref
     }
 
-    override fun getEnum(): List<*> {
-        if (schema.enum == null) {
-            return emptyList<Any>()
-        }
+    override fun getEnum(): List<*> = enumValues
+
+    private val enumValues: List<*> by lazy {
+        schema.enum?.toList() ?: emptyList<Any>()
+    }
+
+    override fun getItem(): OpenApiSchema = itemSchema
 
-        val values = schema.enum
-        return values!!.toList()
+    private val itemSchema: OpenApiSchema by lazy {
+        Schema(schema.items!!)
     }
 
-    override fun getItem(): OpenApiSchema = Schema(schema.items!!)
+    override fun getProperties(): Map<String, OpenApiSchema> = propertySchemas
 
-    override fun getProperties(): Map<String, OpenApiSchema> {
+    private val propertySchemas: Map<String, OpenApiSchema> by lazy {
         val props = LinkedHashMap<String, OpenApiSchema> ()
 
         schema.properties.forEach { (key: String, entry: Schema30) ->
             props[key] = Schema (entry)
         }
 
-        return props
+        props
     }
 
-    override fun getAdditionalProperties(): Schema? {
+    override fun getAdditionalProperties(): Schema? = additionalSchema
+
+    private val additionalSchema: Schema? by lazy {
         val additional = schema.additionalProperties
 
         // schema
         if(additional is Schema30) {
-            return Schema(additional)
+            Schema(additional)
+        } else {
+            // null, boolean
+            null
         }
-
-        // null, boolean
-        return null
     }
 
-    override fun getItems(): List<OpenApiSchema> {
+    override fun getItems(): List<OpenApiSchema> = itemSchemas
+
+    private val itemSchemas: List<OpenApiSchema> by lazy {
         val result: MutableList<OpenApiSchema> = mutableListOf()
 
         schema.allOf.forEach {
@@ -100,7 +107,7 @@ class Schema(val schema: Schema30) : OpenApiSchema {
             result.add(Schema(it))
         }
 
-        return result
+        result
     }
 
     override fun itemsOf(): String? {
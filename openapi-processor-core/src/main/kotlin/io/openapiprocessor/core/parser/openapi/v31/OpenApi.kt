@@ -10,6 +10,9 @@ import io.openapiprocessor.core.openapi.Schema
 import io.openapiprocessor.core.openapi.Server
 import org.slf4j.Logger
 import org.slf4j.LoggerFactory
+import java.net.URI
+import io.openapiprocessor.core.parser.openapi.PendingValidation
+import io.openapiprocessor.core.parser.openapi.SchemaWrappers
 import io.openapiparser.model.v31.OpenApi as OpenApi31
 import io.openapiparser.model.v31.PathItem as PathItem31
 import io.openapiparser.model.v31.Schema as Schema31
@@ -19,7 +22,9 @@ import io.openapiprocessor.core.parser.openapi.v31.Path as ParserPath31
 import io.openapiprocessor.core.parser.openapi.v31.Schema as ParserSchema31
 
 class OpenApi(
-    private val api: OpenApi31
+    private val api: OpenApi31,
+    private val validation: PendingValidation = PendingValidation.NONE,
+    private val documents: Map<URI, Any> = emptyMap()
 ) : OpenApiOpenApi {
     private val log: Logger = LoggerFactory.getLogger(this.javaClass.name)
 
@@ -33,7 +38,9 @@ class OpenApi(
         return servers
     }
 
-    override fun getPaths(): Map<String, Path> {
+    private val wrappers = SchemaWrappers<ParserSchema31>()
+
+    private val pathItems: Map<String, Path> by lazy {
         val paths = linkedMapOf<String, Path>()
 
         api.paths?.pathItems?.forEach { (name: String, value: PathItem31) ->
@@ -44,26 +51,47 @@ class OpenApi(
             paths[name] = ParserPath31(name, path)
         }
 
-        return paths
+        paths
     }
 
-    override fun getSchemas(): Map<String, Schema> {
+    private val componentSchemas: Map<String, Schema> by lazy {
         val schemas = linkedMapOf<String, Schema>()
 
         api.components?.schemas?.forEach { (name: String, schema: Schema31) ->
-            schemas[name] = ParserSchema31(schema)
+            val location = SchemaWrappers.location(schema.documentUri, "#/components/schemas/$name")
+            schemas[name] = wrappers.get(location) { ParserSchema31(schema) }
         }
 
-        return schemas
+        schemas
+    }
+
+    private val resolver: OpenApiRefResolver by lazy {
+        RefResolver(api, wrappers)
     }
 
-    override fun getRefResolver(): OpenApiRefResolver = RefResolver(api)
+    override fun getPaths(): Map<String, Path> = pathItems
+
+    override fun getSchemas(): Map<String, Schema> = componentSchemas
+
+    override fun getRefResolver(): OpenApiRefResolver = resolver
 
     override fun printWarnings() {
-        // unused
+        validation.await()
     }
 
     override fun hasWarnings(): Boolean {
         return false
     }
+
+    override fun awaitValidation() {
+        validation.await()
+    }
+
+    override fun getDocuments(): Set<URI> {
+        return documents.keys
+    }
+
+    override fun getDocumentTrees(): Map<URI, Any> {
+        return documents
+    }
 }
@@ -7,18 +7,28 @@ package io.openapiprocessor.core.parser.openapi.v31
 
 import io.openapiprocessor.core.openapi.NamedSchema
 import io.openapiprocessor.core.openapi.getRefName
+import io.openapiprocessor.core.parser.openapi.SchemaWrappers
+import java.util.concurrent.ConcurrentHashMap
 import io.openapiparser.model.v31.OpenApi as OpenApi31
 import io.openapiparser.model.v31.Schema as Schema31
 import io.openapiprocessor.core.openapi.RefResolver as OpenApiRefResolver
 import io.openapiprocessor.core.openapi.Schema as OpenApiSchema
 
 /**
- * openapi-parser $ref resolver.
+ * openapi-parser $ref resolver. Returns the same [NamedSchema] for the same $ref location.
  */
-class RefResolver(private val api: OpenApi31): OpenApiRefResolver {
+class RefResolver(
+    private val api: OpenApi31,
+    private val wrappers: SchemaWrappers<Schema> = SchemaWrappers()
+): OpenApiRefResolver {
+    private val resolved = ConcurrentHashMap<String, NamedSchema>()
 
     override fun resolve(ref: OpenApiSchema): NamedSchema {
         val schema: Schema31 = (ref as Schema).schema
-        return NamedSchema(getRefName(ref.getRef()!!), Schema(schema.refObject))
+        val location = SchemaWrappers.location(schema.documentUri, ref.getRef()!!)
+
+        return resolved.computeIfAbsent(location) {
+            NamedSchema(getRefName(ref.getRef()!!), wrappers.get(location) { Schema(schema.refObject) })
+        }
     }
 }
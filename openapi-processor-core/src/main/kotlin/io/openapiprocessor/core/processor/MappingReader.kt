@@ -14,9 +14,11 @@ import com.fasterxml.jackson.dataformat.yaml.YAMLFactory
 import com.fasterxml.jackson.dataformat.yaml.YAMLMapper
 import com.fasterxml.jackson.module.kotlin.KotlinFeature
 import com.fasterxml.jackson.module.kotlin.KotlinModule
+import io.openapiprocessor.core.parser.openapi.cache.contentHash
 import io.openapiprocessor.core.processor.mapping.Mapping
 import io.openapiprocessor.core.processor.mapping.Parameter
 import io.openapiprocessor.core.processor.mapping.ParameterDeserializer
+import io.openapiprocessor.jsonschema.ouput.OutputUnit
 import org.slf4j.Logger
 import org.slf4j.LoggerFactory
 import java.io.File
@@ -25,16 +27,70 @@ import java.net.URL
 
 /**
  *  Reader for mapping YAML.
+ *
+ *  @param validator mapping validator
+ *  @param mappings optional cache of already read mappings by content hash. A cached mapping is not validated &
+ *  parsed again, but its validation errors are reported again.
  */
-class MappingReader(private val validator: MappingValidator = MappingValidator()) {
+class MappingReader(
+    private val validator: MappingValidator = MappingValidator(),
+    private val mappings: MutableMap<String, CachedMapping>? = null
+) {
     var log: Logger = LoggerFactory.getLogger(this.javaClass.name)
 
-    fun read(typeMappings: String?): Mapping? {
+    /**
+     * a parsed mapping with the result of its validation.
+     */
+    class CachedMapping(val mapping: Mapping, val validation: OutputUnit)
+
+    /**
+     * read the mapping.
+     *
+     * @param typeMappings url, file name or the mapping yaml
+     * @param report report the validation errors, false if the caller only peeks at the mapping
+     * @return the mapping or null if there is no mapping
+     */
+    @JvmOverloads
+    fun read(typeMappings: String?, report: Boolean = true): Mapping? {
         if (typeMappings.isNullOrEmpty()) {
             return null
         }
 
-        val mapping: String = when {
+        val mapping: String = readSource(typeMappings)
+
+        if (mappings == null) {
+            return parse(mapping, report).mapping
+        }
+
+        val key = contentHash(mapping)
+        val cached = mappings[key]
+        if (cached != null) {
+            if (report) {
+                report(cached.validation)
+            }
+            return cached.mapping
+        }
+
+        val parsed = parse(mapping, report)
+        mappings[key] = parsed
+        return parsed.mapping
+    }
+
+    private fun parse(mapping: String, report: Boolean): CachedMapping {
+        val validation = validator.validate(mapping)
+        if (report) {
+            report(validation)
+        }
+
+        val mapper = createParser()
+        return CachedMapping(mapper.readValue (mapping, Mapping::class.java), validation)
+    }
+
+    /**
+     * get the mapping yaml. [typeMappings] is an url, a file name or the mapping yaml.
+     */
+    fun readSource(typeMappings: String): String {
+        return when {
             isUrl (typeMappings) -> {
                 URL (typeMappings).readText()
             }
@@ -45,15 +101,9 @@ class MappingReader(private val validator: MappingValidator = MappingValidator()
                 typeMappings
             }
         }
-
-        validate(mapping)
-
-        val mapper = createParser()
-        return mapper.readValue (mapping, Mapping::class.java)
     }
 
-    private fun validate(mapping: String) {
-        val output = validator.validate(mapping)
+    private fun report(output: OutputUnit) {
         if (output.isValid)
             return
 
@@ -9,11 +9,8 @@ import io.openapiprocessor.jackson.JacksonConverter
 import io.openapiprocessor.jsonschema.ouput.OutputConverter
 import io.openapiprocessor.jsonschema.ouput.OutputUnit
 import io.openapiprocessor.jsonschema.ouput.OutputUnitFlag
-import io.openapiprocessor.jsonschema.reader.UriReader
-import io.openapiprocessor.jsonschema.schema.DocumentLoader
 import io.openapiprocessor.jsonschema.schema.JsonInstance
 import io.openapiprocessor.jsonschema.schema.Output
-import io.openapiprocessor.jsonschema.schema.SchemaStore
 import io.openapiprocessor.jsonschema.validator.Validator
 import io.openapiprocessor.jsonschema.validator.ValidatorSettings
 import org.slf4j.Logger
@@ -30,24 +27,14 @@ open class MappingValidator(
 
     fun validate(mapping: String): OutputUnit {
         return try {
-            val reader = UriReader()
-            val converter = JacksonConverter()
-            val loader = DocumentLoader(reader, converter)
-
-            val store = SchemaStore(loader)
-            store.registerDraft7()
-            dependencies.forEach {
-                store.register(it.uri, it.schema)
-            }
-            store.register(mappingSchema.uri, mappingSchema.schema)
-
-            val schema = store.getSchema(mappingSchema.uri)
-            val instance = JsonInstance(converter.convert(mapping))
+            val instance = JsonInstance(JacksonConverter().convert(mapping))
 
             val settings = ValidatorSettings().setOutput(Output.BASIC)
             val validator = Validator(settings)
 
-            val step = validator.validate(schema, instance)
+            val step = SchemaStores.withMappingSchema(mappingSchema, dependencies) { schema ->
+                validator.validate(schema, instance)
+            }
 
             val output = OutputConverter(Output.BASIC)
             output.convert(step)
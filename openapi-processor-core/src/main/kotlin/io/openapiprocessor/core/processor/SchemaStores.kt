@@ -0,0 +1,176 @@
+/*
+ * Copyright 2026 https://github.com/openapi-processor/openapi-processor-base
+ * PDX-License-Identifier: Apache-2.0
+ */
+
+package io.openapiprocessor.core.processor
+
+import io.openapiprocessor.interfaces.Converter
+import io.openapiprocessor.interfaces.Reader
+import io.openapiprocessor.jackson.JacksonConverter
+import io.openapiprocessor.jsonschema.reader.UriReader
+import io.openapiprocessor.jsonschema.schema.DocumentLoader
+import io.openapiprocessor.jsonschema.schema.SchemaStore
+import java.io.InputStream
+import java.net.URI
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.ConcurrentLinkedQueue
+import io.openapiprocessor.jsonschema.schema.JsonSchema as ValidatorSchema
+
+/**
+ * process-wide pool of pre-registered schema stores, i.e. stores with the meta-schemas and the mapping schemas
+ * already registered and compiled. A store is used by one thread at a time and is returned to its pool after use,
+ * so a long-lived process (e.g. the gradle daemon) does the setup once instead of once per run.
+ *
+ * A pooled store holds only the documents registered when it was created. If the store has to load a document
+ * while it is used, it loads it with the reader & converter of the current user (e.g. the prefetching & caching
+ * reader of the parser) and the store is dropped after use. A store never serves a (possibly stale) document of a
+ * previous run.
+ */
+object SchemaStores {
+    private const val DRAFT_4 = "draft-4"
+    private const val DRAFT_2020_12 = "draft-2020-12"
+
+    private val pools = ConcurrentHashMap<String, Pool>()
+
+    /**
+     * run [action] with a store that has the draft-4 meta-schema registered.
+     *
+     * @param reader reader of documents the store has to load, defaults to a [UriReader]
+     * @param converter converter of documents the store has to load, defaults to a [JacksonConverter]
+     */
+    fun <T> withDraft4(reader: Reader? = null, converter: Converter? = null, action: (SchemaStore) -> T): T {
+        return pool(DRAFT_4) {
+            createEntry { store ->
+                store.registerDraft4()
+                null
+            }
+        }.use(reader, converter) { action(it.store) }
+    }
+
+    /**
+     * run [action] with a store that has the draft-2020-12 meta-schema registered.
+     *
+     * @param reader reader of documents the store has to load, defaults to a [UriReader]
+     * @param converter converter of documents the store has to load, defaults to a [JacksonConverter]
+     */
+    fun <T> withDraft202012(reader: Reader? = null, converter: Converter? = null, action: (SchemaStore) -> T): T {
+        return pool(DRAFT_2020_12) {
+            createEntry { store ->
+                store.registerDraft202012()
+                null
+            }
+        }.use(reader, converter) { action(it.store) }
+    }
+
+    /**
+     * run [action] with the compiled (draft-7) [mapping] schema.
+     *
+     * @param mapping the mapping schema
+     * @param dependencies schemas referenced by the mapping schema
+     */
+    fun <T> withMappingSchema(
+        mapping: JsonSchema,
+        dependencies: List<JsonSchema>,
+        action: (ValidatorSchema) -> T
+    ): T {
+        val key = (dependencies + mapping).joinToString(" ") { it.uri.toString() }
+
+        return pool(key) {
+            createEntry { store ->
+                store.registerDraft7()
+                dependencies.forEach {
+                    store.register(it.uri, it.schema)
+                }
+                store.register(mapping.uri, mapping.schema)
+                store.getSchema(mapping.uri)
+            }
+        }.use(null, null) { action(it.schema!!) }
+    }
+
+    /**
+     * warm up the pools, i.e. register the meta-schemas and compile the given mapping schemas on the calling
+     * thread. Can be called by a build plugin before running the processor(s).
+     *
+     * @param mappings the mapping schemas with their dependencies
+     */
+    fun warmUp(mappings: Map<JsonSchema, List<JsonSchema>> = mapOf(JSON_SCHEMA_CORE to listOf())) {
+        withDraft4 { }
+        withDraft202012 { }
+        mappings.forEach { (mapping, dependencies) ->
+            withMappingSchema(mapping, dependencies) { }
+        }
+    }
+
+    /**
+     * drop all pooled stores.
+     */
+    fun clear() {
+        pools.clear()
+    }
+
+    private fun pool(key: String, create: () -> Entry): Pool {
+        return pools.computeIfAbsent(key) { Pool(create) }
+    }
+
+    private fun createEntry(register: (SchemaStore) -> ValidatorSchema?): Entry {
+        val source = Source()
+        val store = SchemaStore(DocumentLoader(source, source))
+        val schema = register(store)
+        return Entry(store, source, schema)
+    }
+
+    private class Entry(val store: SchemaStore, val source: Source, val schema: ValidatorSchema? = null)
+
+    /**
+     * routes the document loads of a store to the reader & converter of its current user and records if the store
+     * did load a document.
+     */
+    private class Source: Reader, Converter {
+        private var reader: Reader = UriReader()
+        private var converter: Converter = JacksonConverter()
+
+        @Volatile
+        var loaded = false
+            private set
+
+        fun begin(reader: Reader?, converter: Converter?) {
+            this.reader = reader ?: UriReader()
+            this.converter = converter ?: JacksonConverter()
+            loaded = false
+        }
+
+        fun end() {
+            reader = UriReader()
+            converter = JacksonConverter()
+        }
+
+        override fun read(uri: URI): InputStream {
+            loaded = true
+            return reader.read(uri)
+        }
+
+        override fun convert(api: String): Any? {
+            return converter.convert(api)
+        }
+    }
+
+    private class Pool(private val create: () -> Entry) {
+        private val entries = ConcurrentLinkedQueue<Entry>()
+
+        fun <T> use(reader: Reader?, converter: Converter?, action: (Entry) -> T): T {
+            val entry = entries.poll() ?: create()
+            entry.source.begin(reader, converter)
+
+            // not reached if action throws, i.e. a store that failed is not reused
+            val result = action(entry)
+            entry.source.end()
+
+            // a store that loaded documents of its user is not reused
+            if (!entry.source.loaded) {
+                entries.offer(entry)
+            }
+            return result
+        }
+    }
+}
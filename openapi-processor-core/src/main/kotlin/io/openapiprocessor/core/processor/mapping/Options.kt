@@ -94,6 +94,26 @@ data class Options(
      */
     val formatCode: String = "false",
 
+    /**
+     * maximum size of the code formatter cache in MB (optional)
+     */
+    val formatCodeCacheSize: Long = 64,
+
+    /**
+     * parallel processing related options (optional)
+     */
+    val parallel: Parallel = Parallel(),
+
+    /**
+     * write an interface as soon as its endpoints are converted (optional). Does not apply to the model types.
+     */
+    val streamInterfaces: Boolean = false,
+
+    /**
+     * skip a run if its inputs did not change (optional)
+     */
+    val incremental: Boolean = false,
+
     /**
      * enable/disable the @Generated annotation (optional)
      */
@@ -0,0 +1,23 @@
+/*
+ * Copyright 2026 https://github.com/openapi-processor/openapi-processor-base
+ * PDX-License-Identifier: Apache-2.0
+ */
+
+package io.openapiprocessor.core.processor.mapping
+
+data class Parallel(
+    /**
+     * enable/disable parallel conversion of the endpoints.
+     */
+    val converter: Boolean = false,
+
+    /**
+     * enable/disable conversion of the component schemas in dependency order (and in parallel).
+     */
+    val schemas: Boolean = false,
+
+    /**
+     * enable/disable parallel formatting & writing of the generated source files.
+     */
+    val writer: Boolean = false
+)
@@ -16,5 +16,15 @@ data class TargetDir(
      * classic: targetDir/packages
      * standard: targetDir/java/packages & targetDir/resources
      */
-    val layout: String = "classic"
+    val layout: String = "classic",
+
+    /**
+     * enable/disable writing only changed files (optional). Default is false, or true in watch mode.
+     */
+    val writeChanged: Boolean? = null,
+
+    /**
+     * enable/disable pruning of stale files instead of clearing targetDir (optional).
+     */
+    val prune: Boolean = false
 )
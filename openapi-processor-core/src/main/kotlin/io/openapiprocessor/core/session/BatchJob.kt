@@ -0,0 +1,41 @@
+/*
+ * Copyright 2026 https://github.com/openapi-processor/openapi-processor-base
+ * PDX-License-Identifier: Apache-2.0
+ */
+
+package io.openapiprocessor.core.session
+
+/**
+ * a processor run of a [ProcessorBatch].
+ *
+ * @param name name of the job, used in the summary
+ * @param processorOptions the processor options of the run
+ */
+class BatchJob(val name: String, val processorOptions: Map<String, *>) {
+
+    companion object {
+        /**
+         * create a job from the common processor options.
+         *
+         * @param name name of the job
+         * @param apiPath the OpenAPI description
+         * @param mapping the mapping (file or yaml)
+         * @param targetDir the target dir
+         * @param options additional processor options
+         */
+        fun of(
+            name: String,
+            apiPath: String,
+            mapping: String,
+            targetDir: String,
+            options: Map<String, *> = emptyMap<String, Any>()
+        ): BatchJob {
+            val processorOptions = linkedMapOf<String, Any?>()
+            processorOptions.putAll(options)
+            processorOptions["apiPath"] = apiPath
+            processorOptions["mapping"] = mapping
+            processorOptions["targetDir"] = targetDir
+            return BatchJob(name, processorOptions)
+        }
+    }
+}
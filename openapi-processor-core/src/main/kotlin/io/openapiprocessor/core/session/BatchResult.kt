@@ -0,0 +1,18 @@
+/*
+ * Copyright 2026 https://github.com/openapi-processor/openapi-processor-base
+ * PDX-License-Identifier: Apache-2.0
+ */
+
+package io.openapiprocessor.core.session
+
+/**
+ * result of a [BatchJob].
+ *
+ * @param job the job
+ * @param millis run time of the job
+ * @param error the failure of the job, null if it was successful
+ */
+class BatchResult(val job: BatchJob, val millis: Long, val error: Throwable? = null) {
+    val success: Boolean
+        get() = error == null
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026 https://github.com/openapi-processor/openapi-processor-base
+ * PDX-License-Identifier: Apache-2.0
+ */
+
+package io.openapiprocessor.core.session
+
+import org.slf4j.Logger
+import org.slf4j.LoggerFactory
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+
+/**
+ * runs many processor runs (e.g. one per service of a monorepo) in one jvm in parallel. The jobs share the state of
+ * the [session] (documents, mappings, formatters) and the process-wide caches (meta-schema stores, the dfa cache of
+ * the mapping parser, ...).
+ *
+ * A failed job does not stop the other jobs.
+ *
+ * @param session the session used by all jobs
+ * @param threads number of jobs that run in parallel
+ */
+class ProcessorBatch(
+    private val session: ProcessorSession,
+    private val threads: Int = Runtime.getRuntime().availableProcessors()
+) {
+    private val log: Logger = LoggerFactory.getLogger(this.javaClass.name)
+
+    /**
+     * run the jobs and log a timing summary.
+     *
+     * @param jobs the jobs
+     * @return the job results, in the order of the jobs
+     */
+    fun run(jobs: List<BatchJob>): List<BatchResult> {
+        val start = System.nanoTime()
+
+        val executor = Executors.newFixedThreadPool(threads)
+        try {
+            val tasks = jobs.map { job ->
+                executor.submit<BatchResult> { run(job) }
+            }
+
+            val results = tasks.map { it.get() }
+            log.info("batch summary\n{}", summary(results, millis(start)))
+            return results
+        } finally {
+            executor.shutdownNow()
+        }
+    }
+
+    private fun run(job: BatchJob): BatchResult {
+        val start = System.nanoTime()
+        return try {
+            session.generate(job.processorOptions)
+            BatchResult(job, millis(start))
+        } catch (ex: Exception) {
+            log.error("job {} failed", job.name, ex)
+            BatchResult(job, millis(start), ex)
+        }
+    }
+
+    private fun millis(start: Long): Long {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)
+    }
+
+    companion object {
+        /**
+         * a per-job timing summary.
+         *
+         * @param results the job results
+         * @param millis total run time of the batch
+         */
+        fun summary(results: List<BatchResult>, millis: Long): String {
+            val width = results.maxOfOrNull { it.job.name.length } ?: 0
+            val lines = results.map {
+                val status = if (it.success) "ok" else "failed: ${it.error?.message}"
+                "${it.job.name.padEnd(width)} ${it.millis.toString().padStart(7)} ms $status"
+            }
+
+            val failed = results.count { !it.success }
+            return (lines + "${results.size} job(s), $failed failed, $millis ms").joinToString("\n")
+        }
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2026 https://github.com/openapi-processor/openapi-processor-base
+ * PDX-License-Identifier: Apache-2.0
+ */
+
+package io.openapiprocessor.core.session
+
+import io.openapiprocessor.core.converter.ApiOptions
+import io.openapiprocessor.core.converter.OptionsConverter
+import io.openapiprocessor.core.incremental.IncrementalBuild
+import io.openapiprocessor.core.incremental.InputFingerprint
+import io.openapiprocessor.core.openapi.OpenApi
+import io.openapiprocessor.core.parser.OpenApiParser
+import io.openapiprocessor.core.processor.MappingReader
+import io.openapiprocessor.core.processor.MappingValidator
+import io.openapiprocessor.core.processor.mapping.Mapping
+import io.openapiprocessor.core.writer.SourceFormatter
+import io.openapiprocessor.core.writer.java.SourceFormatterFactory
+import org.slf4j.Logger
+import org.slf4j.LoggerFactory
+import java.net.URI
+import java.util.*
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * reusable state of multiple processor runs. A build tool keeps the session alive between builds (e.g. in a
+ * gradle build service) and calls [generate] for each run. The runs share
+ *
+ * - the parsed OpenAPI documents (by content hash),
+ * - the parsed & validated mappings (by content hash),
+ * - the formatter instances and the formatter cache.
+ *
+ * The process-wide caches (meta-schema stores, validated documents) are shared anyway. The session is thread-safe,
+ * i.e. it can run multiple processor runs in parallel. Each run gets its own copy of a cached document.
+ *
+ * If the `incremental` mapping option is set, [generate] skips a run if its inputs did not change (see
+ * [IncrementalBuild]). Otherwise the writer only writes the sources whose inputs changed.
+ *
+ * @param processor the processor
+ * @param maxDocuments maximum number of cached documents
+ * @param maxMappings maximum number of cached mappings
+ * @param processorId the id of the processor used by the up-to-date check, includes the processor version
+ */
+class ProcessorSession(
+    private val processor: SessionProcessor,
+    maxDocuments: Int = 1000,
+    maxMappings: Int = 100,
+    private val processorId: String = IncrementalBuild.processorId(processor.javaClass)
+) {
+    private val log: Logger = LoggerFactory.getLogger(this.javaClass.name)
+
+    private val documents: MutableMap<String, Any> = lru(maxDocuments)
+    private val mappings: MutableMap<String, MappingReader.CachedMapping> = lru(maxMappings)
+    private val parsedDocuments: MutableMap<String, Set<URI>> = ConcurrentHashMap()
+
+    private val parser = OpenApiParser(documents)
+    private val mappingReader = MappingReader(MappingValidator(), mappings)
+    private val formatterFactory = SourceFormatterFactory()
+
+    /**
+     * run the processor with this session. Skips the run if the `incremental` mapping option is set and the
+     * generated sources are up-to-date.
+     *
+     * @param processorOptions the processor options
+     */
+    fun generate(processorOptions: Map<String, *>) {
+        val incremental = IncrementalBuild.of(processorId, processorOptions, readMapping(processorOptions))
+        if (incremental != null && incremental.isUpToDate()) {
+            log.info("generated sources are up-to-date")
+            return
+        }
+
+        processor.run(this, processorOptions)
+        incremental?.update()
+    }
+
+    /**
+     * parse the OpenAPI description, reusing the unchanged documents of previous runs.
+     *
+     * @param processorOptions the processor options
+     */
+    fun parse(processorOptions: Map<String, *>): OpenApi {
+        val api = parser.parse(processorOptions)
+
+        val apiPath = processorOptions["apiPath"]?.toString()
+        if (apiPath != null) {
+            parsedDocuments[apiPath] = api.getDocuments().toSet()
+        }
+
+        return api
+    }
+
+    /**
+     * the documents of the last parse of the api of the processor options, i.e. the api document and all documents
+     * it references.
+     *
+     * @param processorOptions the processor options
+     * @return the document uris or null if the api was not parsed (or the parser does not provide them)
+     */
+    fun getDocuments(processorOptions: Map<String, *>): Set<URI>? {
+        val apiPath = processorOptions["apiPath"]?.toString() ?: return null
+        return parsedDocuments[apiPath]?.ifEmpty { null }
+    }
+
+    /**
+     * create the [ApiOptions] from the processor options, reusing an unchanged mapping of previous runs.
+     *
+     * @param processorOptions the processor options
+     */
+    fun convertOptions(processorOptions: Map<String, *>): ApiOptions {
+        val options = mutableMapOf<String, Any>()
+        processorOptions.forEach { (key, value) ->
+            if (value != null) {
+                options[key] = value
+            }
+        }
+
+        val apiOptions = ApiOptions()
+        OptionsConverter(mappingReader).fillOptions(options, apiOptions)
+
+        if (apiOptions.incremental) {
+            apiOptions.incrementalInputs = InputFingerprint.globalHash(processorId, processorOptions)
+        }
+
+        return apiOptions
+    }
+
+    /**
+     * get a formatter for the current thread.
+     *
+     * @param options the api options
+     */
+    fun getFormatter(options: ApiOptions): SourceFormatter {
+        return formatterFactory.getFormatter(options)
+    }
+
+    /**
+     * drop the cached documents & mappings.
+     */
+    fun clear() {
+        documents.clear()
+        mappings.clear()
+    }
+
+    private fun readMapping(processorOptions: Map<String, *>): Mapping? {
+        val mapping = processorOptions["mapping"]?.toString() ?: return null
+
+        return try {
+            // the run reports the validation errors
+            mappingReader.read(mapping, false)
+        } catch (_: Exception) {
+            // the run reports the invalid mapping
+            null
+        }
+    }
+
+    private fun <T> lru(max: Int): MutableMap<String, T> {
+        return Collections.synchronizedMap(object : LinkedHashMap<String, T>(16, 0.75f, true) {
+            override fun removeEldestEntry(eldest: MutableMap.MutableEntry<String, T>?): Boolean {
+                return size > max
+            }
+        })
+    }
+}
@@ -0,0 +1,20 @@
+/*
+ * Copyright 2026 https://github.com/openapi-processor/openapi-processor-base
+ * PDX-License-Identifier: Apache-2.0
+ */
+
+package io.openapiprocessor.core.session
+
+/**
+ * a processor that runs with the reusable state of a [ProcessorSession].
+ */
+fun interface SessionProcessor {
+
+    /**
+     * run the processor.
+     *
+     * @param session the session, provides parser, options converter and formatters
+     * @param processorOptions the processor options
+     */
+    fun run(session: ProcessorSession, processorOptions: Map<String, *>)
+}
@@ -0,0 +1,233 @@
+/*
+ * Copyright 2026 https://github.com/openapi-processor/openapi-processor-base
+ * PDX-License-Identifier: Apache-2.0
+ */
+
+package io.openapiprocessor.core.session
+
+import io.openapiprocessor.core.converter.ApiConverter
+import io.openapiprocessor.core.converter.ApiOptions
+import io.openapiprocessor.core.converter.options.SharedModelOptions
+import io.openapiprocessor.core.framework.FrameworkBase
+import io.openapiprocessor.core.model.Api
+import io.openapiprocessor.core.model.datatypes.DataType
+import io.openapiprocessor.core.model.datatypes.InterfaceDataType
+import io.openapiprocessor.core.model.datatypes.ModelDataType
+import io.openapiprocessor.core.model.datatypes.StringEnumDataType
+import io.openapiprocessor.core.openapi.OpenApi
+import io.openapiprocessor.core.writer.java.IdentifierOptions
+import io.openapiprocessor.core.writer.java.JavaIdentifier
+import org.slf4j.Logger
+import org.slf4j.LoggerFactory
+
+/**
+ * plans the model types shared by the jobs of a [ProcessorBatch], e.g. the common schemas of the services of a
+ * monorepo. Shared model types are generated once into [packageName] instead of once per job.
+ *
+ * A component schema is shared if it is a `$ref` to the same schema in at least two jobs and it converts to the same
+ * model type with the same writer options (model type, accessors, enum type, bean validation, jackson, javadoc,
+ * generated annotation) in all of them. Model types that differ (e.g. because of a different mapping) stay in the
+ * model package of each job.
+ *
+ * Each shared model type is written by the first job that uses it. It is written to [targetDir] or, if not set, to
+ * the target dir of that job. If the jobs write to separate modules, [targetDir] should be the target dir of a
+ * module that all of them depend on.
+ *
+ * Planning converts the api of each job (without writing it) and converts all of them again for each round that
+ * drops differing model types. Most of the parsing is cached by the session, but the conversions are not.
+ *
+ * @param session the session used to parse the OpenAPI descriptions & to create the options
+ * @param packageName package of the shared model types
+ * @param targetDir target dir of the shared model types (optional)
+ */
+class SharedModels(
+    private val session: ProcessorSession,
+    private val packageName: String,
+    private val targetDir: String? = null
+) {
+    private val log: Logger = LoggerFactory.getLogger(this.javaClass.name)
+
+    /**
+     * find the shared model types of the jobs.
+     *
+     * @param jobs the jobs
+     * @return the jobs with the shared model options
+     */
+    fun plan(jobs: List<BatchJob>): List<BatchJob> {
+        val apis = jobs.map { session.parse(it.processorOptions) }
+        val writers = jobs.map { getWriterSignature(session.convertOptions(it.processorOptions)) }
+
+        var shared = findCandidates(apis)
+        var types: List<Map<String, DataType>> = jobs.map { emptyMap() }
+
+        while (shared.isNotEmpty()) {
+            types = jobs.indices.map { getSharedTypes(jobs[it], apis[it], shared) }
+
+            val conflicts = findConflicts(types, writers)
+            if (conflicts.isEmpty()) {
+                break
+            }
+
+            log.info("not sharing model types that differ: {}", conflicts.sorted().joinToString())
+            val remaining = shared.filterNot { key -> conflicts.any { isName(key, it) } }.toSet()
+            shared = if (remaining.size < shared.size) remaining else emptySet()
+        }
+
+        if (shared.isEmpty()) {
+            return jobs
+        }
+
+        log.info("shared model types: {}", types.flatMap { it.keys }.toSortedSet().joinToString())
+
+        val written = mutableSetOf<String>()
+        return jobs.mapIndexed { index, job ->
+            val write = types[index].values
+                .map { it.getTypeName() }
+                .filter { written.add(it) }
+
+            val options = mutableMapOf<String, Any>(
+                "sharedModelPackage" to packageName,
+                "sharedModels" to shared.toList(),
+                "sharedModelsWrite" to write
+            )
+
+            if (targetDir != null) {
+                options["sharedModelTargetDir"] = targetDir
+            }
+
+            BatchJob(job.name, job.processorOptions + options)
+        }
+    }
+
+    /**
+     * component schemas that are a `$ref` to the same schema in at least two jobs. Different schemas with the same
+     * name can't share the package, so they are not candidates.
+     */
+    private fun findCandidates(apis: List<OpenApi>): Set<String> {
+        val usages = mutableMapOf<String, Int>()
+
+        apis.forEach { api ->
+            val resolver = api.getRefResolver()
+
+            api.getSchemas().values
+                .filter { it.getRef() != null }
+                .mapNotNull {
+                    val resolved = resolver.resolve(it)
+                    resolved.name?.let { name -> SharedModelOptions.key(resolved.schema.documentUri, name) }
+                }
+                .toSet()
+                .forEach { usages.merge(it, 1, Int::plus) }
+        }
+
+        val candidates = usages.filterValues { it > 1 }.keys
+        val names = candidates.groupBy { getName(it).lowercase() }
+
+        return candidates
+            .filter { names[getName(it).lowercase()]!!.size == 1 }
+            .toSet()
+    }
+
+    /**
+     * names of the shared model types that are not the same in all jobs.
+     */
+    private fun findConflicts(types: List<Map<String, DataType>>, writers: List<String>): Set<String> {
+        val signatures = mutableMapOf<String, String>()
+        val conflicts = mutableSetOf<String>()
+
+        types.forEachIndexed { index, jobTypes ->
+            jobTypes.forEach { (name, dataType) ->
+                val signature = writers[index] + getSignature(dataType)
+                val existing = signatures.putIfAbsent(name, signature)
+                if (existing != null && existing != signature) {
+                    conflicts.add(name)
+                }
+            }
+        }
+
+        return conflicts
+    }
+
+    /**
+     * converts the api of the job and returns the model types in the shared package by name.
+     */
+    private fun getSharedTypes(job: BatchJob, api: OpenApi, shared: Set<String>): Map<String, DataType> {
+        val options = session.convertOptions(job.processorOptions)
+        options.sharedModelOptions.packageName = packageName
+        options.sharedModelOptions.models = shared
+
+        val identifier = JavaIdentifier(IdentifierOptions(
+            options.identifierWordBreakFromDigitToLetter,
+            options.identifierPrefixInvalidEnumStart))
+
+        val converted = ApiConverter(options, identifier, FrameworkBase()).convert(api)
+        return getModelTypes(converted)
+            .filter { it.getPackageName() == packageName }
+            .associateBy { it.getName() }
+    }
+
+    private fun getModelTypes(api: Api): List<DataType> {
+        val types = mutableListOf<DataType>()
+        api.forEachModelDataType { types.add(it) }
+        api.forEachInterfaceDataType { types.add(it) }
+        api.forEachEnumDataType { types.add(it) }
+        return types
+    }
+
+    /**
+     * the writer options of a job that change the generated source of a model type. A shared model type imports the
+     * support (generated annotation) & validation classes of the job that writes it, so the package is part of it
+     * too.
+     */
+    private fun getWriterSignature(options: ApiOptions): String {
+        return buildString {
+            append("model-type: ${options.modelType} ${options.modelAccessors} ${options.modelNameSuffix}\n")
+            append("enum-type: ${options.enumType}\n")
+            append("bean-validation: ${options.beanValidation} ${options.beanValidationFormat}\n")
+            append("jackson: ${options.jackson} ${options.jsonPropertyAnnotation}\n")
+            append("javadoc: ${options.javadoc}\n")
+            append("generated: ${options.generatedAnnotation} ${options.generatedDate}\n")
+
+            if (options.generatedAnnotation || options.beanValidation) {
+                append("package: ${options.packageName}\n")
+            }
+        }
+    }
+
+    /**
+     * the parts of a model type that end up in the generated source.
+     */
+    private fun getSignature(dataType: DataType): String {
+        return buildString {
+            append("${dataType.javaClass.simpleName} ${dataType.getPackageName()}.${dataType.getTypeName()}")
+            append(" ${dataType.deprecated} ${dataType.documentation?.description}\n")
+
+            when (dataType) {
+                is ModelDataType -> {
+                    dataType.forEach { property, propertyType ->
+                        append("$property: ${propertyType.getTypeName()} ${propertyType.getImports().sorted()}")
+                        append(" ${dataType.isRequired(property)} ${propertyType.deprecated}")
+                        append(" ${propertyType.documentation?.description}\n")
+                    }
+                    append(dataType.implementsDataTypes.map { it.getImports() }.sortedBy { it.toString() })
+                }
+                is InterfaceDataType -> {
+                    append(dataType.items.map { it.getImports() }.sortedBy { it.toString() })
+                }
+                is StringEnumDataType -> {
+                    append(dataType.values)
+                }
+            }
+        }
+    }
+
+    private fun getName(key: String): String {
+        return key.substring(key.lastIndexOf('#') + 1)
+    }
+
+    /**
+     * the enum type name is capitalized.
+     */
+    private fun isName(key: String, name: String): Boolean {
+        return getName(key).equals(name, ignoreCase = true)
+    }
+}
@@ -0,0 +1,306 @@
+/*
+ * Copyright 2026 https://github.com/openapi-processor/openapi-processor-base
+ * PDX-License-Identifier: Apache-2.0
+ */
+
+package io.openapiprocessor.core.watch
+
+import io.openapiprocessor.core.incremental.IncrementalBuild
+import io.openapiprocessor.core.parser.openapi.DocumentPrefetcher
+import io.openapiprocessor.core.parser.openapi.cache.contentHash
+import io.openapiprocessor.core.session.ProcessorSession
+import io.openapiprocessor.core.session.SessionProcessor
+import io.openapiprocessor.core.support.toURI
+import io.openapiprocessor.jackson.JacksonConverter
+import io.openapiprocessor.jsonschema.reader.UriReader
+import org.slf4j.Logger
+import org.slf4j.LoggerFactory
+import java.io.Closeable
+import java.io.IOException
+import java.net.URI
+import java.nio.file.ClosedWatchServiceException
+import java.nio.file.FileSystems
+import java.nio.file.Files
+import java.nio.file.Path
+import java.nio.file.StandardWatchEventKinds.*
+import java.nio.file.WatchKey
+import java.time.Duration
+import java.util.*
+import java.util.concurrent.TimeUnit
+import kotlin.system.exitProcess
+
+/**
+ * watch mode for local development. It runs the processor, watches the OpenAPI documents (the api document and all
+ * documents it references) and the mapping, and runs the processor again if one of them changes.
+ *
+ * The runs use the same [ProcessorSession], i.e. a run parses only the changed documents and a changed mapping. The
+ * runs write only the generated files that changed (unless the mapping sets `options: target-dir: write-changed` to
+ * false), so an ide or an incremental compiler only sees the files that really changed.
+ *
+ * The change events are debounced: a run starts after the watched files did not change for [debounce]. Editors
+ * often save a file in multiple steps.
+ *
+ * @param session the session
+ * @param processorOptions the processor options
+ * @param debounce quiet time before a run
+ */
+class ProcessorWatcher(
+    private val session: ProcessorSession,
+    processorOptions: Map<String, *>,
+    private val debounce: Duration = Duration.ofMillis(100)
+): Closeable {
+    private val log: Logger = LoggerFactory.getLogger(this.javaClass.name)
+
+    private val processorOptions: Map<String, *> = processorOptions + ("watch" to true)
+    private val watchService = FileSystems.getDefault().newWatchService()
+    private val keys = mutableMapOf<Path, WatchKey>()
+
+    @Volatile
+    private var files: Set<Path> = emptySet()
+    private var hashes: Map<Path, String> = emptyMap()
+
+    /**
+     * the watched files.
+     */
+    val watchedFiles: Set<Path>
+        get() = files
+
+    /**
+     * run the processor and run it again on each change of the watched files. Returns when the watcher is closed
+     * or the thread is interrupted.
+     */
+    fun watch() {
+        try {
+            files = findFiles(emptySet()) { setOf(it) }
+
+            while (true) {
+                generate()
+                awaitChanges()
+
+                while (hashFiles(files) == hashes) {
+                    log.debug("watched files did not change")
+                    awaitChanges()
+                }
+            }
+        } catch (_: ClosedWatchServiceException) {
+            // closed
+        } catch (_: InterruptedException) {
+            Thread.currentThread().interrupt()
+        }
+    }
+
+    /**
+     * stop watching.
+     */
+    override fun close() {
+        watchService.close()
+    }
+
+    /**
+     * run the processor. The known files are registered & hashed before the run, so changes during the run are not
+     * lost. The run finds the documents of the api, the new ones are registered & hashed after the run.
+     */
+    private fun generate() {
+        val known = files
+        hashes = hashFiles(known)
+        register(known)
+
+        val start = System.nanoTime()
+        val failed = try {
+            session.generate(processorOptions)
+            false
+        } catch (ex: Exception) {
+            log.error("generation failed", ex)
+            true
+        }
+
+        // a broken document may hide its references, keep watching the files of the previous run
+        val found = findFiles(if (failed) known else emptySet()) { prefetch(it) }
+        hashes = hashes + hashFiles(found - known)
+        files = found
+        register(found)
+
+        if (!failed) {
+            log.info("generated in {} ms, watching {} file(s)", millis(start), files.size)
+        } else {
+            log.info("watching {} file(s)", files.size)
+        }
+    }
+
+    /**
+     * the mapping and the documents of the api. It uses the documents of the last parse of the session, i.e. it
+     * does not read the documents again. Without them (i.e. before the first run or if the processor does not parse
+     * with the session) it uses [documents].
+     */
+    private fun findFiles(previous: Set<Path>, documents: (URI) -> Set<URI>): Set<Path> {
+        val found = previous.toMutableSet()
+
+        val mapping = getMappingFile()
+        if (mapping != null) {
+            found.add(mapping)
+        }
+
+        val apiPath = processorOptions["apiPath"]?.toString()
+        if (apiPath != null) {
+            val parsed = session.getDocuments(processorOptions) ?: documents(toURI(apiPath))
+
+            parsed
+                .filter { it.scheme == "file" }
+                .forEach { found.add(Path.of(it)) }
+        }
+
+        return found
+            .map { it.toAbsolutePath().normalize() }
+            .toSet()
+    }
+
+    /**
+     * reads the documents of the api. Only used if the processor does not parse with the session.
+     */
+    private fun prefetch(api: URI): Set<URI> {
+        return try {
+            val prefetcher = DocumentPrefetcher(UriReader(), JacksonConverter())
+            prefetcher.prefetch(api)
+            prefetcher.documentHashes.keys + api
+        } catch (ex: Exception) {
+            log.debug("failed to read the documents of {}", api, ex)
+            setOf(api)
+        }
+    }
+
+    /**
+     * the mapping file, if the mapping option is a file name or a file url (and not the mapping yaml).
+     */
+    private fun getMappingFile(): Path? {
+        val mapping = processorOptions["mapping"]?.toString() ?: return null
+
+        if (mapping.startsWith("file:")) {
+            return Path.of(URI(mapping))
+        }
+
+        if (mapping.endsWith(".yaml") || mapping.endsWith(".yml")) {
+            return Path.of(mapping)
+        }
+
+        return null
+    }
+
+    /**
+     * the content hashes of the files. A file that is missing or can't be read (e.g. while an editor replaces it)
+     * gets a unique hash, i.e. it counts as changed.
+     */
+    private fun hashFiles(files: Set<Path>): Map<Path, String> {
+        return files.associateWith {
+            try {
+                contentHash(Files.readString(it))
+            } catch (_: IOException) {
+                "unreadable:${System.nanoTime()}"
+            }
+        }
+    }
+
+    /**
+     * the watch service watches directories, so it registers the parent directories of the files. A directory that
+     * can not be registered (e.g. it was deleted in the meantime) is skipped, the next run registers it again.
+     */
+    private fun register(files: Set<Path>) {
+        val dirs = files
+            .mapNotNull { it.parent }
+            .filter { Files.isDirectory(it) }
+            .toSet()
+
+        (keys.keys - dirs).forEach {
+            keys.remove(it)!!.cancel()
+        }
+
+        (dirs - keys.keys).forEach {
+            try {
+                keys[it] = it.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE)
+            } catch (ex: IOException) {
+                log.warn("failed to watch directory {} ({})", it, ex.message)
+            }
+        }
+    }
+
+    /**
+     * wait for a change of a watched file and then until there are no more changes for [debounce].
+     */
+    private fun awaitChanges() {
+        while (!hasChanges(watchService.take())) {
+            // wait
+        }
+
+        var deadline = System.nanoTime() + debounce.toNanos()
+        while (true) {
+            val wait = deadline - System.nanoTime()
+            if (wait <= 0) {
+                return
+            }
+
+            val key = watchService.poll(wait, TimeUnit.NANOSECONDS) ?: return
+            if (hasChanges(key)) {
+                deadline = System.nanoTime() + debounce.toNanos()
+            }
+        }
+    }
+
+    /**
+     * true if the events of the key include a watched file.
+     */
+    private fun hasChanges(key: WatchKey): Boolean {
+        val dir = key.watchable() as Path
+
+        val changed = key.pollEvents().any { event ->
+            event.kind() == OVERFLOW || files.contains(dir.resolve(event.context() as Path))
+        }
+
+        key.reset()
+        return changed
+    }
+
+    private fun millis(start: Long): Long {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)
+    }
+
+    companion object {
+
+        /**
+         * run the watch mode of a processor. The arguments are:
+         *
+         * - `--processor <name>`: the name of the processor, it is loaded by the [ServiceLoader].
+         * - `--debounce <millis>`: default is 100.
+         * - any other `--<option> <value>` is a processor option, e.g. `--apiPath`, `--mapping` & `--targetDir`.
+         */
+        @JvmStatic
+        fun main(args: Array<String>) {
+            val arguments = args.toList()
+                .chunked(2)
+                .filter { it.size == 2 && it[0].startsWith("--") }
+                .associate { (key, value) -> key.removePrefix("--") to value }
+
+            val name = arguments["processor"]
+            val processor = ServiceLoader.load(io.openapiprocessor.api.v2.OpenApiProcessor::class.java)
+                .find { it.name == name }
+
+            if (processor == null) {
+                System.err.println("unknown processor: $name")
+                exitProcess(2)
+            }
+
+            val session = if (processor is SessionProcessor) {
+                ProcessorSession(processor)
+            } else {
+                ProcessorSession(
+                    { _, options -> processor.run(options) },
+                    processorId = IncrementalBuild.processorId(processor.javaClass))
+            }
+
+            val debounce = Duration.ofMillis(arguments["debounce"]?.toLongOrNull() ?: 100)
+            val options = arguments.filterKeys { it != "processor" && it != "debounce" }
+
+            val watcher = ProcessorWatcher(session, options, debounce)
+            Runtime.getRuntime().addShutdownHook(Thread { watcher.close() })
+            watcher.watch()
+        }
+    }
+}
@@ -7,6 +7,7 @@ package io.openapiprocessor.core.writer
 
 import io.openapiprocessor.core.converter.ApiOptions
 import io.openapiprocessor.core.support.toURI
+import io.openapiprocessor.core.writer.java.ChangedPathWriter
 import io.openapiprocessor.core.writer.java.PathWriter
 import org.slf4j.Logger
 import org.slf4j.LoggerFactory
@@ -16,38 +17,73 @@ import java.io.Writer
 import java.nio.file.Files
 import java.nio.file.Path
 import java.nio.file.Paths
+import java.util.concurrent.ConcurrentHashMap
 import kotlin.io.path.ExperimentalPathApi
 import kotlin.io.path.deleteRecursively
 
 /**
  * Writer factory for the local file system. Must be initialized via [InitWriterTarget].
  */
-open class DefaultWriterFactory(val options: ApiOptions): WriterFactory, InitWriterTarget {
+open class DefaultWriterFactory(val options: ApiOptions):
+    WriterFactory, InitWriterTarget, FinishWriterTarget, KeepWriterTarget {
     private var log: Logger = LoggerFactory.getLogger(this.javaClass.name)
 
-    private var packagePaths: MutableMap<String, Path> = HashMap()
+    private var packagePaths: MutableMap<String, Path> = ConcurrentHashMap()
     private lateinit var resourcesPath: Path
 
+    private val manifest by lazy { TargetManifest(Path.of(toURI(options.targetDir!!))) }
+    private var previousFiles: Set<String>? = null
+
     override fun createWriter(packageName: String, className: String): Writer {
-        if (packagePaths[packageName] == null) {
-            val (name, path) = initTargetPackage(packageName)
-            packagePaths[name] = path
+        // the shared target dir is not part of the manifest, other runs write into it too
+        return createWriter(getTarget(packageName, className), !isSharedTarget(packageName))
+    }
+
+    override fun keep(packageName: String, className: String): Boolean {
+        val target = getTarget(packageName, className)
+        if (!Files.isRegularFile(target)) {
+            return false
         }
 
-        return createWriter(packagePaths.getValue(packageName), className)
+        if (options.targetDirOptions.prune && !isSharedTarget(packageName)) {
+            manifest.add(target)
+        }
+
+        return true
     }
 
-    private fun createWriter(packagePath: Path, className: String): Writer {
-        return BufferedWriter(PathWriter(packagePath.resolve("${className}.java")))
+    private fun getTarget(packageName: String, className: String): Path {
+        val packagePath = packagePaths.computeIfAbsent(packageName) {
+            initTargetPackage(it).second
+        }
+
+        return packagePath.resolve("${className}.java")
     }
 
     override fun createResourceWriter(resourceName: String): Writer {
-        return BufferedWriter(PathWriter(resourcesPath.resolve(resourceName)))
+        return createWriter(resourcesPath.resolve(resourceName))
+    }
+
+    private fun createWriter(target: Path, inManifest: Boolean = true): Writer {
+        if (options.targetDirOptions.prune && inManifest) {
+            manifest.add(target)
+        }
+
+        if (options.targetDirOptions.writeChanged) {
+            return ChangedPathWriter(target)
+        }
+
+        return BufferedWriter(PathWriter(target))
     }
 
     override fun init() {
         log.debug ("initializing target folders")
-        if (options.targetDirOptions.clear) {
+        if (options.targetDirOptions.prune) {
+            previousFiles = manifest.read()
+        }
+
+        // without a manifest (i.e. the first run) we do not know the stale files
+        if (options.targetDirOptions.clear && previousFiles == null) {
             clearTargetDir()
         }
 
@@ -78,6 +114,24 @@ open class DefaultWriterFactory(val options: ApiOptions): WriterFactory, InitWri
         packagePaths.putAll(initAdditionalPackages(options))
     }
 
+    /**
+     * if pruning is enabled, deletes the files of the previous run that were not generated by this run and
+     * updates the manifest.
+     */
+    override fun finish() {
+        if (!options.targetDirOptions.prune) {
+            return
+        }
+
+        val previous = previousFiles
+        if (previous != null) {
+            val deleted = manifest.prune(previous)
+            log.debug("deleted {} stale file(s)", deleted)
+        }
+
+        manifest.write()
+    }
+
     open fun initAdditionalPackages(options: ApiOptions): Map<String, Path> {
         return emptyMap()
     }
@@ -101,13 +155,26 @@ open class DefaultWriterFactory(val options: ApiOptions): WriterFactory, InitWri
 
     protected fun initTargetPackage(packageName: String): Pair<String, Path> {
         val packageFolder = packageName.replace(".", "/")
-        val packagePath = createTargetPackage(packageFolder)
+        val targetDir = if (isSharedTarget(packageName)) {
+            options.sharedModelOptions.targetDir
+        } else {
+            options.targetDir
+        }
+        val packagePath = createTargetPackage(targetDir, packageFolder)
 
         return Pair(packageName, packagePath)
     }
 
-    private fun createTargetPackage(apiPkg: String): Path {
-        val items = mutableListOf(options.targetDir)
+    /**
+     * true if the package is the package of the shared model types and they have their own target dir.
+     */
+    private fun isSharedTarget(packageName: String): Boolean {
+        val shared = options.sharedModelOptions
+        return shared.targetDir != null && shared.packageName == packageName
+    }
+
+    private fun createTargetPackage(targetDir: String?, apiPkg: String): Path {
+        val items = mutableListOf(targetDir)
         if (options.targetDirOptions.layout.isStandard()) {
             items.add("java")
         }
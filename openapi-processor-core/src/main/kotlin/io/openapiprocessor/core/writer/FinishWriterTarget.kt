@@ -0,0 +1,13 @@
+/*
+ * Copyright 2026 https://github.com/openapi-processor/openapi-processor-base
+ * PDX-License-Identifier: Apache-2.0
+ */
+
+package io.openapiprocessor.core.writer
+
+/**
+ * called after all files were written successfully.
+ */
+fun interface FinishWriterTarget {
+    fun finish()
+}
@@ -0,0 +1,21 @@
+/*
+ * Copyright 2026 https://github.com/openapi-processor/openapi-processor-base
+ * PDX-License-Identifier: Apache-2.0
+ */
+
+package io.openapiprocessor.core.writer
+
+/**
+ * a writer target that can keep an unchanged source of the previous run.
+ */
+fun interface KeepWriterTarget {
+
+    /**
+     * keep the source of a class, i.e. it is generated by this run without writing it again.
+     *
+     * @param packageName package of the class
+     * @param className name of the class
+     * @return true if the source exists, false otherwise
+     */
+    fun keep(packageName: String, className: String): Boolean
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2026 https://github.com/openapi-processor/openapi-processor-base
+ * PDX-License-Identifier: Apache-2.0
+ */
+
+package io.openapiprocessor.core.writer
+
+import io.openapiprocessor.core.writer.java.ChangedPathWriter
+import org.slf4j.Logger
+import org.slf4j.LoggerFactory
+import java.io.IOException
+import java.nio.file.DirectoryNotEmptyException
+import java.nio.file.Files
+import java.nio.file.Path
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * list of the files generated into the target dir. It is stored in the target dir and used to delete the files of
+ * a previous run that are no longer generated.
+ *
+ * @param root the target dir
+ */
+class TargetManifest(root: Path) {
+    private val log: Logger = LoggerFactory.getLogger(this.javaClass.name)
+
+    private val root: Path = root.toAbsolutePath().normalize()
+    private val manifest: Path = this.root.resolve(NAME)
+    private val generated: MutableSet<String> = ConcurrentHashMap.newKeySet()
+
+    /**
+     * read the manifest of the previous run.
+     *
+     * @return the generated files (relative to the target dir) or null if there is no (readable) manifest
+     */
+    fun read(): Set<String>? {
+        if (!Files.isRegularFile(manifest)) {
+            return null
+        }
+
+        return try {
+            Files.readAllLines(manifest, Charsets.UTF_8)
+                .filter { it.isNotBlank() }
+                .toSet()
+        } catch (ex: IOException) {
+            log.warn("failed to read target manifest {} ({})", manifest, ex.message)
+            null
+        }
+    }
+
+    /**
+     * add a generated file.
+     *
+     * @param file the generated file
+     */
+    fun add(file: Path) {
+        generated.add(relative(file))
+    }
+
+    /**
+     * delete the files of the previous run that were not generated by this run, and the directories that are empty
+     * after deleting them.
+     *
+     * @param previous the generated files of the previous run
+     * @return number of deleted files
+     */
+    fun prune(previous: Set<String>): Int {
+        var deleted = 0
+
+        previous.filter { !generated.contains(it) }.forEach {
+            val file = root.resolve(it).normalize()
+            if (!file.startsWith(root) || file == manifest) {
+                log.warn("ignoring invalid target manifest entry {}", it)
+                return@forEach
+            }
+
+            try {
+                if (Files.deleteIfExists(file)) {
+                    deleted++
+                    deleteEmptyParents(file)
+                }
+            } catch (ex: IOException) {
+                log.warn("failed to delete stale file {} ({})", file, ex.message)
+            }
+        }
+
+        return deleted
+    }
+
+    private fun deleteEmptyParents(file: Path) {
+        var dir = file.parent
+        while (dir != null && dir != root && dir.startsWith(root)) {
+            try {
+                Files.delete(dir)
+            } catch (_: DirectoryNotEmptyException) {
+                return
+            } catch (ex: IOException) {
+                log.debug("failed to delete empty directory {} ({})", dir, ex.message)
+                return
+            }
+            dir = dir.parent
+        }
+    }
+
+    /**
+     * write the manifest of this run. It is not touched if it did not change.
+     */
+    fun write() {
+        ChangedPathWriter(manifest).use { writer ->
+            generated.sorted().forEach {
+                writer.write(it)
+                writer.write("\n")
+            }
+        }
+    }
+
+    private fun relative(file: Path): String {
+        return root.relativize(file.toAbsolutePath().normalize())
+            .joinToString("/")
+    }
+
+    companion object {
+        const val NAME = ".openapi-processor-manifest"
+    }
+}
@@ -6,14 +6,21 @@
 package io.openapiprocessor.core.writer.java
 
 import io.openapiprocessor.core.converter.ApiOptions
+import io.openapiprocessor.core.incremental.SourceGraph
 import io.openapiprocessor.core.model.Api
 import io.openapiprocessor.core.model.Interface
 import io.openapiprocessor.core.model.datatypes.InterfaceDataType
 import io.openapiprocessor.core.model.datatypes.ModelDataType
 import io.openapiprocessor.core.model.datatypes.StringEnumDataType
+import io.openapiprocessor.core.support.toURI
 import io.openapiprocessor.core.writer.*
+import org.slf4j.Logger
+import org.slf4j.LoggerFactory
 import java.io.StringWriter
 import java.io.Writer
+import java.nio.file.Path
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.Executors
 
 typealias AdditionalWriter = (ApiOptions, SourceFormatter, WriterFactory) -> Unit
 
@@ -30,8 +37,12 @@ class ApiWriter(
     private val interfaceDataTypeWriter: InterfaceDataTypeWriter,
     private val additionalWriter: List<AdditionalWriter> = emptyList(),
     private val formatter: SourceFormatter = GoogleFormatter(),
-    private val writerFactory: WriterFactory = DefaultWriterFactory(options)
+    private val writerFactory: WriterFactory = DefaultWriterFactory(options),
+    private val formatterFactory: () -> SourceFormatter = defaultFormatterFactory(options)
 ) {
+    private val log: Logger = LoggerFactory.getLogger(this.javaClass.name)
+    private val threadFormatter = ThreadLocal<SourceFormatter>()
+
     init {
         if (writerFactory is InitWriterTarget) {
             writerFactory.init()
@@ -39,14 +50,45 @@ class ApiWriter(
     }
 
     fun write(api: Api) {
+        val graph = createSourceGraph()
+        writeGenerated()
+        writeValidation()
+        writeSources(getInterfaceSources(api) + getDataTypeSources(api), api, graph)
+        writeResourceFiles(api)
+        writeAdditionalFiles()
+        finish(graph)
+    }
+
+    /**
+     * streaming write. [convert] runs the api conversion and passes each interface to its argument as soon as the
+     * interface is complete. The interface is written immediately, so it can be released before the conversion of
+     * the other interfaces. The model types stay in memory and the model files are written when the conversion is
+     * done. The streamed interfaces are always written.
+     *
+     * @param convert runs the conversion, e.g. `{ converter.convert(openapi, it) }`
+     */
+    fun write(convert: ((Interface) -> Unit) -> Api) {
+        val graph = createSourceGraph()
         writeGenerated()
         writeValidation()
-        writeInterfaces(api)
-        writeObjectDataTypes(api)
-        writeInterfaceDataTypes(api)
-        writeEnumDataTypes(api)
+        val api = convert { writeInterface(it) }
+        writeSources(getInterfaceSources(api) + getDataTypeSources(api), api, graph)
         writeResourceFiles(api)
         writeAdditionalFiles()
+        finish(graph)
+    }
+
+    private fun finish(graph: SourceGraph?) {
+        if (writerFactory is FinishWriterTarget) {
+            writerFactory.finish()
+        }
+
+        graph?.write()
+    }
+
+    private fun createSourceGraph(): SourceGraph? {
+        val inputs = options.incrementalInputs ?: return null
+        return SourceGraph(Path.of(toURI(options.targetDir!!)), inputs)
     }
 
     private fun writeGenerated () {
@@ -55,36 +97,118 @@ class ApiWriter(
         writer.close()
     }
 
-    private fun writeInterfaces(api: Api) {
+    private fun getInterfaceSources(api: Api): List<Source> {
+        val sources = mutableListOf<Source>()
+
         api.forEachInterface {
-            val writer = getWriter(it.getPackageName(), it.getInterfaceName())
-            writeInterface(writer, it)
-            writer.close()
+            sources.add(Source(it.getPackageName(), it.getInterfaceName()) { writer -> writeInterface(writer, it) })
         }
+
+        return sources
     }
 
-    private fun writeObjectDataTypes(api: Api) {
+    private fun getDataTypeSources(api: Api): List<Source> {
+        val sources = mutableListOf<Source>()
+
         api.forEachModelDataType {
-            val writer = getWriter(it.getPackageName(), it.getTypeName())
-            writeDataType(writer, it)
-            writer.close()
+            sources.add(Source(it.getPackageName(), it.getTypeName()) { writer -> writeDataType(writer, it) })
         }
-    }
 
-    private fun writeInterfaceDataTypes(api: Api) {
         api.forEachInterfaceDataType {
-            val writer = getWriter(it.getPackageName(), it.getTypeName())
-            writeDataType(writer, it)
-            writer.close()
+            sources.add(Source(it.getPackageName(), it.getTypeName()) { writer -> writeDataType(writer, it) })
         }
-    }
 
-    private fun writeEnumDataTypes(api: Api) {
         api.forEachEnumDataType {
-            val writer = getWriter(it.getPackageName(), it.getTypeName())
-            writeEnumDataType(writer, it)
-            writer.close()
+            sources.add(Source(it.getPackageName(), it.getTypeName()) { writer -> writeEnumDataType(writer, it) })
         }
+
+        return sources.filter { isWritten(it) }
+    }
+
+    /**
+     * shared model types are written by only one of the runs that share them.
+     */
+    private fun isWritten(source: Source): Boolean {
+        val shared = options.sharedModelOptions
+        if (shared.packageName == null || source.packageName != shared.packageName) {
+            return true
+        }
+
+        return shared.isWritten(source.className)
+    }
+
+    private fun writeInterface(itf: Interface) {
+        writeSource(Source(itf.getPackageName(), itf.getInterfaceName()) { writer -> writeInterface(writer, itf) })
+    }
+
+    private fun writeSources(all: List<Source>, api: Api, graph: SourceGraph?) {
+        val sources = all.filter { !isUnchanged(it, api, graph) }
+        if (sources.size < all.size) {
+            log.info("keeping {} of {} unchanged sources", all.size - sources.size, all.size)
+        }
+
+        if (!options.parallelOptions.writer) {
+            sources.forEach { writeSource(it) }
+            return
+        }
+
+        writeSourcesParallel(sources)
+    }
+
+    /**
+     * an incremental run keeps the source of the previous run if the OpenAPI elements it depends on did not change.
+     */
+    private fun isUnchanged(source: Source, api: Api, graph: SourceGraph?): Boolean {
+        if (graph == null) {
+            return false
+        }
+
+        val dependencies = api.getSources()?.get(source.packageName, source.className) ?: return false
+        if (!graph.add("${source.packageName}.${source.className}", dependencies)) {
+            return false
+        }
+
+        return writerFactory is KeepWriterTarget && writerFactory.keep(source.packageName, source.className)
+    }
+
+    /**
+     * formats & writes the sources in parallel. Each thread uses its own formatter from [formatterFactory], the
+     * formatters are not thread-safe. It waits for all sources before it reports a failure. If there are multiple
+     * failures, it throws the first one (in source order) with the others as suppressed exceptions.
+     */
+    private fun writeSourcesParallel(sources: List<Source>) {
+        val executor = Executors.newFixedThreadPool(options.parallelOptions.threads)
+        try {
+            val tasks = sources.map { source ->
+                executor.submit<Unit> {
+                    initThreadFormatter()
+                    writeSource(source)
+                }
+            }
+
+            val failures = mutableListOf<Throwable>()
+            tasks.forEach { task ->
+                try {
+                    task.get()
+                } catch (e: ExecutionException) {
+                    failures.add(e.cause ?: e)
+                }
+            }
+
+            if (failures.isNotEmpty()) {
+                val failure = failures.first()
+                failures.drop(1).forEach { failure.addSuppressed(it) }
+                throw failure
+            }
+        } finally {
+            executor.shutdownNow()
+        }
+    }
+
+    private fun writeSource(source: Source) {
+        val writer = getWriter(source.packageName, source.className)
+        source.write(writer)
+        writer.close()
     }
 
     private fun writeValidation() {
@@ -151,6 +275,23 @@ class ApiWriter(
         if (!options.formatCode) {
             return raw
         }
-        return formatter.format(raw)
+        return (threadFormatter.get() ?: formatter).format(raw)
+    }
+
+    private fun initThreadFormatter() {
+        if (threadFormatter.get() != null) {
+            return
+        }
+        threadFormatter.set(formatterFactory())
     }
+
+    private class Source(val packageName: String, val className: String, val write: (Writer) -> Unit)
+}
+
+/**
+ * creates the formatters of the parallel writer, one per thread.
+ */
+private fun defaultFormatterFactory(options: ApiOptions): () -> SourceFormatter {
+    val factory = SourceFormatterFactory()
+    return { factory.getFormatter(options) }
 }
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2026 https://github.com/openapi-processor/openapi-processor-base
+ * PDX-License-Identifier: Apache-2.0
+ */
+
+package io.openapiprocessor.core.writer.java
+
+import io.openapiprocessor.core.parser.openapi.cache.contentHash
+import io.openapiprocessor.core.writer.SourceFormatter
+
+/**
+ * formatter that looks up the formatted source in a [FormatterCache] before it runs the (slow) [formatter].
+ *
+ * @param formatter the source formatter
+ * @param formatterId identifies the formatter and its settings, part of the cache key
+ * @param cache the formatted sources
+ */
+class CachingFormatter(
+    private val formatter: SourceFormatter,
+    private val formatterId: String,
+    private val cache: FormatterCache
+): SourceFormatter {
+
+    override fun format(raw: String): String {
+        val key = contentHash("$formatterId\n$raw")
+
+        val cached = cache.get(key)
+        if (cached != null) {
+            return cached
+        }
+
+        val formatted = formatter.format(raw)
+        cache.put(key, formatted)
+        return formatted
+    }
+}
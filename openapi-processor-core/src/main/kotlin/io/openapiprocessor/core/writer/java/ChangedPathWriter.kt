@@ -0,0 +1,54 @@
+/*
+ * Copyright 2026 https://github.com/openapi-processor/openapi-processor-base
+ * PDX-License-Identifier: Apache-2.0
+ */
+
+package io.openapiprocessor.core.writer.java
+
+import java.io.Writer
+import java.nio.charset.Charset
+import java.nio.file.Files
+import java.nio.file.Path
+
+/**
+ * Path based Writer that only writes the target file if its content changed. It buffers the content and compares
+ * it with the existing file on [close]. An unchanged file is not touched, i.e. it keeps its modification time.
+ *
+ * @param target the target file
+ */
+class ChangedPathWriter(private val target: Path): Writer() {
+    private val buffer = StringBuilder()
+    private var closed = false
+
+    override fun write(cbuf: CharArray, off: Int, len: Int) {
+        buffer.appendRange(cbuf, off, off + len)
+    }
+
+    override fun flush() {
+        // nop, the content is written on close
+    }
+
+    override fun close() {
+        if (closed) {
+            return
+        }
+        closed = true
+
+        val content = buffer.toString().toByteArray(Charset.defaultCharset())
+        if (!isUnchanged(content)) {
+            Files.write(target, content)
+        }
+    }
+
+    private fun isUnchanged(content: ByteArray): Boolean {
+        if (!Files.isRegularFile(target)) {
+            return false
+        }
+
+        if (Files.size(target) != content.size.toLong()) {
+            return false
+        }
+
+        return Files.readAllBytes(target).contentEquals(content)
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2026 https://github.com/openapi-processor/openapi-processor-base
+ * PDX-License-Identifier: Apache-2.0
+ */
+
+package io.openapiprocessor.core.writer.java
+
+import org.slf4j.Logger
+import org.slf4j.LoggerFactory
+import java.io.IOException
+import java.nio.file.Files
+import java.nio.file.Path
+import java.nio.file.StandardCopyOption
+import java.nio.file.attribute.FileTime
+import kotlin.io.path.extension
+import kotlin.io.path.isRegularFile
+
+/**
+ * on-disk cache of formatted sources. Cache entries are keyed by a content hash. A read updates the modification
+ * time of the entry, so [evict] drops the least recently used entries first. A corrupt or unreadable entry is
+ * dropped and treated as missing.
+ *
+ * @param dir cache directory
+ * @param maxSize maximum size of the cache in bytes
+ */
+class FormatterCache(private val dir: Path, private val maxSize: Long) {
+    private val log: Logger = LoggerFactory.getLogger(this.javaClass.name)
+
+    /**
+     * get a cached formatted source.
+     *
+     * @param key content hash of the raw source
+     * @return the formatted source or null if it is not cached
+     */
+    fun get(key: String): String? {
+        val path = dir.resolve("$key.$EXTENSION")
+        if (!Files.exists(path)) {
+            return null
+        }
+
+        return try {
+            val formatted = Files.readString(path, Charsets.UTF_8)
+            Files.setLastModifiedTime(path, FileTime.fromMillis(System.currentTimeMillis()))
+            formatted
+        } catch (ex: Exception) {
+            log.warn("dropping corrupt cache entry {} ({})", path, ex.message)
+            drop(path)
+            null
+        }
+    }
+
+    /**
+     * cache a formatted source.
+     *
+     * @param key content hash of the raw source
+     * @param formatted the formatted source
+     */
+    fun put(key: String, formatted: String) {
+        val target = dir.resolve("$key.$EXTENSION")
+        try {
+            Files.createDirectories(dir)
+
+            val tmp = Files.createTempFile(dir, key, ".tmp")
+            try {
+                Files.writeString(tmp, formatted, Charsets.UTF_8)
+                Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE)
+            } finally {
+                Files.deleteIfExists(tmp)
+            }
+        } catch (ex: Exception) {
+            log.warn("failed to write cache entry {} ({})", target, ex.message)
+        }
+    }
+
+    /**
+     * drops the least recently used entries until the cache is not larger than [maxSize].
+     */
+    fun evict() {
+        if (!Files.isDirectory(dir)) {
+            return
+        }
+
+        val entries = try {
+            Files.list(dir).use { paths ->
+                paths.filter { it.isRegularFile() && it.extension == EXTENSION }
+                    .map { Entry(it, Files.size(it), Files.getLastModifiedTime(it).toMillis()) }
+                    .toList()
+            }
+        } catch (ex: Exception) {
+            log.warn("failed to read cache directory {} ({})", dir, ex.message)
+            return
+        }
+
+        var size = entries.sumOf { it.size }
+        if (size <= maxSize) {
+            return
+        }
+
+        var dropped = 0
+        for (entry in entries.sortedBy { it.modified }) {
+            if (size <= maxSize) {
+                break
+            }
+
+            drop(entry.path)
+            size -= entry.size
+            dropped++
+        }
+
+        log.debug("evicted {} formatter cache entries", dropped)
+    }
+
+    private fun drop(path: Path) {
+        try {
+            Files.deleteIfExists(path)
+        } catch (_: IOException) {
+            // ignore
+        }
+    }
+
+    private class Entry(val path: Path, val size: Long, val modified: Long)
+
+    companion object {
+        private const val EXTENSION = "formatted"
+    }
+}
@@ -14,6 +14,11 @@ class SchemaPackage(private val options: ApiOptions)  {
     private val pkg = PackageSelector(options.packageOptions)
 
     fun getPackageName(schemaInfo: SchemaInfo): String {
+        val shared = options.sharedModelOptions
+        if (shared.isShared(schemaInfo.getDocumentUri(), schemaInfo.getName())) {
+            return shared.packageName!!
+        }
+
         return if (options.packageNameFromLocation) {
             pkg.getPackageName(schemaInfo.getDocumentUri(), SUB_PACKAGE)
         } else {
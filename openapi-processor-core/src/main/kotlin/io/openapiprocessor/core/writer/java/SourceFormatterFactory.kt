@@ -5,20 +5,81 @@
 
 package io.openapiprocessor.core.writer.java
 
+import com.google.googlejavaformat.java.Formatter
 import io.openapiprocessor.core.converter.ApiOptions
+import io.openapiprocessor.core.parser.openapi.cache.contentHash
 import io.openapiprocessor.core.writer.SourceFormatter
+import org.eclipse.jdt.core.ToolFactory
+import java.nio.file.Path
 
 class SourceFormatterFactory {
+    private var cache: FormatterCache? = null
 
     fun getFormatter(options: ApiOptions): SourceFormatter {
-        return if (options.formatCode) {
-            when (options.formatCodeFormatter) {
-                "google" -> GoogleFormatter()
+        val formatter = createFormatter(options)
+
+        val cacheDir = options.formatCodeCacheDir
+        if (!options.formatCode || cacheDir == null) {
+            return formatter
+        }
+
+        return CachingFormatter(formatter, getFormatterId(options), getCache(cacheDir, options.formatCodeCacheSize))
+    }
+
+    /**
+     * the formatters are not thread-safe and expensive to set up, so there is one instance per thread that is
+     * reused by the runs of a long-lived process.
+     */
+    private fun createFormatter(options: ApiOptions): SourceFormatter {
+        val name = if (options.formatCode && options.formatCodeFormatter == "eclipse") {
+            "eclipse"
+        } else {
+            "google"
+        }
+
+        return formatters.get().getOrPut(name) {
+            when (name) {
                 "eclipse" -> EclipseFormatter()
                 else -> GoogleFormatter()
             }
-        } else {
-            GoogleFormatter()
         }
     }
+
+    /**
+     * the cache is shared by all formatters of this factory (e.g. one per thread). It is trimmed to its maximum
+     * size when it is created.
+     */
+    @Synchronized
+    private fun getCache(cacheDir: String, maxSize: Long): FormatterCache {
+        var current = cache
+        if (current == null) {
+            current = FormatterCache(Path.of(cacheDir), maxSize)
+            current.evict()
+            cache = current
+        }
+        return current
+    }
+
+    /**
+     * identifies the formatter, its version and its settings.
+     */
+    private fun getFormatterId(options: ApiOptions): String {
+        return when (options.formatCodeFormatter) {
+            "eclipse" -> {
+                val settings = EclipseFormatter::class.java.getResource("/formatter.properties")!!.readText()
+                "eclipse:${getVersion(ToolFactory::class.java)}:${contentHash(settings)}"
+            }
+            else -> "google:${getVersion(Formatter::class.java)}"
+        }
+    }
+
+    private fun getVersion(type: Class<*>): String {
+        return type.`package`?.implementationVersion
+            ?: type.protectionDomain?.codeSource?.location?.path
+            ?: "unknown"
+    }
+
+    companion object {
+        private val formatters = ThreadLocal.withInitial { mutableMapOf<String, SourceFormatter>() }
+    }
 }
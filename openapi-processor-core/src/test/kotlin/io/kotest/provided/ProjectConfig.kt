@@ -17,14 +17,28 @@ import java.nio.file.Path
 object Windows: Tag()
 object NotWindows: Tag()
 
+/**
+ * benchmarks, they only run if the `BENCHMARK` environment variable is `true`.
+ */
+object Benchmark: Tag()
+
 object SystemTagExtension: TagExtension {
 
     override fun tags(): TagExpression {
-        return if(isWindows()) {
+        val system = if(isWindows()) {
             TagExpression.exclude(NotWindows)
         } else {
             TagExpression.exclude(Windows)
         }
+
+        if (isBenchmark()) {
+            return system
+        }
+        return system.exclude(Benchmark)
+    }
+
+    private fun isBenchmark(): Boolean {
+        return System.getenv("BENCHMARK").toBoolean()
     }
 
     private fun isWindows(): Boolean {
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2026 https://github.com/openapi-processor/openapi-processor-base
+ * PDX-License-Identifier: Apache-2.0
+ */
+
+package io.openapiprocessor.core.converter
+
+import io.kotest.core.spec.style.StringSpec
+import io.kotest.matchers.shouldBe
+import io.openapiprocessor.core.framework.FrameworkBase
+import io.openapiprocessor.core.model.Api
+import io.openapiprocessor.core.model.Interface
+import io.openapiprocessor.core.support.parseApiBody
+import io.openapiprocessor.core.support.parseOptions
+import io.openapiprocessor.core.writer.java.JavaIdentifier
+
+class ApiConverterParallelSpec: StringSpec({
+
+    val openApi = $$"""
+        paths:
+          /foo:
+            get:
+              tags: [foo]
+              responses:
+                '200':
+                  description: ...
+                  content:
+                    application/json:
+                      schema:
+                        $ref: '#/components/schemas/Foo'
+            post:
+              tags: [foo]
+              requestBody:
+                content:
+                  application/json:
+                    schema:
+                      $ref: '#/components/schemas/Foo'
+              responses:
+                '204':
+                  description: ...
+          /bar:
+            get:
+              tags: [bar]
+              responses:
+                '200':
+                  description: ...
+                  content:
+                    application/json:
+                      schema:
+                        $ref: '#/components/schemas/Bar'
+          /baz:
+            get:
+              tags: [foo]
+              parameters:
+                - name: kind
+                  in: query
+                  schema:
+                    $ref: '#/components/schemas/Kind'
+              responses:
+                '200':
+                  description: ...
+                  content:
+                    application/json:
+                      schema:
+                        type: object
+                        properties:
+                          bar:
+                            $ref: '#/components/schemas/Bar'
+
+        components:
+          schemas:
+            Foo:
+              type: object
+              properties:
+                bar:
+                  $ref: '#/components/schemas/Bar'
+                kind:
+                  $ref: '#/components/schemas/Kind'
+
+            Bar:
+              type: object
+              properties:
+                foo:
+                  $ref: '#/components/schemas/Foo'
+
+            Kind:
+              type: string
+              enum: [a, b]
+        """
+
+    fun convert(parallel: Boolean, schemas: Boolean = false): Api {
+        val options = parseOptions()
+        options.parallelOptions.converter = parallel
+        options.parallelOptions.schemas = schemas
+        options.parallelOptions.threads = 4
+
+        return ApiConverter(options, JavaIdentifier(), FrameworkBase())
+            .convert(parseApiBody(openApi))
+    }
+
+    fun convertStreaming(parallel: Boolean, interfaces: MutableList<Interface>, threads: Int = 4): Api {
+        val options = parseOptions()
+        options.parallelOptions.converter = parallel
+        options.parallelOptions.threads = threads
+
+        return ApiConverter(options, JavaIdentifier(), FrameworkBase())
+            .convert(parseApiBody(openApi)) { interfaces.add(it) }
+    }
+
+    fun endpoints(api: Api): List<String> {
+        return endpoints(api.getInterfaces())
+    }
+
+    fun endpoints(interfaces: List<Interface>): List<String> {
+        return interfaces
+            .sortedBy { it.getInterfaceName() }
+            .flatMap { itf -> itf.endpoints.map { "${itf.getInterfaceName()} ${it.method} ${it.path}" } }
+    }
+
+    fun models(api: Api): List<String> {
+        return api.getDataTypes().getModelDataTypes().map { it.getName() }.sorted() +
+            api.getDataTypes().getEnumDataTypes().map { it.getName() }.sorted()
+    }
+
+    "parallel conversion creates the same endpoints & models as sequential conversion" {
+        val sequential = convert(false)
+        val parallel = convert(true)
+
+        endpoints(parallel) shouldBe endpoints(sequential)
+        models(parallel) shouldBe models(sequential)
+
+        sequential.getDataTypes().getModelDataTypes().forEach {
+            parallel.getDataTypes().getRefCnt(it.getName()) shouldBe sequential.getDataTypes().getRefCnt(it.getName())
+        }
+    }
+
+    "converting the schemas before the endpoints creates the same endpoints & models" {
+        val sequential = convert(false)
+        val prepared = convert(parallel = true, schemas = true)
+
+        endpoints(prepared) shouldBe endpoints(sequential)
+        models(prepared) shouldBe models(sequential)
+    }
+
+    "streaming conversion passes each complete interface once and creates the same models" {
+        listOf(false, true).forEach { parallel ->
+            val sequential = convert(false)
+
+            val interfaces = mutableListOf<Interface>()
+            val streamed = convertStreaming(parallel, interfaces)
+
+            interfaces.map { it.getInterfaceName() }.distinct().size shouldBe interfaces.size
+            endpoints(interfaces) shouldBe endpoints(sequential)
+            streamed.getInterfaces().size shouldBe 0
+            models(streamed) shouldBe models(sequential)
+        }
+    }
+
+    "parallel conversion with less pending endpoints than endpoints creates the same interfaces" {
+        val sequential = convert(false)
+
+        // 2 threads allow 4 pending endpoints, it adds the first one while it is still submitting the endpoints
+        val interfaces = mutableListOf<Interface>()
+        convertStreaming(true, interfaces, threads = 2)
+
+        endpoints(interfaces) shouldBe endpoints(sequential)
+    }
+})
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026 https://github.com/openapi-processor/openapi-processor-base
+ * PDX-License-Identifier: Apache-2.0
+ */
+
+package io.openapiprocessor.core.converter
+
+import io.kotest.core.spec.IsolationMode
+import io.kotest.core.spec.style.StringSpec
+import io.kotest.matchers.shouldBe
+import io.kotest.matchers.types.shouldBeSameInstanceAs
+import io.openapiprocessor.core.model.DataTypes
+import io.openapiprocessor.core.openapi.HttpMethod
+import io.openapiprocessor.core.support.getSchemaInfo
+import io.openapiprocessor.core.support.parseApiBody
+import io.openapiprocessor.core.support.parseOptions
+import io.openapiprocessor.core.writer.java.JavaIdentifier
+
+class DataTypeConversionCacheSpec: StringSpec({
+    isolationMode = IsolationMode.InstancePerTest
+
+    val dataTypes = DataTypes()
+    val identifier = JavaIdentifier()
+
+    val openApi = parseApiBody($$"""
+        paths:
+          /foo:
+            get:
+              responses:
+                '200':
+                  description: ...
+                  content:
+                    application/json:
+                      schema:
+                        $ref: '#/components/schemas/Foo'
+          /bar:
+            get:
+              responses:
+                '200':
+                  description: ...
+                  content:
+                    application/json:
+                      schema:
+                        $ref: '#/components/schemas/Foo'
+
+        components:
+          schemas:
+
+            Foo:
+              type: object
+              properties:
+                money:
+                  $ref: '#/components/schemas/Money'
+
+            Money:
+              type: object
+              properties:
+                amount:
+                  type: string
+    """)
+
+    "converts a shared \$ref schema only once" {
+        val converter = DataTypeConverter(ApiOptions(), identifier)
+
+        val foo = converter.convert(openApi.getSchemaInfo("FooResponse200",
+            "/foo", HttpMethod.GET, "200", "application/json"), dataTypes)
+
+        val bar = converter.convert(openApi.getSchemaInfo("BarResponse200",
+            "/bar", HttpMethod.GET, "200", "application/json"), dataTypes)
+
+        bar shouldBeSameInstanceAs foo
+        converter.conversionStats.hits shouldBe 1
+        dataTypes.getRefCnt("Foo") shouldBe 2
+        dataTypes.getRefCnt("Money") shouldBe 1
+    }
+
+    "converts a shared \$ref schema per endpoint if endpoint mappings apply" {
+        val options = parseOptions(mapping =
+            """
+            |map:
+            |  paths:
+            |    /bar:
+            |      types:
+            |        - type: Foo => io.openapiprocessor.test.Mapped
+            """)
+
+        val converter = DataTypeConverter(options, identifier)
+
+        val foo = converter.convert(openApi.getSchemaInfo("FooResponse200",
+            "/foo", HttpMethod.GET, "200", "application/json"), dataTypes)
+
+        val bar = converter.convert(openApi.getSchemaInfo("BarResponse200",
+            "/bar", HttpMethod.GET, "200", "application/json"), dataTypes)
+
+        foo.getName() shouldBe "Foo"
+        bar.getName() shouldBe "Mapped"
+        converter.conversionStats.hits shouldBe 0
+    }
+
+    "does not share the cache between data types" {
+        val converter = DataTypeConverter(ApiOptions(), identifier)
+
+        converter.convert(openApi.getSchemaInfo("FooResponse200",
+            "/foo", HttpMethod.GET, "200", "application/json"), dataTypes)
+
+        val other = DataTypes()
+        converter.convert(openApi.getSchemaInfo("FooResponse200",
+            "/foo", HttpMethod.GET, "200", "application/json"), other)
+
+        converter.conversionStats.hits shouldBe 0
+        other.getRefCnt("Foo") shouldBe 1
+    }
+})
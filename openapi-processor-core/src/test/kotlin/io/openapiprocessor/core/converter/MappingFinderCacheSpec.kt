@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026 https://github.com/openapi-processor/openapi-processor-base
+ * PDX-License-Identifier: Apache-2.0
+ */
+
+package io.openapiprocessor.core.converter
+
+import io.kotest.core.spec.style.StringSpec
+import io.kotest.matchers.nulls.shouldBeNull
+import io.kotest.matchers.nulls.shouldNotBeNull
+import io.kotest.matchers.shouldBe
+import io.openapiprocessor.core.converter.mapping.steps.MappingStepBase
+import io.openapiprocessor.core.support.mappingFinder
+import io.openapiprocessor.core.support.parseOptions
+import io.openapiprocessor.core.support.query
+
+class MappingFinderCacheSpec: StringSpec({
+
+    "caches lookup results by query value" {
+        val cache = MappingFinderCache()
+        var calls = 0
+
+        cache.get("find", MappingFinderQuery(name = "Foo")) { calls++; "foo" } shouldBe "foo"
+        cache.get("find", MappingFinderQuery(name = "Foo")) { calls++; "bar" } shouldBe "foo"
+        cache.get("other", MappingFinderQuery(name = "Foo")) { calls++; "bar" } shouldBe "bar"
+
+        calls shouldBe 2
+        cache.stats.hits shouldBe 1
+        cache.stats.misses shouldBe 2
+    }
+
+    "caches null results" {
+        val cache = MappingFinderCache()
+        var calls = 0
+
+        cache.get<String?>("find", MappingFinderQuery(name = "Foo")) { calls++; null }.shouldBeNull()
+        cache.get<String?>("find", MappingFinderQuery(name = "Foo")) { calls++; "foo" }.shouldBeNull()
+
+        calls shouldBe 1
+    }
+
+    "evicts least recently used results" {
+        val cache = MappingFinderCache(2)
+
+        cache.get("find", MappingFinderQuery(name = "A")) { "a" }
+        cache.get("find", MappingFinderQuery(name = "B")) { "b" }
+        cache.get("find", MappingFinderQuery(name = "A")) { "x" } shouldBe "a"
+        cache.get("find", MappingFinderQuery(name = "C")) { "c" }
+
+        cache.get("find", MappingFinderQuery(name = "B")) { "y" } shouldBe "y"
+        cache.get("find", MappingFinderQuery(name = "A")) { "z" } shouldBe "z"
+    }
+
+    "bypasses the cache if mapping logging is enabled" {
+        val cache = MappingFinderCache()
+        var calls = 0
+
+        MappingStepBase.options.set(LoggingOptions(mapping = true))
+        try {
+            cache.get("find", MappingFinderQuery(name = "Foo")) { calls++; "foo" }
+            cache.get("find", MappingFinderQuery(name = "Foo")) { calls++; "foo" }
+        } finally {
+            MappingStepBase.options.remove()
+        }
+
+        calls shouldBe 2
+        cache.stats.hits shouldBe 0
+    }
+
+    "mapping finder caches repeated lookups" {
+        val options = parseOptions(mapping =
+            """
+            |map:
+            |  types:
+            |    - type: Foo => io.openapiprocessor.Foo
+            """)
+
+        val finder = mappingFinder(options)
+        finder.findAnyTypeMapping(query(name = "Foo", type = "object")).shouldNotBeNull()
+        finder.findAnyTypeMapping(query(name = "Foo", type = "object")).shouldNotBeNull()
+
+        finder.cacheStats.hits shouldBe 1
+        finder.cacheStats.misses shouldBe 1
+    }
+})
@@ -71,6 +71,155 @@ class OptionsConverterSpec: StringSpec({
         options.targetDir shouldBe "generated target dir"
     }
 
+    "should set parallel options" {
+        val converter = OptionsConverter()
+        converter.log = mockk<Logger>(relaxed = true)
+
+        val options = converter.convertOptions(mapOf(
+            "mapping" to """
+                openapi-processor-mapping: v18
+                options:
+                  package-name: generated
+                  parallel:
+                    converter: true
+                    schemas: true
+                    writer: true
+            """.trimIndent(),
+            "parallelThreads" to 3
+        ))
+
+        options.parallelOptions.converter.shouldBeTrue()
+        options.parallelOptions.schemas.shouldBeTrue()
+        options.parallelOptions.writer.shouldBeTrue()
+        options.parallelOptions.threads shouldBe 3
+    }
+
+    "should ignore invalid parallel threads option" {
+        val converter = OptionsConverter()
+        converter.log = mockk<Logger>(relaxed = true)
+
+        val options = converter.convertOptions(mapOf(
+            "parallelThreads" to "none"
+        ))
+
+        options.parallelOptions.converter.shouldBeFalse()
+        options.parallelOptions.threads shouldBe Runtime.getRuntime().availableProcessors()
+    }
+
+    "should set stream interfaces option" {
+        val converter = OptionsConverter()
+        converter.log = mockk<Logger>(relaxed = true)
+
+        val options = converter.convertOptions(mapOf(
+            "mapping" to """
+                openapi-processor-mapping: v18
+                options:
+                  package-name: generated
+                  stream-interfaces: true
+            """.trimIndent()
+        ))
+
+        options.streamInterfaces.shouldBeTrue()
+    }
+
+    "should set format code cache options" {
+        val converter = OptionsConverter()
+        converter.log = mockk<Logger>(relaxed = true)
+
+        val options = converter.convertOptions(mapOf(
+            "mapping" to """
+                openapi-processor-mapping: v18
+                options:
+                  package-name: generated
+                  format-code: true
+                  format-code-cache-size: 16
+            """.trimIndent(),
+            "formatCodeCacheDir" to "build/format-cache"
+        ))
+
+        options.formatCodeCacheDir shouldBe "build/format-cache"
+        options.formatCodeCacheSize shouldBe 16L * 1024 * 1024
+    }
+
+    "should set target dir write changed & prune options" {
+        val converter = OptionsConverter()
+        converter.log = mockk<Logger>(relaxed = true)
+
+        val options = converter.convertOptions(mapOf(
+            "mapping" to """
+                openapi-processor-mapping: v18
+                options:
+                  package-name: generated
+                  target-dir:
+                    write-changed: true
+                    prune: true
+            """.trimIndent()
+        ))
+
+        options.targetDirOptions.writeChanged.shouldBeTrue()
+        options.targetDirOptions.prune.shouldBeTrue()
+    }
+
+    "should enable prune if incremental is enabled" {
+        val converter = OptionsConverter()
+        converter.log = mockk<Logger>(relaxed = true)
+
+        val options = converter.convertOptions(mapOf(
+            "mapping" to """
+                openapi-processor-mapping: v18
+                options:
+                  package-name: generated
+                  incremental: true
+            """.trimIndent()
+        ))
+
+        options.incremental.shouldBeTrue()
+        options.targetDirOptions.prune.shouldBeTrue()
+    }
+
+    "should enable write changed in watch mode unless the mapping disables it" {
+        val converter = OptionsConverter()
+        converter.log = mockk<Logger>(relaxed = true)
+
+        val watch = converter.convertOptions(mapOf(
+            "mapping" to """
+                openapi-processor-mapping: v18
+                options:
+                  package-name: generated
+            """.trimIndent(),
+            "watch" to true
+        ))
+
+        val disabled = converter.convertOptions(mapOf(
+            "mapping" to """
+                openapi-processor-mapping: v18
+                options:
+                  package-name: generated
+                  target-dir:
+                    write-changed: false
+            """.trimIndent(),
+            "watch" to true
+        ))
+
+        watch.targetDirOptions.writeChanged.shouldBeTrue()
+        disabled.targetDirOptions.writeChanged.shouldBeFalse()
+    }
+
+    "should set shared model options" {
+        val converter = OptionsConverter()
+        converter.log = mockk<Logger>(relaxed = true)
+
+        val options = converter.convertOptions(mapOf(
+            "sharedModelPackage" to "io.openapiprocessor.shared",
+            "sharedModels" to listOf("file:/common.yaml#Money", "file:/common.yaml#Currency"),
+            "sharedModelsWrite" to "Money, Currency"
+        ))
+
+        options.sharedModelOptions.packageName shouldBe "io.openapiprocessor.shared"
+        options.sharedModelOptions.models shouldBe setOf("file:/common.yaml#Money", "file:/common.yaml#Currency")
+        options.sharedModelOptions.write shouldBe setOf("Money", "Currency")
+    }
+
     "should accept deprecated packageName map option" {
         val converter = OptionsConverter(MappingReader(), true)
         converter.log = mockk<Logger>(relaxed = true)
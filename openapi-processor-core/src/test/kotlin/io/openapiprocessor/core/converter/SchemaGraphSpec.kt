@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 https://github.com/openapi-processor/openapi-processor-base
+ * PDX-License-Identifier: Apache-2.0
+ */
+
+package io.openapiprocessor.core.converter
+
+import io.kotest.core.spec.style.StringSpec
+import io.kotest.matchers.collections.shouldContainExactly
+import io.kotest.matchers.collections.shouldContainExactlyInAnyOrder
+import io.kotest.matchers.shouldBe
+import io.openapiprocessor.core.support.parseApiBody
+
+class SchemaGraphSpec: StringSpec({
+
+    val openApi = parseApiBody($$"""
+        paths: {}
+
+        components:
+          schemas:
+            Order:
+              type: object
+              properties:
+                items:
+                  type: array
+                  items:
+                    $ref: '#/components/schemas/Item'
+                total:
+                  $ref: '#/components/schemas/Money'
+
+            Item:
+              type: object
+              properties:
+                price:
+                  $ref: '#/components/schemas/Money'
+                meta:
+                  type: object
+                  additionalProperties:
+                    $ref: '#/components/schemas/Meta'
+
+            Money:
+              type: object
+              properties:
+                amount:
+                  type: string
+
+            Meta:
+              allOf:
+                - $ref: '#/components/schemas/Money'
+
+            Node:
+              type: object
+              properties:
+                next:
+                  $ref: '#/components/schemas/Node'
+
+            Parent:
+              type: object
+              properties:
+                child:
+                  $ref: '#/components/schemas/Child'
+
+            Child:
+              type: object
+              properties:
+                parent:
+                  $ref: '#/components/schemas/Parent'
+        """)
+
+    "collects the direct dependencies of a schema" {
+        val graph = SchemaGraph(openApi.getSchemas())
+
+        graph.getDependencies("Order") shouldContainExactly setOf("Item", "Money")
+        graph.getDependencies("Item") shouldContainExactly setOf("Money", "Meta")
+        graph.getDependencies("Meta") shouldContainExactly setOf("Money")
+        graph.getDependencies("Money") shouldBe emptySet()
+    }
+
+    "orders components after their dependencies" {
+        val graph = SchemaGraph(openApi.getSchemas())
+
+        val order = graph.components.flatMap { it.names }
+        (order.indexOf("Money") < order.indexOf("Meta")) shouldBe true
+        (order.indexOf("Meta") < order.indexOf("Item")) shouldBe true
+        (order.indexOf("Item") < order.indexOf("Order")) shouldBe true
+    }
+
+    "detects cyclic components" {
+        val graph = SchemaGraph(openApi.getSchemas())
+
+        val cyclic = graph.components.filter { it.cyclic }.map { it.names.toSet() }
+        cyclic shouldContainExactlyInAnyOrder listOf(setOf("Node"), setOf("Parent", "Child"))
+    }
+
+    "groups independent components by level" {
+        val graph = SchemaGraph(openApi.getSchemas())
+
+        val levels = graph.levels.map { level -> level.flatMap { it.names }.toSet() }
+        levels shouldBe listOf(
+            setOf("Money", "Node", "Parent", "Child"),
+            setOf("Meta"),
+            setOf("Item"),
+            setOf("Order")
+        )
+    }
+})
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2026 https://github.com/openapi-processor/openapi-processor-base
+ * PDX-License-Identifier: Apache-2.0
+ */
+
+package io.openapiprocessor.core.converter.mapping
+
+import io.kotest.core.spec.style.StringSpec
+import io.kotest.matchers.nulls.shouldBeNull
+import io.kotest.matchers.nulls.shouldNotBeNull
+import io.kotest.matchers.shouldBe
+import io.kotest.matchers.types.shouldBeSameInstanceAs
+import io.openapiprocessor.core.support.mappingFinder
+import io.openapiprocessor.core.support.parseOptions
+import io.openapiprocessor.core.support.query
+
+class EndpointMappingsTreeSpec: StringSpec({
+
+    fun endpoint(): EndpointMappings = EndpointMappings(Mappings(), emptyMap())
+
+    "finds exact path" {
+        val foo = endpoint()
+        val tree = EndpointMappingsTree(mapOf("/foo/{id}" to foo))
+
+        tree.find("/foo/{id}") shouldBeSameInstanceAs foo
+        tree.find("/foo").shouldBeNull()
+        tree.find(null).shouldBeNull()
+    }
+
+    "param segment matches only the same path" {
+        val foo = endpoint()
+        val tree = EndpointMappingsTree(mapOf("/foo/{id}" to foo))
+
+        tree.find("/foo/{id}") shouldBeSameInstanceAs foo
+        tree.find("/foo/bar").shouldBeNull()
+        tree.find("/foo/{fooId}").shouldBeNull()
+    }
+
+    "param segment does not capture literal siblings of a pattern" {
+        val foo = endpoint()
+        val bar = endpoint()
+        val tree = EndpointMappingsTree(mapOf("/foo/{id}" to foo, "/bar/*" to bar))
+
+        tree.find("/foo/bar").shouldBeNull()
+        tree.find("/bar/{id}") shouldBeSameInstanceAs bar
+    }
+
+    "star segment matches any single segment" {
+        val foo = endpoint()
+        val tree = EndpointMappingsTree(mapOf("/foo/*" to foo))
+
+        tree.find("/foo/bar") shouldBeSameInstanceAs foo
+        tree.find("/foo/bar/baz").shouldBeNull()
+    }
+
+    "double star segment matches a path subtree" {
+        val admin = endpoint()
+        val tree = EndpointMappingsTree(mapOf("/admin/**" to admin))
+
+        tree.find("/admin") shouldBeSameInstanceAs admin
+        tree.find("/admin/users") shouldBeSameInstanceAs admin
+        tree.find("/admin/users/{id}/roles") shouldBeSameInstanceAs admin
+        tree.find("/users").shouldBeNull()
+    }
+
+    "prefers the most specific path" {
+        val exact = endpoint()
+        val param = endpoint()
+        val star = endpoint()
+        val starLiteral = endpoint()
+        val deep = endpoint()
+        val deeper = endpoint()
+
+        val tree = EndpointMappingsTree(mapOf(
+            "/foo/bar" to exact,
+            "/foo/{id}" to param,
+            "/foo/*" to star,
+            "/foo/*/baz" to starLiteral,
+            "/foo/**" to deep,
+            "/foo/bar/**" to deeper
+        ))
+
+        tree.find("/foo/bar") shouldBeSameInstanceAs exact
+        tree.find("/foo/{id}") shouldBeSameInstanceAs param
+        tree.find("/foo/other") shouldBeSameInstanceAs star
+        tree.find("/foo/other/baz") shouldBeSameInstanceAs starLiteral
+        tree.find("/foo/other/any/thing") shouldBeSameInstanceAs deep
+        tree.find("/foo/bar/any/thing") shouldBeSameInstanceAs deeper
+    }
+
+    "double star is a wildcard only as last segment" {
+        val foo = endpoint()
+        val tree = EndpointMappingsTree(mapOf("/foo/**/bar" to foo))
+
+        tree.find("/foo/any/bar").shouldBeNull()
+    }
+
+    "finds type mapping of a wildcard path" {
+        val options = parseOptions(mapping =
+            """
+            |map:
+            |  paths:
+            |    /admin/**:
+            |      types:
+            |        - type: Foo => io.openapiprocessor.Foo
+            """)
+
+        val finder = mappingFinder(options)
+
+        val result = finder.findAnyTypeMapping(query(path = "/admin/users/{id}", name = "Foo", type = "object"))
+        result.shouldNotBeNull()
+        result.targetTypeName shouldBe "io.openapiprocessor.Foo"
+
+        finder.findAnyTypeMapping(query(path = "/users", name = "Foo", type = "object")).shouldBeNull()
+    }
+})
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2026 https://github.com/openapi-processor/openapi-processor-base
+ * PDX-License-Identifier: Apache-2.0
+ */
+
+package io.openapiprocessor.core.converter.mapping
+
+import io.kotest.core.spec.style.StringSpec
+import io.kotest.matchers.nulls.shouldNotBeNull
+import io.kotest.matchers.types.shouldBeSameInstanceAs
+import io.openapiprocessor.core.converter.LoggingOptions
+import io.openapiprocessor.core.converter.mapping.steps.MappingStepBase
+import io.openapiprocessor.core.converter.mapping.steps.NullStep
+import io.openapiprocessor.core.converter.mapping.steps.StringStep
+import io.openapiprocessor.core.converter.mapping.steps.add
+import io.openapiprocessor.core.support.mappingFinder
+import io.openapiprocessor.core.support.parseOptions
+import io.openapiprocessor.core.support.query
+
+class MappingFinderTracingSpec: StringSpec({
+
+    afterTest {
+        MappingStepBase.options.remove()
+    }
+
+    "does not create steps below the null step" {
+        val step = NullStep.add { error("should not create the step") }
+            .add { StringStep("not created", true) }
+
+        step shouldBeSameInstanceAs NullStep
+    }
+
+    "finds mapping without mapping logging" {
+        MappingStepBase.options.set(LoggingOptions(mapping = false))
+        val options = parseOptions(mapping =
+            """
+            |map:
+            |  types:
+            |    - type: string:uuid => java.util.UUID
+            |  paths:
+            |    /foo:
+            |      types:
+            |        - type: Baz => io.openapiprocessor.Baz
+            """)
+        val finder = mappingFinder(options)
+
+        finder.findAnyTypeMapping(query(path = "/foo", name = "Foo", type = "string", format = "uuid", primitive = true))
+            .shouldNotBeNull()
+    }
+})
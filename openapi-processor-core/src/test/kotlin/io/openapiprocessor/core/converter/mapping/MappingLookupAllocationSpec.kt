@@ -0,0 +1,67 @@
+/*
+ * Copyright 2026 https://github.com/openapi-processor/openapi-processor-base
+ * PDX-License-Identifier: Apache-2.0
+ */
+
+package io.openapiprocessor.core.converter.mapping
+
+import com.sun.management.ThreadMXBean
+import io.kotest.core.spec.style.StringSpec
+import io.kotest.matchers.longs.shouldBeGreaterThan
+import io.kotest.matchers.nulls.shouldNotBeNull
+import io.kotest.provided.Benchmark
+import io.openapiprocessor.core.converter.mapping.steps.MappingStep
+import io.openapiprocessor.core.converter.mapping.steps.NullStep
+import io.openapiprocessor.core.converter.mapping.steps.RootStep
+import io.openapiprocessor.core.support.parseOptions
+import io.openapiprocessor.core.support.query
+import java.lang.management.ManagementFactory
+
+/**
+ * allocation benchmark of the mapping lookup with the [NullStep] (mapping logging disabled) and with traced steps.
+ * It does not use the [io.openapiprocessor.core.converter.MappingFinder], its cache would hide the lookup.
+ */
+class MappingLookupAllocationSpec: StringSpec({
+    tags(Benchmark)
+
+    val threads = ManagementFactory.getThreadMXBean() as ThreadMXBean
+    val count = 2000
+
+    fun allocated(repository: MappingRepository, step: (MappingQuery) -> MappingStep): Long {
+        val q = query(path = "/foo", name = "Foo", type = "string", format = "uuid", primitive = true)
+
+        fun lookup() {
+            val root = step(q)
+            repository.findEndpointTypeMapping(q, root)
+            repository.findGlobalTypeMapping(q, root).shouldNotBeNull()
+        }
+
+        // warm up
+        repeat(count) { lookup() }
+
+        val start = threads.getThreadAllocatedBytes(Thread.currentThread().id)
+        repeat(count) { lookup() }
+        return threads.getThreadAllocatedBytes(Thread.currentThread().id) - start
+    }
+
+    "lookup with the null step does not allocate the steps of the lookup" {
+        val options = parseOptions(mapping =
+            """
+            |map:
+            |  types:
+            |    - type: string:uuid => java.util.UUID
+            |    - type: Bar => io.openapiprocessor.Bar
+            |  paths:
+            |    /foo:
+            |      types:
+            |        - type: Baz => io.openapiprocessor.Baz
+            """)
+        val repository = MappingRepository(options.globalMappings, options.endpointMappings, options.extensionMappings)
+
+        val traced = allocated(repository) { RootStep("looking for", it) }
+        val untraced = allocated(repository) { NullStep }
+
+        // each traced lookup creates a root step and a step for each checked mapping
+        (traced - untraced) shouldBeGreaterThan count * 100L
+    }
+})
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026 https://github.com/openapi-processor/openapi-processor-base
+ * PDX-License-Identifier: Apache-2.0
+ */
+
+package io.openapiprocessor.core.converter.mapping
+
+import io.kotest.core.spec.style.StringSpec
+import io.kotest.matchers.collections.shouldBeEmpty
+import io.kotest.matchers.collections.shouldContainExactly
+import io.openapiprocessor.core.converter.mapping.matcher.ParameterNameTypeMatcher
+import io.openapiprocessor.core.converter.mapping.matcher.TypeMatcher
+import io.openapiprocessor.core.converter.mapping.steps.RootStep
+import io.openapiprocessor.core.support.query
+
+class TypeMappingsSpec: StringSpec({
+
+    "indexed filter returns matching type mappings in mapping order" {
+        val format = TypeMapping("string", "uuid", "java.util.UUID")
+        val other = TypeMapping("Foo", null, "io.Foo")
+        val name = TypeMapping("Bar", "uuid", "io.Bar")
+        val array = TypeMapping("array", null, "java.util.List")
+        val type = TypeMapping("string", null, "java.lang.String")
+
+        val mappings = TypeMappings(format, other, name, array, type)
+        val query = query(name = "Bar", type = "string", format = "uuid", primitive = true)
+
+        mappings.filter(TypeMatcher(query), RootStep("", query)).shouldContainExactly(format, name)
+    }
+
+    "indexed filter matches array mappings independent of format" {
+        val array = TypeMapping("array", null, "java.util.List")
+        val set = TypeMapping("array", "set", "java.util.Set")
+
+        val mappings = TypeMappings(array, set)
+        val query = query(name = "Foo", type = "array", array = true)
+
+        mappings.filter(TypeMatcher(query), RootStep("", query)).shouldContainExactly(array, set)
+    }
+
+    "indexed filter returns parameter name mappings" {
+        val foo = NameTypeMapping("foo", TypeMapping("string", null, "io.Foo"))
+        val bar = NameTypeMapping("bar", TypeMapping("string", null, "io.Bar"))
+        val type = TypeMapping("foo", null, "io.Foo")
+
+        val mappings = TypeMappings(type, foo, bar)
+
+        mappings.filter(ParameterNameTypeMatcher(query(name = "foo")), RootStep("", query()))
+            .shouldContainExactly(foo)
+        mappings.filter(ParameterNameTypeMatcher(query(name = "none")), RootStep("", query()))
+            .shouldBeEmpty()
+    }
+})
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2026 https://github.com/openapi-processor/openapi-processor-base
+ * PDX-License-Identifier: Apache-2.0
+ */
+
+package io.openapiprocessor.core.daemon
+
+import io.kotest.core.spec.style.StringSpec
+import io.kotest.matchers.booleans.shouldBeFalse
+import io.kotest.matchers.collections.shouldContainExactly
+import io.kotest.matchers.shouldBe
+import io.kotest.matchers.string.shouldContain
+import io.kotest.provided.tempFolder
+import java.io.ByteArrayInputStream
+import java.io.ByteArrayOutputStream
+import java.io.PipedInputStream
+import java.io.PipedOutputStream
+import java.net.StandardProtocolFamily
+import java.net.UnixDomainSocketAddress
+import java.nio.channels.Channels
+import java.nio.channels.SocketChannel
+import java.nio.file.FileSystems
+import java.nio.file.Files
+import java.nio.file.Path
+import java.nio.file.attribute.PosixFilePermissions
+import java.time.Duration
+
+class ProcessorDaemonSpec: StringSpec({
+
+    fun serve(daemon: ProcessorDaemon, vararg requests: String): List<String> {
+        val input = ByteArrayInputStream(requests.joinToString("\n").toByteArray())
+        val output = ByteArrayOutputStream()
+        daemon.serve(input, output)
+        return output.toString().lines().filter { it.isNotEmpty() }
+    }
+
+    fun start(daemon: ProcessorDaemon, socket: Path): Thread {
+        val thread = Thread { daemon.serve(socket) }
+        thread.start()
+
+        val deadline = System.currentTimeMillis() + 10000
+        while (!Files.exists(socket) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10)
+        }
+        return thread
+    }
+
+    fun connect(socket: Path): SocketChannel {
+        return SocketChannel.open(StandardProtocolFamily.UNIX).also {
+            it.connect(UnixDomainSocketAddress.of(socket))
+        }
+    }
+
+    fun request(client: SocketChannel, request: String): String? {
+        val writer = Channels.newWriter(client, Charsets.UTF_8)
+        writer.write(request + "\n")
+        writer.flush()
+        return Channels.newReader(client, Charsets.UTF_8).buffered().readLine()
+    }
+
+    "runs generation requests with the request options" {
+        val runs = mutableListOf<Map<String, Any>>()
+        val daemon = ProcessorDaemon({ runs.add(it) })
+
+        val responses = serve(daemon,
+            """{"id": "1", "options": {"apiPath": "one.yaml"}}""",
+            """{"id": "2", "options": {"apiPath": "two.yaml"}}""")
+
+        runs.map { it["apiPath"] } shouldContainExactly listOf("one.yaml", "two.yaml")
+        responses.size shouldBe 2
+        responses[0] shouldContain """"id":"1""""
+        responses[0] shouldContain """"status":"ok""""
+        responses[1] shouldContain """"id":"2""""
+    }
+
+    "reports failed request and continues" {
+        val daemon = ProcessorDaemon({ throw IllegalStateException("failed!") })
+
+        val responses = serve(daemon,
+            """{"id": "1", "options": {}}""",
+            """{"id": "2", "command": "ping"}""")
+
+        responses[0] shouldContain """"status":"error""""
+        responses[0] shouldContain """"message":"failed!""""
+        responses[1] shouldContain """"status":"ok""""
+    }
+
+    "stops on shutdown request" {
+        val runs = mutableListOf<Map<String, Any>>()
+        val daemon = ProcessorDaemon({ runs.add(it) })
+
+        val responses = serve(daemon,
+            """{"id": "1", "command": "shutdown"}""",
+            """{"id": "2", "options": {}}""")
+
+        responses.size shouldBe 1
+        runs.size shouldBe 0
+    }
+
+    "stops after idle timeout" {
+        val daemon = ProcessorDaemon({ }, Duration.ofMillis(100))
+
+        // never closed, i.e. no end of input
+        val input = PipedInputStream(PipedOutputStream())
+        daemon.serve(input, ByteArrayOutputStream())
+    }
+
+    "serves requests on a unix domain socket while another client is idle" {
+        val socket = tempFolder().resolve("run").resolve("daemon.sock")
+        val runs = mutableListOf<Map<String, Any>>()
+        val thread = start(ProcessorDaemon({ runs.add(it) }), socket)
+
+        connect(socket).use { idle ->
+            connect(socket).use { client ->
+                request(client, """{"id": "1", "options": {"apiPath": "one.yaml"}}""")!! shouldContain """"status":"ok""""
+                runs.map { it["apiPath"] } shouldContainExactly listOf("one.yaml")
+
+                if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+                    PosixFilePermissions.toString(Files.getPosixFilePermissions(socket.parent)) shouldBe "rwx------"
+                    PosixFilePermissions.toString(Files.getPosixFilePermissions(socket)) shouldBe "rw-------"
+                }
+
+                request(client, """{"id": "2", "command": "shutdown"}""")!! shouldContain """"id":"2""""
+            }
+
+            thread.join(10000)
+            thread.isAlive.shouldBeFalse()
+        }
+
+        Files.exists(socket).shouldBeFalse()
+    }
+
+    "serves requests on a unix domain socket while another client does not read its responses" {
+        val dir = tempFolder()
+        val socket = dir.resolve("daemon.sock")
+        val thread = start(ProcessorDaemon({ }), socket)
+
+        Files.list(dir).use { files -> files.toList() shouldContainExactly listOf(socket) }
+
+        connect(socket).use { blocked ->
+            val writer = Channels.newWriter(blocked, Charsets.UTF_8)
+            repeat(20000) {
+                writer.write("""{"id": "$it", "command": "ping"}""" + "\n")
+            }
+            writer.flush()
+
+            connect(socket).use { client ->
+                request(client, """{"id": "a", "command": "ping"}""")!! shouldContain """"id":"a""""
+                request(client, """{"id": "b", "command": "shutdown"}""")!! shouldContain """"id":"b""""
+            }
+
+            thread.join(10000)
+            thread.isAlive.shouldBeFalse()
+        }
+    }
+
+    "stops after idle timeout with a connected idle client" {
+        val socket = tempFolder().resolve("daemon.sock")
+        val thread = start(ProcessorDaemon({ }, Duration.ofMillis(200)), socket)
+
+        connect(socket).use {
+            thread.join(10000)
+            thread.isAlive.shouldBeFalse()
+        }
+    }
+})
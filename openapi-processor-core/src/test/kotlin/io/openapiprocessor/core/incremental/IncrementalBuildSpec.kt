@@ -0,0 +1,129 @@
+/*
+ * Copyright 2026 https://github.com/openapi-processor/openapi-processor-base
+ * PDX-License-Identifier: Apache-2.0
+ */
+
+package io.openapiprocessor.core.incremental
+
+import io.kotest.core.spec.style.StringSpec
+import io.kotest.matchers.booleans.shouldBeFalse
+import io.kotest.matchers.booleans.shouldBeTrue
+import io.kotest.matchers.nulls.shouldBeNull
+import io.kotest.matchers.collections.shouldContainExactly
+import io.kotest.matchers.shouldBe
+import io.kotest.matchers.shouldNotBe
+import io.kotest.matchers.string.shouldStartWith
+import io.kotest.provided.tempFolder
+import io.openapiprocessor.core.processor.MappingReader
+import io.openapiprocessor.core.writer.TargetManifest
+import java.nio.file.Files
+import java.nio.file.Path
+
+class IncrementalBuildSpec: StringSpec({
+
+    val mapping = MappingReader().read("""
+        openapi-processor-mapping: v18
+        options:
+          package-name: io.openapiprocessor.incremental
+          incremental: true
+    """.trimIndent())
+
+    fun setup(): Pair<Path, Map<String, Any>> {
+        val dir = tempFolder()
+        val target = dir.resolve("target")
+
+        Files.writeString(dir.resolve("openapi.yaml"), """
+            openapi: 3.1.0
+            info:
+              title: API
+              version: 1.0.0
+            paths:
+              /foo:
+                ${'$'}ref: 'foo.yaml'
+        """.trimIndent())
+
+        Files.writeString(dir.resolve("foo.yaml"), """
+            get:
+              responses:
+                '204':
+                  description: none
+        """.trimIndent())
+
+        Files.createDirectories(target)
+        Files.writeString(target.resolve("Api.java"), "interface Api {}")
+        Files.writeString(target.resolve(TargetManifest.NAME), "Api.java\n")
+
+        return Pair(dir, mapOf(
+            "apiPath" to dir.resolve("openapi.yaml").toString(),
+            "targetDir" to target.toString()
+        ))
+    }
+
+    "is disabled without the incremental mapping option" {
+        val (_, options) = setup()
+
+        IncrementalBuild.of("test", options, MappingReader().read("""
+            openapi-processor-mapping: v18
+            options:
+              package-name: io.openapiprocessor.incremental
+        """.trimIndent())).shouldBeNull()
+    }
+
+    "is not up-to-date without previous inputs" {
+        val (_, options) = setup()
+
+        IncrementalBuild.of("test", options, mapping)!!.isUpToDate().shouldBeFalse()
+    }
+
+    "is up-to-date if inputs & outputs did not change" {
+        val (_, options) = setup()
+        IncrementalBuild.of("test", options, mapping)!!.update()
+
+        IncrementalBuild.of("test", options, mapping)!!.isUpToDate().shouldBeTrue()
+    }
+
+    "is not up-to-date if a referenced document changed" {
+        val (dir, options) = setup()
+        IncrementalBuild.of("test", options, mapping)!!.update()
+
+        Files.writeString(dir.resolve("foo.yaml"), """
+            get:
+              responses:
+                '200':
+                  description: none
+        """.trimIndent())
+
+        IncrementalBuild.of("test", options, mapping)!!.isUpToDate().shouldBeFalse()
+    }
+
+    "is not up-to-date if the processor changed" {
+        val (_, options) = setup()
+        IncrementalBuild.of("test", options, mapping)!!.update()
+
+        IncrementalBuild.of("test 2", options, mapping)!!.isUpToDate().shouldBeFalse()
+    }
+
+    "is not up-to-date if an output is missing" {
+        val (_, options) = setup()
+        IncrementalBuild.of("test", options, mapping)!!.update()
+
+        Files.delete(Path.of(options["targetDir"].toString()).resolve("Api.java"))
+
+        IncrementalBuild.of("test", options, mapping)!!.isUpToDate().shouldBeFalse()
+    }
+
+    "processor id includes the processor class & its version" {
+        val id = IncrementalBuild.processorId(IncrementalBuildSpec::class.java)
+
+        id shouldStartWith "${IncrementalBuildSpec::class.java.name}:"
+        id shouldBe IncrementalBuild.processorId(IncrementalBuildSpec::class.java)
+        id shouldNotBe IncrementalBuild.processorId(StringSpec::class.java)
+    }
+
+    "reports changed inputs" {
+        val previous = InputFingerprint(mapOf("a" to "1", "b" to "2", "c" to "3"))
+        val current = InputFingerprint(mapOf("a" to "1", "b" to "x", "d" to "4"))
+
+        current.diff(previous) shouldContainExactly setOf("b", "c", "d")
+    }
+})
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026 https://github.com/openapi-processor/openapi-processor-base
+ * PDX-License-Identifier: Apache-2.0
+ */
+
+package io.openapiprocessor.core.incremental
+
+import io.kotest.core.spec.style.StringSpec
+import io.kotest.matchers.collections.shouldContainExactly
+import io.kotest.matchers.nulls.shouldBeNull
+import io.kotest.matchers.shouldBe
+import io.kotest.matchers.shouldNotBe
+import io.openapiprocessor.jackson.JacksonConverter
+import java.net.URI
+
+class SpecElementsSpec: StringSpec({
+
+    val apiUri = URI("file:/api/openapi.yaml")
+    val schemasUri = URI("file:/api/schemas.yaml")
+
+    fun api(bar: String = "string"): Map<URI, Any> {
+        val api = JacksonConverter().convert("""
+            openapi: 3.1.0
+            info:
+              title: API
+              version: 1.0.0
+            paths:
+              /foo:
+                get:
+                  responses:
+                    '200':
+                      description: none
+                      content:
+                        application/json:
+                          schema:
+                            ${'$'}ref: 'schemas.yaml#/Foo'
+              /bar:
+                get:
+                  responses:
+                    '200':
+                      description: none
+                      content:
+                        application/json:
+                          schema:
+                            ${'$'}ref: '#/components/schemas/Bar'
+            components:
+              schemas:
+                Bar:
+                  type: $bar
+        """.trimIndent())!!
+
+        val schemas = JacksonConverter().convert("""
+            Foo:
+              type: object
+              properties:
+                foo:
+                  ${'$'}ref: '#/Foo2'
+            Foo2:
+              type: string
+        """.trimIndent())!!
+
+        return linkedMapOf(apiUri to api, schemasUri to schemas)
+    }
+
+    "depends on the path item, the root and the reachable elements" {
+        val dependencies = SpecElements(api()).dependencies("/foo")!!
+
+        dependencies.keys.shouldContainExactly(
+            "path:/foo",
+            "ref:file:/api/schemas.yaml#/Foo",
+            "ref:file:/api/schemas.yaml#/Foo2",
+            "root")
+    }
+
+    "does not depend on unreachable elements" {
+        val foo = SpecElements(api()).dependencies("/foo")
+        val fooWithChangedBar = SpecElements(api(bar = "integer")).dependencies("/foo")
+
+        foo shouldBe fooWithChangedBar
+    }
+
+    "depends on the content of the reachable elements" {
+        val bar = SpecElements(api()).dependencies("/bar")
+        val changedBar = SpecElements(api(bar = "integer")).dependencies("/bar")
+
+        bar shouldNotBe changedBar
+    }
+
+    "has unknown dependencies if a \$ref can not be resolved" {
+        val documents = api().filterKeys { it != schemasUri }
+
+        SpecElements(documents).dependencies("/foo").shouldBeNull()
+    }
+})
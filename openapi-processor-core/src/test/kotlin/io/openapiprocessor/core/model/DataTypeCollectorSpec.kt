@@ -0,0 +1,108 @@
+/*
+ * Copyright 2026 https://github.com/openapi-processor/openapi-processor-base
+ * PDX-License-Identifier: Apache-2.0
+ */
+
+package io.openapiprocessor.core.model
+
+import io.kotest.core.spec.style.StringSpec
+import io.kotest.matchers.shouldBe
+import io.openapiprocessor.core.model.datatypes.DataType
+import io.openapiprocessor.core.model.datatypes.DataTypeName
+import io.openapiprocessor.core.model.datatypes.InterfaceDataType
+import io.openapiprocessor.core.model.datatypes.PropertyDataType
+import io.openapiprocessor.core.model.datatypes.StringDataType
+import io.openapiprocessor.core.support.datatypes.ObjectDataType
+
+class DataTypeCollectorSpec : StringSpec({
+
+    fun property(dataType: DataType): PropertyDataType {
+        return PropertyDataType(
+            readOnly = false,
+            writeOnly = false,
+            dataType = dataType,
+            documentation = Documentation())
+    }
+
+    "collects the nested data types of a shared data type only once" {
+        val dataTypes = DataTypes()
+
+        val money = ObjectDataType("Money", "pkg", linkedMapOf(
+            Pair("amount", property(StringDataType()))))
+        val foo = ObjectDataType("Foo", "pkg", linkedMapOf(
+            Pair("money", property(money))))
+        val bar = ObjectDataType("Bar", "pkg", linkedMapOf(
+            Pair("money", property(money))))
+
+        dataTypes.add(money)
+        dataTypes.add(foo)
+        dataTypes.add(bar)
+
+        val collector = DataTypeCollector(dataTypes, "pkg")
+        collector.collect(foo)
+        collector.collect(foo)
+        collector.collect(bar)
+
+        dataTypes.getRefCnt("Foo") shouldBe 2
+        dataTypes.getRefCnt("Bar") shouldBe 1
+        dataTypes.getRefCnt("Money") shouldBe 2
+        dataTypes.getModelDataTypes().size shouldBe 3
+    }
+
+    "collects the nested data types of a released data type" {
+        val dataTypes = DataTypes()
+
+        val money = ObjectDataType("Money", "pkg", linkedMapOf(
+            Pair("amount", property(StringDataType()))))
+        val foo = ObjectDataType("Foo", "pkg", linkedMapOf(
+            Pair("money", property(money))))
+
+        dataTypes.add(money)
+        dataTypes.add(foo)
+
+        val collector = DataTypeCollector(dataTypes, "pkg")
+        collector.collect(foo)
+        dataTypes.relRef("Foo")
+
+        dataTypes.getRefCnt("Foo") shouldBe 0
+        dataTypes.getRefCnt("Money") shouldBe 1
+    }
+
+    "collects the items added to an interface after it was collected" {
+        val dataTypes = DataTypes()
+
+        val foo = ObjectDataType("Foo", "pkg", linkedMapOf(
+            Pair("foo", property(StringDataType()))))
+        val bar = ObjectDataType("Bar", "pkg", linkedMapOf(
+            Pair("bar", property(StringDataType()))))
+        val result = InterfaceDataType(DataTypeName("Result"), "pkg", listOf(foo))
+
+        dataTypes.add(foo)
+        dataTypes.add(bar)
+        dataTypes.add(result)
+
+        val collector = DataTypeCollector(dataTypes, "pkg")
+        collector.collect(result)
+
+        result.addItem(bar)
+        collector.collect(result)
+
+        dataTypes.getRefCnt("Result") shouldBe 2
+        dataTypes.getRefCnt("Foo") shouldBe 2
+        dataTypes.getRefCnt("Bar") shouldBe 1
+    }
+
+    "collects recursive data types" {
+        val dataTypes = DataTypes()
+
+        val props = linkedMapOf<String, PropertyDataType>()
+        val node = ObjectDataType("Node", "pkg", props)
+        props["next"] = property(node)
+
+        dataTypes.add(node)
+
+        DataTypeCollector(dataTypes, "pkg").collect(node)
+
+        dataTypes.getRefCnt("Node") shouldBe 2
+    }
+})
@@ -12,6 +12,7 @@ import io.openapiprocessor.core.model.datatypes.PropertyDataType
 import io.openapiprocessor.core.model.datatypes.StringDataType
 import io.openapiprocessor.core.model.datatypes.StringEnumDataType
 import io.openapiprocessor.core.support.datatypes.ObjectDataType
+import kotlin.concurrent.thread
 
 class DataTypesSpec : StringSpec({
 
@@ -83,4 +84,73 @@ class DataTypesSpec : StringSpec({
 
         dataTypes.getRefCnt("Foo") shouldBe 0
     }
+
+    "provides data types by kind in insertion order" {
+        val types = DataTypes()
+        types.add(ObjectDataType("Foo", "any"))
+        types.add(StringEnumDataType(DataTypeName("Kind"), "any"))
+        types.add(ObjectDataType("Bar", "any"))
+        listOf("Foo", "Kind", "Bar").forEach { types.addRef(it) }
+
+        types.getModelDataTypes().map { it.getName() } shouldBe listOf("Foo", "Bar")
+        types.getEnumDataTypes().map { it.getName() } shouldBe listOf("Kind")
+        types.getInterfaceDataTypes().size shouldBe 0
+    }
+
+    "updates kind index if a data type is replaced" {
+        val types = DataTypes()
+        types.add(ObjectDataType("Foo", "any"))
+        types.add("Foo", StringEnumDataType(DataTypeName("Foo"), "any"))
+        types.addRef("Foo")
+
+        types.getModelDataTypes().size shouldBe 0
+        types.getEnumDataTypes().size shouldBe 1
+    }
+
+    "removes the data types added after taking the names" {
+        val types = DataTypes()
+        types.add(ObjectDataType("Foo", "any"))
+        val names = types.getNames()
+
+        types.add(ObjectDataType("Bar", "any"))
+        types.add(StringEnumDataType(DataTypeName("Kind"), "any"))
+        types.retainAll(names)
+        listOf("Foo", "Bar", "Kind").forEach { types.addRef(it) }
+
+        types.find("Bar") shouldBe null
+        types.getModelDataTypes().map { it.getName() } shouldBe listOf("Foo")
+        types.getEnumDataTypes().size shouldBe 0
+    }
+
+    "does not provide a used data type after it was replaced" {
+        val types = DataTypes()
+        types.add(ObjectDataType("Foo", "any"))
+        types.add(ObjectDataType("Bar", "any"))
+        types.addRef("Foo")
+        types.addRef("Bar")
+
+        types.add(ObjectDataType("Foo", "other"))
+
+        types.getModelDataTypes().map { it.getName() } shouldBe listOf("Bar")
+
+        types.addRef("Foo")
+
+        types.getModelDataTypes().map { it.getPackageName() } shouldBe listOf("other", "any")
+    }
+
+    "counts refs from multiple threads" {
+        val types = DataTypes()
+        types.add(ObjectDataType("Foo", "any"))
+
+        val threads = (1..4).map {
+            thread {
+                repeat(1000) {
+                    types.addRef("Foo")
+                }
+            }
+        }
+        threads.forEach { it.join() }
+
+        types.getRefCnt("Foo") shouldBe 4000
+    }
 })
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026 https://github.com/openapi-processor/openapi-processor-base
+ * PDX-License-Identifier: Apache-2.0
+ */
+
+package io.openapiprocessor.core.parser.openapi
+
+import io.kotest.core.spec.style.StringSpec
+import io.kotest.matchers.collections.shouldContainExactlyInAnyOrder
+import io.kotest.matchers.shouldBe
+import io.kotest.provided.tempFolder
+import io.openapiprocessor.interfaces.Reader
+import io.openapiprocessor.jackson.JacksonConverter
+import io.openapiprocessor.jsonschema.reader.UriReader
+import java.net.URI
+import java.nio.file.Files
+import java.util.concurrent.ConcurrentLinkedQueue
+
+class DocumentPrefetcherSpec: StringSpec({
+
+    "prefetches referenced documents" {
+        val dir = tempFolder()
+        Files.writeString(dir.resolve("openapi.yaml"), """
+            openapi: 3.1.0
+            info:
+              title: OpenAPI
+              version: "1"
+            paths:
+              /foo:
+                ${'$'}ref: 'foo.yaml'
+        """.trimIndent())
+
+        Files.writeString(dir.resolve("foo.yaml"), """
+            get:
+              responses:
+                '200':
+                  description: none
+                  content:
+                    application/json:
+                      schema:
+                        ${'$'}ref: 'schemas/Foo.yaml#/Foo'
+        """.trimIndent())
+
+        Files.createDirectories(dir.resolve("schemas"))
+        Files.writeString(dir.resolve("schemas/Foo.yaml"), """
+            Foo:
+              type: object
+              properties:
+                bar:
+                  ${'$'}ref: '#/Bar'
+            Bar:
+              type: string
+        """.trimIndent())
+
+        val reads = ConcurrentLinkedQueue<URI>()
+        val uriReader = UriReader()
+        val reader = Reader { uri ->
+            reads.add(uri)
+            uriReader.read(uri)
+        }
+
+        val prefetcher = DocumentPrefetcher(reader, JacksonConverter(), 2)
+        prefetcher.prefetch(dir.resolve("openapi.yaml").toUri())
+
+        reads.shouldContainExactlyInAnyOrder(
+            dir.resolve("openapi.yaml").toUri(),
+            dir.resolve("foo.yaml").toUri(),
+            dir.resolve("schemas/Foo.yaml").toUri())
+
+        // served from the prefetched content
+        prefetcher.reader.read(dir.resolve("foo.yaml").toUri()).close()
+        reads.size shouldBe 3
+    }
+
+    "parses with prefetch" {
+        val dir = tempFolder()
+        Files.writeString(dir.resolve("openapi.yaml"), """
+            openapi: 3.1.0
+            info:
+              title: OpenAPI
+              version: "1"
+            paths:
+              /foo:
+                ${'$'}ref: 'foo.yaml'
+        """.trimIndent())
+
+        Files.writeString(dir.resolve("foo.yaml"), """
+            get:
+              responses:
+                '204':
+                  description: none
+        """.trimIndent())
+
+        val api = Parser(ParserOptions(prefetch = true)).parse(dir.resolve("openapi.yaml").toString())
+
+        api.getPaths().keys shouldBe setOf("/foo")
+    }
+})
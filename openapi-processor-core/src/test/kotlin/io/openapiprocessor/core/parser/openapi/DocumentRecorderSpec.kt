@@ -0,0 +1,49 @@
+/*
+ * Copyright 2026 https://github.com/openapi-processor/openapi-processor-base
+ * PDX-License-Identifier: Apache-2.0
+ */
+
+package io.openapiprocessor.core.parser.openapi
+
+import io.kotest.core.spec.style.StringSpec
+import io.kotest.matchers.shouldBe
+import io.kotest.matchers.shouldNotBe
+import io.openapiprocessor.interfaces.Reader
+import java.net.URI
+
+class DocumentRecorderSpec: StringSpec({
+
+    val reader = Reader { uri -> "content of ${uri.path.substringAfterLast('/').take(3)}".byteInputStream() }
+
+    fun read(recorder: DocumentRecorder, vararg uris: String) {
+        uris.forEach { recorder.reader.read(URI(it)).close() }
+    }
+
+    "records the content hash of each read document" {
+        val recorder = DocumentRecorder(reader)
+        read(recorder, "file:/api/foo.yaml", "file:/api/bar.yaml")
+
+        recorder.documentHashes.keys shouldBe setOf(URI("file:/api/foo.yaml"), URI("file:/api/bar.yaml"))
+    }
+
+    "documents hash does not depend on the read order" {
+        val first = DocumentRecorder(reader)
+        read(first, "file:/api/foo.yaml", "file:/api/bar.yaml")
+
+        val second = DocumentRecorder(reader)
+        read(second, "file:/api/bar.yaml", "file:/api/foo.yaml")
+
+        first.documentsHash("V31") shouldBe second.documentsHash("V31")
+    }
+
+    "documents hash includes the document uris" {
+        // same content at another location, e.g. a moved document
+        val first = DocumentRecorder(reader)
+        read(first, "file:/api/foo.yaml", "file:/api/bar.yaml")
+
+        val second = DocumentRecorder(reader)
+        read(second, "file:/api/foo.yaml", "file:/api/other/bar.yaml")
+
+        first.documentsHash("V31") shouldNotBe second.documentsHash("V31")
+    }
+})
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2026 https://github.com/openapi-processor/openapi-processor-base
+ * PDX-License-Identifier: Apache-2.0
+ */
+
+package io.openapiprocessor.core.parser.openapi
+
+import ch.qos.logback.classic.spi.ILoggingEvent
+import ch.qos.logback.core.read.ListAppender
+import io.kotest.core.spec.style.StringSpec
+import io.kotest.matchers.collections.shouldContain
+import io.kotest.matchers.shouldBe
+import io.mockk.mockkObject
+import io.mockk.unmockkObject
+import io.mockk.verify
+import io.openapiprocessor.core.converter.ApiConverter
+import io.openapiprocessor.core.framework.FrameworkBase
+import io.openapiprocessor.core.parser.openapi.cache.ValidatedDocuments
+import io.openapiprocessor.core.support.parseOptions
+import io.openapiprocessor.core.writer.java.JavaIdentifier
+import io.openapiprocessor.test.stream.Memory
+import org.slf4j.LoggerFactory
+import ch.qos.logback.classic.Logger as LogbackLogger
+
+class ParserValidationSpec: StringSpec({
+
+    // info.version is missing
+    val invalid = """
+        openapi: 3.1.0
+        info:
+          title: OpenAPI
+        paths: {}
+    """.trimIndent()
+
+    val logger = LoggerFactory.getLogger(PendingValidation::class.java.name) as LogbackLogger
+    val appender = ListAppender<ILoggingEvent>()
+
+    beforeTest {
+        appender.list.clear()
+        appender.start()
+        logger.addAppender(appender)
+    }
+
+    afterTest {
+        logger.detachAppender(appender)
+    }
+
+    fun warnings(): List<String> {
+        return appender.list.map { it.formattedMessage }
+    }
+
+    "reports warnings of async validation by print warnings" {
+        Memory.add("invalid-async.yaml", invalid)
+
+        val result = Parser(ParserOptions(asyncValidation = true)).parse("memory:invalid-async.yaml")
+        result.printWarnings()
+
+        warnings() shouldContain "OpenAPI description 'memory:invalid-async.yaml' does not pass schema validation:"
+    }
+
+    "reports warnings of async validation at the end of the conversion" {
+        Memory.add("invalid-convert.yaml", invalid)
+
+        val result = Parser(ParserOptions(asyncValidation = true)).parse("memory:invalid-convert.yaml")
+        ApiConverter(parseOptions(), JavaIdentifier(), FrameworkBase()).convert(result)
+
+        warnings() shouldContain "OpenAPI description 'memory:invalid-convert.yaml' does not pass schema validation:"
+    }
+
+    "skips validation of already validated documents" {
+        ValidatedDocuments.clear()
+        Memory.add("invalid-skip.yaml", invalid)
+
+        mockkObject(ValidatedDocuments)
+        try {
+            Parser(ParserOptions(skipValidated = true)).parse("memory:invalid-skip.yaml")
+            Parser(ParserOptions(skipValidated = true)).parse("memory:invalid-skip.yaml")
+
+            // only the first parse validates and stores the result, the second one uses it
+            verify(exactly = 1) { ValidatedDocuments.put(any(), any()) }
+            verify(exactly = 2) { ValidatedDocuments.get(any()) }
+
+            val reported = warnings().filter { it.startsWith("OpenAPI description 'memory:invalid-skip.yaml'") }
+            reported.size shouldBe 2
+        } finally {
+            unmockkObject(ValidatedDocuments)
+        }
+    }
+
+    "reads parser options from processor options" {
+        val options = ParserOptions.of(mapOf(
+            "parserCacheDir" to "cache",
+            "parserValidation" to "async",
+            "parserSkipValidated" to true
+        ))
+
+        options.cacheDir shouldBe "cache"
+        options.asyncValidation shouldBe true
+        options.skipValidated shouldBe true
+    }
+})
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026 https://github.com/openapi-processor/openapi-processor-base
+ * PDX-License-Identifier: Apache-2.0
+ */
+
+package io.openapiprocessor.core.parser.openapi
+
+import io.kotest.core.spec.style.StringSpec
+import io.kotest.data.forAll
+import io.kotest.data.row
+import io.kotest.matchers.shouldBe
+import io.kotest.matchers.types.shouldBeSameInstanceAs
+import io.openapiprocessor.test.stream.Memory
+import java.net.URI
+
+class SchemaWrappersSpec: StringSpec({
+
+    "creates schema location" {
+        forAll(
+            row("file:/api/openapi.yaml", "#/components/schemas/Foo", "file:/api/openapi.yaml#/components/schemas/Foo"),
+            row("file:/api/openapi.yaml", "foo.yaml#/Foo", "file:/api/foo.yaml#/Foo"),
+            row("file:/api/openapi.yaml", "../foo.yaml", "file:/foo.yaml"),
+            row("memory:openapi.yaml", "#/components/schemas/Foo", "memory:openapi.yaml#/components/schemas/Foo"),
+            row("memory:openapi.yaml", "memory:foo.yaml#/Foo", "memory:foo.yaml#/Foo")
+        ) { document, ref, expected ->
+            SchemaWrappers.location(URI(document), ref) shouldBe expected
+        }
+    }
+
+    "returns the same wrappers on each call" {
+        val versions = listOf("3.0.3", "3.1.0", "3.2.0")
+
+        versions.forEach { version ->
+            Memory.add("openapi.yaml", """
+                openapi: $version
+                info:
+                  title: OpenAPI
+                  version: "1"
+                paths: {}
+                components:
+                  schemas:
+                    Foo:
+                      type: object
+                      properties:
+                        bar:
+                          ${'$'}ref: '#/components/schemas/Bar'
+                        items:
+                          type: array
+                          items:
+                            type: string
+                    Bar:
+                      type: string
+                      enum: [a, b]
+            """.trimIndent())
+
+            val api = Parser().parse("memory:openapi.yaml")
+
+            api.getPaths() shouldBeSameInstanceAs api.getPaths()
+            api.getSchemas() shouldBeSameInstanceAs api.getSchemas()
+
+            val foo = api.getSchemas()["Foo"]!!
+            foo.getProperties() shouldBeSameInstanceAs foo.getProperties()
+
+            val items = foo.getProperties()["items"]!!
+            items.getItem() shouldBeSameInstanceAs items.getItem()
+
+            val resolver = api.getRefResolver()
+            val bar = foo.getProperties()["bar"]!!
+            val resolved = resolver.resolve(bar)
+
+            resolved shouldBeSameInstanceAs resolver.resolve(bar)
+            resolved.schema shouldBeSameInstanceAs api.getSchemas()["Bar"]
+            resolved.schema.getEnum() shouldBeSameInstanceAs resolved.schema.getEnum()
+        }
+    }
+})
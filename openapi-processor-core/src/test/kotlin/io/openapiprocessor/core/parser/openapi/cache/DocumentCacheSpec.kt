@@ -0,0 +1,111 @@
+/*
+ * Copyright 2026 https://github.com/openapi-processor/openapi-processor-base
+ * PDX-License-Identifier: Apache-2.0
+ */
+
+package io.openapiprocessor.core.parser.openapi.cache
+
+import io.kotest.core.spec.style.StringSpec
+import io.kotest.matchers.booleans.shouldBeFalse
+import io.kotest.matchers.booleans.shouldBeTrue
+import io.kotest.matchers.collections.shouldContainExactly
+import io.kotest.matchers.nulls.shouldBeNull
+import io.kotest.matchers.nulls.shouldNotBeNull
+import io.kotest.matchers.shouldBe
+import io.kotest.provided.tempFolder
+import io.openapiprocessor.core.parser.openapi.Parser
+import io.openapiprocessor.core.parser.openapi.ParserOptions
+import io.openapiprocessor.test.stream.Memory
+import java.nio.file.Files
+import java.nio.file.attribute.FileTime
+
+class DocumentCacheSpec: StringSpec({
+
+    "caches document by content hash" {
+        val cache = DocumentCache(tempFolder())
+        val hash = cache.hash("openapi: 3.1.0")
+
+        cache.getDocument(hash).shouldBeNull()
+        cache.putDocument(hash, linkedMapOf("openapi" to "3.1.0"))
+
+        cache.getDocument(hash) shouldBe mapOf("openapi" to "3.1.0")
+    }
+
+    "drops corrupt document" {
+        val dir = tempFolder()
+        val cache = DocumentCache(dir)
+        val hash = cache.hash("openapi: 3.1.0")
+
+        Files.writeString(dir.resolve("$hash.json"), "{corrupt")
+
+        cache.getDocument(hash).shouldBeNull()
+        Files.exists(dir.resolve("$hash.json")).shouldBeFalse()
+    }
+
+    "stores document as json" {
+        val dir = tempFolder()
+        val cache = DocumentCache(dir)
+        val hash = cache.hash("openapi: 3.1.0")
+
+        cache.putDocument(hash, linkedMapOf("openapi" to "3.1.0", "tags" to listOf("foo")))
+
+        Files.readString(dir.resolve("$hash.json")) shouldBe """{"openapi":"3.1.0","tags":["foo"]}"""
+    }
+
+    "evicts least recently used entries" {
+        val dir = tempFolder()
+        val cache = DocumentCache(dir, 30)
+
+        cache.putDocument("old", linkedMapOf("openapi" to "3.0.3"))
+        cache.putDocument("new", linkedMapOf("openapi" to "3.1.0"))
+        Files.setLastModifiedTime(dir.resolve("old.json"), FileTime.fromMillis(1000))
+
+        cache.evict()
+
+        cache.getDocument("old").shouldBeNull()
+        cache.getDocument("new").shouldNotBeNull()
+    }
+
+    "drops java serialized entries of the old cache format" {
+        val dir = tempFolder()
+        Files.writeString(dir.resolve("old.document"), "serialized")
+
+        DocumentCache(dir).evict()
+
+        Files.exists(dir.resolve("old.document")).shouldBeFalse()
+    }
+
+    "caches validation result" {
+        val cache = DocumentCache(tempFolder())
+
+        cache.putValidation("valid", ValidationResult(true))
+        cache.putValidation("invalid", ValidationResult(false, listOf("one", "two\nlines \\")))
+
+        cache.getValidation("valid").shouldNotBeNull().valid.shouldBeTrue()
+
+        val invalid = cache.getValidation("invalid").shouldNotBeNull()
+        invalid.valid.shouldBeFalse()
+        invalid.messages shouldContainExactly listOf("one", "two\nlines \\")
+    }
+
+    "parses api with cache" {
+        val dir = tempFolder()
+
+        Memory.add("openapi.yaml", """
+            openapi: 3.1.0
+            info:
+              title: OpenAPI
+              version: "1"
+            paths: {}
+        """.trimIndent())
+
+        val cold = Parser(ParserOptions(cacheDir = dir.toString())).parse("memory:openapi.yaml")
+        val warm = Parser(ParserOptions(cacheDir = dir.toString())).parse("memory:openapi.yaml")
+
+        cold.getPaths().size shouldBe 0
+        warm.getPaths().size shouldBe 0
+        Files.list(dir).use { files ->
+            files.filter { it.fileName.toString().endsWith(".validation") }.count()
+        } shouldBe 1L
+    }
+})
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2026 https://github.com/openapi-processor/openapi-processor-base
+ * PDX-License-Identifier: Apache-2.0
+ */
+
+package io.openapiprocessor.core.processor
+
+import io.kotest.core.spec.style.StringSpec
+import io.kotest.matchers.booleans.shouldBeFalse
+import io.kotest.matchers.booleans.shouldBeTrue
+import io.kotest.matchers.collections.shouldContainExactly
+import io.kotest.matchers.types.shouldBeSameInstanceAs
+import io.kotest.matchers.types.shouldNotBeSameInstanceAs
+import io.openapiprocessor.interfaces.Reader
+import io.openapiprocessor.jackson.JacksonConverter
+import io.openapiprocessor.jsonschema.schema.SchemaStore
+import java.io.ByteArrayInputStream
+import java.net.URI
+import java.util.concurrent.CountDownLatch
+import kotlin.concurrent.thread
+
+class SchemaStoresSpec: StringSpec({
+
+    beforeTest {
+        SchemaStores.clear()
+    }
+
+    "reuses pre-registered store" {
+        val first = SchemaStores.withDraft202012 { it }
+        val second = SchemaStores.withDraft202012 { it }
+
+        second shouldBeSameInstanceAs first
+    }
+
+    "uses a different store for a different meta-schema" {
+        val draft4 = SchemaStores.withDraft4 { it }
+        val draft202012 = SchemaStores.withDraft202012 { it }
+
+        draft4 shouldNotBeSameInstanceAs draft202012
+    }
+
+    "does not share a store between concurrent users" {
+        val entered = CountDownLatch(1)
+        val release = CountDownLatch(1)
+
+        var outer: SchemaStore? = null
+        val t = thread {
+            SchemaStores.withDraft4 {
+                outer = it
+                entered.countDown()
+                release.await()
+            }
+        }
+
+        entered.await()
+        val inner = SchemaStores.withDraft4 { it }
+        release.countDown()
+        t.join()
+
+        inner shouldNotBeSameInstanceAs outer
+    }
+
+    "loads documents with the reader of the current user and drops the store after use" {
+        val reads = mutableListOf<URI>()
+        val reader = Reader { uri ->
+            reads.add(uri)
+            ByteArrayInputStream("""{"type": "string"}""".toByteArray())
+        }
+
+        val first = SchemaStores.withDraft202012(reader, JacksonConverter()) { store ->
+            store.register(URI("memory:run.json"))
+            store
+        }
+        val second = SchemaStores.withDraft202012 { it }
+
+        reads shouldContainExactly listOf(URI("memory:run.json"))
+        second shouldNotBeSameInstanceAs first
+    }
+
+    "validates mapping with pooled mapping schema" {
+        SchemaStores.warmUp()
+
+        val validator = MappingValidator()
+
+        validator.validate("""
+            |openapi-processor-mapping: current
+            |
+            |options:
+            |  package-name: io.openapiprocessor.somewhere
+        """.trimMargin()).isValid.shouldBeTrue()
+
+        validator.validate("""
+            |openapi-processor-mapping: current
+            |
+            |options:
+            |  package-name: io.openapiprocessor.somewhere
+            |
+            |bad:
+        """.trimMargin()).isValid.shouldBeFalse()
+    }
+})
@@ -13,6 +13,7 @@ import io.kotest.matchers.maps.shouldHaveSize
 import io.kotest.matchers.shouldBe
 import io.mockk.every
 import io.mockk.mockk
+import io.mockk.spyk
 import io.mockk.verify
 import io.mockk.verifySequence
 import io.openapiprocessor.core.processor.MappingReader
@@ -59,6 +60,28 @@ class MappingReaderSpec: StringSpec ({
         }
     }
 
+    "logs the validation errors of a cached mapping again" {
+        val yaml = """
+            |openapi-processor-mapping: current
+        """.trimMargin()
+
+        val validator = spyk(MappingValidator())
+        val log = mockk<Logger>(relaxed = true)
+
+        val reader = MappingReader(validator, mutableMapOf())
+        reader.log = log
+
+        reader.read (yaml)
+        reader.read (yaml)
+        reader.read (yaml, false)
+
+        verify(exactly = 1) { validator.validate(yaml) }
+        verify(exactly = 2) {
+            log.warn("mapping is not valid!")
+            log.warn("{} at {}", "should have a property 'options'", "/")
+        }
+    }
+
     "reads model-name-suffix" {
         val yaml = """
             |openapi-processor-mapping: current
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2026 https://github.com/openapi-processor/openapi-processor-base
+ * PDX-License-Identifier: Apache-2.0
+ */
+
+package io.openapiprocessor.core.session
+
+import io.kotest.core.spec.style.StringSpec
+import io.kotest.matchers.booleans.shouldBeFalse
+import io.kotest.matchers.booleans.shouldBeTrue
+import io.kotest.matchers.collections.shouldContainExactly
+import io.kotest.matchers.shouldBe
+import io.kotest.matchers.string.shouldContain
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+
+class ProcessorBatchSpec: StringSpec({
+
+    "runs jobs in parallel" {
+        val started = CountDownLatch(3)
+        val session = ProcessorSession({ _, _ ->
+            started.countDown()
+            // only completes if all jobs run at the same time
+            started.await(5, TimeUnit.SECONDS).shouldBeTrue()
+        })
+
+        val jobs = listOf("one", "two", "three").map { BatchJob.of(it, "$it.yaml", "mapping.yaml", "target/$it") }
+        val results = ProcessorBatch(session, 3).run(jobs)
+
+        results.map { it.job.name } shouldContainExactly listOf("one", "two", "three")
+        results.all { it.success }.shouldBeTrue()
+    }
+
+    "passes the job options to the processor" {
+        val options = mutableListOf<Map<String, *>>()
+        val session = ProcessorSession({ _, o -> synchronized(options) { options.add(o) } })
+
+        ProcessorBatch(session, 1).run(listOf(
+            BatchJob.of("one", "one.yaml", "mapping.yaml", "target/one", mapOf("parallelThreads" to 2))
+        ))
+
+        options[0]["apiPath"] shouldBe "one.yaml"
+        options[0]["mapping"] shouldBe "mapping.yaml"
+        options[0]["targetDir"] shouldBe "target/one"
+        options[0]["parallelThreads"] shouldBe 2
+    }
+
+    "a failed job does not stop the other jobs" {
+        val session = ProcessorSession({ _, o ->
+            if (o["apiPath"] == "bad.yaml") {
+                throw IllegalStateException("bad api")
+            }
+        })
+
+        val results = ProcessorBatch(session, 2).run(listOf(
+            BatchJob.of("bad", "bad.yaml", "mapping.yaml", "target/bad"),
+            BatchJob.of("good", "good.yaml", "mapping.yaml", "target/good")
+        ))
+
+        results[0].success.shouldBeFalse()
+        results[1].success.shouldBeTrue()
+
+        val summary = ProcessorBatch.summary(results, 42)
+        summary shouldContain "failed: bad api"
+        summary shouldContain "2 job(s), 1 failed, 42 ms"
+    }
+})
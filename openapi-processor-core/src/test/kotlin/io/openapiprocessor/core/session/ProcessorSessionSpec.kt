@@ -0,0 +1,161 @@
+/*
+ * Copyright 2026 https://github.com/openapi-processor/openapi-processor-base
+ * PDX-License-Identifier: Apache-2.0
+ */
+
+package io.openapiprocessor.core.session
+
+import io.kotest.core.spec.style.StringSpec
+import io.kotest.matchers.shouldBe
+import io.kotest.matchers.types.shouldBeSameInstanceAs
+import io.kotest.matchers.types.shouldNotBeSameInstanceAs
+import io.kotest.provided.tempFolder
+import io.mockk.every
+import io.mockk.mockkConstructor
+import io.mockk.spyk
+import io.mockk.unmockkConstructor
+import io.mockk.verify
+import io.openapiprocessor.core.parser.openapi.cache.CachingConverter
+import io.openapiprocessor.core.processor.MappingReader
+import io.openapiprocessor.core.processor.MappingValidator
+import io.openapiprocessor.core.writer.TargetManifest
+import io.openapiprocessor.interfaces.Converter
+import io.openapiprocessor.jackson.JacksonConverter
+import io.openapiprocessor.test.stream.Memory
+import java.nio.file.Files
+
+class ProcessorSessionSpec: StringSpec({
+
+    val mapping = """
+        openapi-processor-mapping: v8
+        options:
+          package-name: io.openapiprocessor.session
+    """.trimIndent()
+
+    "runs the processor with the session" {
+        val runs = mutableListOf<Pair<ProcessorSession, Map<String, *>>>()
+        val session = ProcessorSession({ s, options -> runs.add(Pair(s, options)) })
+
+        session.generate(mapOf("targetDir" to "one"))
+        session.generate(mapOf("targetDir" to "two"))
+
+        runs.size shouldBe 2
+        runs[0].first shouldBeSameInstanceAs session
+        runs[1].second["targetDir"] shouldBe "two"
+    }
+
+    "skips an up-to-date run if incremental is enabled" {
+        Memory.add("incremental.yaml", """
+            openapi: 3.1.0
+            info:
+              title: OpenAPI
+              version: "1"
+            paths: {}
+        """.trimIndent())
+
+        val target = tempFolder().resolve("target")
+        var runs = 0
+        val session = ProcessorSession({ _, _ ->
+            runs++
+            Files.createDirectories(target)
+            Files.writeString(target.resolve("Api.java"), "interface Api {}")
+            Files.writeString(target.resolve(TargetManifest.NAME), "Api.java\n")
+        })
+
+        val options = mapOf(
+            "apiPath" to "memory:incremental.yaml",
+            "mapping" to """
+                openapi-processor-mapping: v18
+                options:
+                  package-name: io.openapiprocessor.session
+                  incremental: true
+            """.trimIndent(),
+            "targetDir" to target.toString())
+
+        session.generate(options)
+        session.generate(options)
+        runs shouldBe 1
+
+        Files.delete(target.resolve("Api.java"))
+        session.generate(options)
+        runs shouldBe 2
+    }
+
+    "reads an unchanged mapping once" {
+        val validator = spyk(MappingValidator())
+        val reader = MappingReader(validator, mutableMapOf<String, MappingReader.CachedMapping>())
+
+        val first = reader.read(mapping)
+        val second = reader.read(mapping)
+
+        second shouldBeSameInstanceAs first
+        verify(exactly = 1) { validator.validate(any()) }
+    }
+
+    "converts options with the session" {
+        val session = ProcessorSession({ _, _ -> })
+
+        val options = session.convertOptions(mapOf("targetDir" to "target", "mapping" to mapping))
+
+        options.targetDir shouldBe "target"
+        options.packageName shouldBe "io.openapiprocessor.session"
+    }
+
+    "converts an unchanged document once" {
+        val calls = mutableListOf<String>()
+        val converter = Converter { api ->
+            calls.add(api)
+            mapOf("openapi" to "3.1.0")
+        }
+        val documents = mutableMapOf<String, Any>()
+
+        CachingConverter(converter, null, documents).convert("openapi: 3.1.0")
+        CachingConverter(converter, null, documents).convert("openapi: 3.1.0")
+
+        calls.size shouldBe 1
+    }
+
+    "returns a copy of a document cached in memory" {
+        val converter = Converter { mutableMapOf("paths" to mutableMapOf<String, Any>()) }
+        val documents = mutableMapOf<String, Any>()
+
+        val first = CachingConverter(converter, null, documents).convert("openapi: 3.1.0")
+        @Suppress("UNCHECKED_CAST")
+        ((first as MutableMap<String, Any>)["paths"] as MutableMap<String, Any>)["/foo"] = "changed"
+
+        val second = CachingConverter(converter, null, documents).convert("openapi: 3.1.0")
+        val third = CachingConverter(converter, null, documents).convert("openapi: 3.1.0")
+
+        second shouldBe mapOf("paths" to emptyMap<String, Any>())
+        second shouldNotBeSameInstanceAs third
+    }
+
+    "parses with the session" {
+        Memory.add("session-parse.yaml", """
+            openapi: 3.1.0
+            info:
+              title: Session Parse
+              version: "1"
+            paths: {}
+        """.trimIndent())
+
+        val converted = mutableListOf<String>()
+        mockkConstructor(JacksonConverter::class)
+        try {
+            every { anyConstructed<JacksonConverter>().convert(any()) } answers {
+                converted.add(firstArg())
+                callOriginal()
+            }
+
+            val session = ProcessorSession({ _, _ -> })
+
+            session.parse(mapOf("apiPath" to "memory:session-parse.yaml")).getPaths().size shouldBe 0
+            session.parse(mapOf("apiPath" to "memory:session-parse.yaml")).getPaths().size shouldBe 0
+
+            // the second parse uses the cached document
+            converted.count { it.contains("title: Session Parse") } shouldBe 1
+        } finally {
+            unmockkConstructor(JacksonConverter::class)
+        }
+    }
+})
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2026 https://github.com/openapi-processor/openapi-processor-base
+ * PDX-License-Identifier: Apache-2.0
+ */
+
+package io.openapiprocessor.core.session
+
+import io.kotest.core.spec.style.StringSpec
+import io.kotest.matchers.collections.shouldBeEmpty
+import io.kotest.matchers.collections.shouldContainExactly
+import io.kotest.matchers.shouldBe
+import io.kotest.matchers.string.shouldEndWith
+import io.kotest.provided.tempFolder
+import java.nio.file.Files
+import java.nio.file.Path
+
+class SharedModelsSpec: StringSpec({
+
+    val mapping = """
+        openapi-processor-mapping: v8
+        options:
+          package-name: io.openapiprocessor.service
+    """.trimIndent()
+
+    "shares identical model types of multiple apis" {
+        val dir = tempFolder()
+        writeApis(dir)
+
+        val session = ProcessorSession({ _, _ -> })
+        val jobs = SharedModels(session, "io.openapiprocessor.shared").plan(listOf(
+            BatchJob.of("a", dir.resolve("a.yaml").toString(), mapping, "target/a"),
+            BatchJob.of("b", dir.resolve("b.yaml").toString(), mapping, "target/b")
+        ))
+
+        val a = jobs[0].processorOptions
+        a["sharedModelPackage"] shouldBe "io.openapiprocessor.shared"
+        (a["sharedModels"] as List<*>).size shouldBe 1
+        (a["sharedModels"] as List<*>)[0].toString() shouldEndWith "common.yaml#Money"
+        (a["sharedModelsWrite"] as List<*>) shouldContainExactly listOf("Money")
+
+        val b = jobs[1].processorOptions
+        b["sharedModelPackage"] shouldBe "io.openapiprocessor.shared"
+        (b["sharedModelsWrite"] as List<*>).shouldBeEmpty()
+    }
+
+    "does not share model types that differ" {
+        val dir = tempFolder()
+        writeApis(dir)
+
+        val mappingB = """
+            openapi-processor-mapping: v8
+            options:
+              package-name: io.openapiprocessor.service
+            map:
+              types:
+                - type: number => java.math.BigDecimal
+        """.trimIndent()
+
+        val session = ProcessorSession({ _, _ -> })
+        val jobs = SharedModels(session, "io.openapiprocessor.shared").plan(listOf(
+            BatchJob.of("a", dir.resolve("a.yaml").toString(), mapping, "target/a"),
+            BatchJob.of("b", dir.resolve("b.yaml").toString(), mappingB, "target/b")
+        ))
+
+        jobs[0].processorOptions.containsKey("sharedModelPackage") shouldBe false
+        jobs[1].processorOptions.containsKey("sharedModelPackage") shouldBe false
+    }
+
+    "does not share model types if the writer options differ" {
+        val dir = tempFolder()
+        writeApis(dir)
+
+        val mappingB = """
+            openapi-processor-mapping: v8
+            options:
+              package-name: io.openapiprocessor.service
+              model-type: record
+        """.trimIndent()
+
+        val session = ProcessorSession({ _, _ -> })
+        val jobs = SharedModels(session, "io.openapiprocessor.shared").plan(listOf(
+            BatchJob.of("a", dir.resolve("a.yaml").toString(), mapping, "target/a"),
+            BatchJob.of("b", dir.resolve("b.yaml").toString(), mappingB, "target/b")
+        ))
+
+        jobs[0].processorOptions.containsKey("sharedModelPackage") shouldBe false
+        jobs[1].processorOptions.containsKey("sharedModelPackage") shouldBe false
+    }
+
+    "passes the shared target dir to the jobs" {
+        val dir = tempFolder()
+        writeApis(dir)
+
+        val session = ProcessorSession({ _, _ -> })
+        val jobs = SharedModels(session, "io.openapiprocessor.shared", "target/shared").plan(listOf(
+            BatchJob.of("a", dir.resolve("a.yaml").toString(), mapping, "target/a"),
+            BatchJob.of("b", dir.resolve("b.yaml").toString(), mapping, "target/b")
+        ))
+
+        jobs.forEach {
+            it.processorOptions["sharedModelTargetDir"] shouldBe "target/shared"
+        }
+        session.convertOptions(jobs[1].processorOptions).sharedModelOptions.targetDir shouldBe "target/shared"
+    }
+})
+
+private fun writeApis(dir: Path) {
+    Files.writeString(dir.resolve("common.yaml"), """
+        Money:
+          type: object
+          properties:
+            amount:
+              type: number
+            currency:
+              type: string
+    """.trimIndent())
+
+    listOf("a", "b").forEach { name ->
+        Files.writeString(dir.resolve("$name.yaml"), """
+            openapi: 3.1.0
+            info:
+              title: $name
+              version: "1"
+            paths:
+              /$name:
+                get:
+                  responses:
+                    '200':
+                      description: none
+                      content:
+                        application/json:
+                          schema:
+                            ${'$'}ref: '#/components/schemas/Money'
+            components:
+              schemas:
+                Money:
+                  ${'$'}ref: 'common.yaml#/Money'
+        """.trimIndent())
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2026 https://github.com/openapi-processor/openapi-processor-base
+ * PDX-License-Identifier: Apache-2.0
+ */
+
+package io.openapiprocessor.core.watch
+
+import io.kotest.core.spec.style.StringSpec
+import io.kotest.matchers.collections.shouldContainExactlyInAnyOrder
+import io.kotest.matchers.nulls.shouldNotBeNull
+import io.kotest.matchers.shouldBe
+import io.kotest.provided.tempFolder
+import io.openapiprocessor.core.session.ProcessorSession
+import java.nio.file.Files
+import java.time.Duration
+import java.util.concurrent.LinkedBlockingQueue
+import java.util.concurrent.TimeUnit
+
+class ProcessorWatcherSpec: StringSpec({
+
+    "runs the processor again if a referenced document changes" {
+        val dir = tempFolder().toRealPath()
+        Files.writeString(dir.resolve("openapi.yaml"), """
+            openapi: 3.1.0
+            info:
+              title: OpenAPI
+              version: "1"
+            paths:
+              /foo:
+                ${'$'}ref: 'foo.yaml'
+        """.trimIndent())
+
+        Files.writeString(dir.resolve("foo.yaml"), """
+            get:
+              responses:
+                '204':
+                  description: none
+        """.trimIndent())
+
+        Files.writeString(dir.resolve("mapping.yaml"), """
+            openapi-processor-mapping: v8
+            options:
+              package-name: io.openapiprocessor.watch
+        """.trimIndent())
+
+        val runs = LinkedBlockingQueue<Map<String, *>>()
+        val session = ProcessorSession({ s, options ->
+            s.parse(options)
+            runs.add(options)
+        })
+
+        val watcher = ProcessorWatcher(session, mapOf(
+            "apiPath" to dir.resolve("openapi.yaml").toString(),
+            "mapping" to dir.resolve("mapping.yaml").toString(),
+            "targetDir" to dir.resolve("target").toString()
+        ), Duration.ofMillis(50))
+
+        val thread = Thread { watcher.watch() }
+        thread.start()
+
+        try {
+            val first = runs.poll(10, TimeUnit.SECONDS)
+            first.shouldNotBeNull()
+            first["watch"] shouldBe true
+
+            // the documents of the parse of the run
+            awaitWatched(watcher, 3)
+            watcher.watchedFiles shouldContainExactlyInAnyOrder listOf(
+                dir.resolve("openapi.yaml"),
+                dir.resolve("foo.yaml"),
+                dir.resolve("mapping.yaml")
+            )
+
+            Files.writeString(dir.resolve("foo.yaml"), """
+                get:
+                  responses:
+                    '200':
+                      description: none
+            """.trimIndent())
+
+            runs.poll(10, TimeUnit.SECONDS).shouldNotBeNull()
+        } finally {
+            watcher.close()
+            thread.join(5000)
+        }
+    }
+
+    "keeps watching if a watched file is missing" {
+        val dir = tempFolder().toRealPath()
+        Files.writeString(dir.resolve("openapi.yaml"), """
+            openapi: 3.1.0
+            info:
+              title: OpenAPI
+              version: "1"
+            paths:
+              /foo:
+                ${'$'}ref: 'foo.yaml'
+        """.trimIndent())
+
+        val foo = """
+            get:
+              responses:
+                '204':
+                  description: none
+        """.trimIndent()
+        Files.writeString(dir.resolve("foo.yaml"), foo)
+
+        val runs = LinkedBlockingQueue<Boolean>()
+        val session = ProcessorSession({ s, options ->
+            runs.add(Files.exists(dir.resolve("foo.yaml")))
+            s.parse(options)
+        })
+
+        val watcher = ProcessorWatcher(session, mapOf(
+            "apiPath" to dir.resolve("openapi.yaml").toString(),
+            "targetDir" to dir.resolve("target").toString()
+        ), Duration.ofMillis(50))
+
+        val thread = Thread { watcher.watch() }
+        thread.start()
+
+        try {
+            runs.poll(10, TimeUnit.SECONDS) shouldBe true
+            awaitWatched(watcher, 2)
+
+            // e.g. an editor that saves by delete & rename
+            Files.delete(dir.resolve("foo.yaml"))
+            runs.poll(10, TimeUnit.SECONDS) shouldBe false
+
+            Files.writeString(dir.resolve("foo.yaml"), foo)
+            runs.poll(10, TimeUnit.SECONDS) shouldBe true
+            thread.isAlive shouldBe true
+        } finally {
+            watcher.close()
+            thread.join(5000)
+        }
+    }
+})
+
+private fun awaitWatched(watcher: ProcessorWatcher, count: Int) {
+    val deadline = System.currentTimeMillis() + 10000
+    while (watcher.watchedFiles.size < count && System.currentTimeMillis() < deadline) {
+        Thread.sleep(10)
+    }
+}
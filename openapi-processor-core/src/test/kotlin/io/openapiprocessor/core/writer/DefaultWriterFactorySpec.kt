@@ -16,6 +16,7 @@ import io.openapiprocessor.core.support.text
 import java.io.File
 import java.nio.file.Files
 import java.nio.file.Path
+import java.nio.file.attribute.FileTime
 import kotlin.io.path.createFile
 
 @Suppress("BlockingMethodInNonBlockingContext")
@@ -266,6 +267,111 @@ class DefaultWriterFactorySpec : StringSpec({
         Files.exists(lazy) shouldBe true
         Files.isDirectory(lazy) shouldBe true
     }
+
+    "does not touch unchanged source file if write changed is enabled" {
+        options.targetDirOptions.clear = false
+        options.targetDirOptions.writeChanged = true
+
+        val factory = DefaultWriterFactory(options)
+        factory.init()
+
+        val source = options.getSourcePath("api", "Api.java")
+        Files.writeString(source, "public interface Api {}\n")
+        val modified = FileTime.fromMillis(1000)
+        Files.setLastModifiedTime(source, modified)
+
+        val writer = factory.createWriter("${options.packageName}.api", "Api")
+        writer.write("public interface Api {}\n")
+        writer.close()
+
+        Files.getLastModifiedTime(source) shouldBe modified
+    }
+
+    "writes changed source file if write changed is enabled" {
+        options.targetDirOptions.clear = false
+        options.targetDirOptions.writeChanged = true
+
+        val factory = DefaultWriterFactory(options)
+        factory.init()
+
+        val source = options.getSourcePath("api", "Api.java")
+        Files.writeString(source, "public interface Api {}\n")
+
+        val writer = factory.createWriter("${options.packageName}.api", "Api")
+        writer.write("public interface Api { void foo(); }\n")
+        writer.close()
+
+        source.text shouldBe "public interface Api { void foo(); }\n"
+    }
+
+    "deletes only stale files of the previous run if prune is enabled" {
+        options.targetDirOptions.prune = true
+
+        fun write(vararg names: String) {
+            val factory = DefaultWriterFactory(options)
+            factory.init()
+
+            names.forEach {
+                val writer = factory.createWriter("${options.packageName}.api", it)
+                writer.write("public interface $it {}\n")
+                writer.close()
+            }
+
+            factory.finish()
+        }
+
+        write("Foo", "Bar")
+        val other = options.getSourcePath("api", "Other.java")
+        Files.writeString(other, "// not generated\n")
+
+        write("Foo")
+
+        Files.exists(options.getSourcePath("api", "Foo.java")) shouldBe true
+        Files.exists(options.getSourcePath("api", "Bar.java")) shouldBe false
+        Files.exists(other) shouldBe true
+    }
+
+    "deletes the directories that are empty after pruning the stale files" {
+        options.targetDirOptions.prune = true
+
+        fun write(vararg packages: String) {
+            val factory = DefaultWriterFactory(options)
+            factory.init()
+
+            packages.forEach {
+                val writer = factory.createWriter("${options.packageName}.$it", "Foo")
+                writer.write("public interface Foo {}\n")
+                writer.close()
+            }
+
+            factory.finish()
+        }
+
+        write("api", "api.foo.bar")
+        write("api")
+
+        Files.exists(options.getSourcePath("api", "Foo.java")) shouldBe true
+        Files.exists(options.getSourceDir("api/foo")) shouldBe false
+    }
+
+    "writes shared model types to the shared target dir" {
+        val shared = target.resolve("shared")
+        options.targetDirOptions.prune = true
+        options.sharedModelOptions.packageName = "io.openapiprocessor.shared"
+        options.sharedModelOptions.targetDir = shared.toString()
+
+        val factory = DefaultWriterFactory(options)
+        factory.init()
+
+        val writer = factory.createWriter("io.openapiprocessor.shared", "Money")
+        writer.write("public class Money {}\n")
+        writer.close()
+        factory.finish()
+
+        Files.exists(shared.resolve("io/openapiprocessor/shared/Money.java")) shouldBe true
+        Files.exists(Path.of(options.targetDir!!).resolve("io/openapiprocessor/shared/Money.java")) shouldBe false
+        TargetManifest(Path.of(options.targetDir!!)).read() shouldBe emptySet()
+    }
 })
 
 
@@ -5,9 +5,12 @@
 
 package io.openapiprocessor.core.writer.java
 
+import io.kotest.assertions.throwables.shouldThrow
 import io.kotest.core.spec.IsolationMode
 import io.kotest.core.spec.style.StringSpec
 import io.kotest.matchers.equals.shouldBeEqual
+import io.kotest.matchers.shouldBe
+import io.kotest.matchers.string.shouldContain
 import io.kotest.provided.tempFolder
 import io.mockk.every
 import io.mockk.mockk
@@ -15,15 +18,20 @@ import io.mockk.verify
 import io.openapiprocessor.core.builder.api.`interface`
 import io.openapiprocessor.core.converter.ApiOptions
 import io.openapiprocessor.core.converter.options.TargetDirLayout
+import io.openapiprocessor.core.incremental.SourceDependencies
 import io.openapiprocessor.core.model.Api
 import io.openapiprocessor.core.model.DataTypes
+import io.openapiprocessor.core.model.Interface
 import io.openapiprocessor.core.model.Resource
 import io.openapiprocessor.core.model.datatypes.*
 import io.openapiprocessor.core.writer.SourceFormatter
 import io.openapiprocessor.core.writer.WriterFactory
 import java.io.File
 import java.io.StringWriter
+import java.io.Writer
 import java.nio.file.Path
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.AtomicInteger
 import io.mockk.mockk as stub
 
 class ApiWriterSpec: StringSpec({
@@ -42,7 +50,8 @@ class ApiWriterSpec: StringSpec({
         enumWriter: StringEnumWriter = stub(),
         interfaceDataTypeWriter: InterfaceDataTypeWriter = stub(),
         additionalWriters: List<AdditionalWriter> = emptyList(),
-        formatter: SourceFormatter = NullFormatter()
+        formatter: SourceFormatter = NullFormatter(),
+        formatterFactory: (() -> SourceFormatter)? = null
     ): ApiWriter {
         return ApiWriter(
             options,
@@ -54,7 +63,8 @@ class ApiWriterSpec: StringSpec({
             interfaceDataTypeWriter,
             additionalWriters,
             formatter,
-            factoryStub
+            factoryStub,
+            formatterFactory ?: { formatter }
         )
     }
 
@@ -147,6 +157,183 @@ class ApiWriterSpec: StringSpec({
         verify(exactly = 1) { dataTypeWriter.write(any(), dtB) }
     }
 
+    "writes & formats interface sources in parallel with a formatter per thread" {
+        options.parallelOptions.writer = true
+        options.parallelOptions.threads = 2
+
+        val itfs = listOf(
+            `interface`("Foo", options.getSourceDir("model").toString()) {},
+            `interface`("Bar", options.getSourceDir("model").toString()) {},
+            `interface`("Baz", options.getSourceDir("model").toString()) {}
+        )
+        val api = Api(itfs)
+
+        every { factoryStub.createWriter(any(), any()) }.answers { StringWriter() }
+        val interfaceWriter = stub<InterfaceWriter>(relaxed = true)
+        val formatter = stub<SourceFormatter>(relaxed = true)
+        val threadFormatter = stub<SourceFormatter>(relaxed = true)
+        val created = AtomicInteger()
+
+        createApiWriter(
+            interfaceWriter = interfaceWriter,
+            formatter = formatter,
+            formatterFactory = { created.incrementAndGet(); threadFormatter }
+        ).write(api)
+
+        itfs.forEach {
+            verify(exactly = 1) { interfaceWriter.write(any(), it) }
+        }
+        verify(exactly = 1) { formatter.format(any()) } // Generated
+        verify(exactly = 3) { threadFormatter.format(any()) }
+        (created.get() <= 2) shouldBe true
+    }
+
+    "formats the sources in parallel with the default formatter factory" {
+        options.parallelOptions.writer = true
+        options.parallelOptions.threads = 2
+        options.formatCodeFormatter = "google"
+
+        val itfs = listOf(
+            `interface`("Foo", options.getSourceDir("model").toString()) {},
+            `interface`("Bar", options.getSourceDir("model").toString()) {}
+        )
+        val api = Api(itfs)
+
+        val sources = ConcurrentHashMap<String, StringWriter>()
+        every { factoryStub.createWriter(any(), any()) }.answers {
+            StringWriter().also { sources[secondArg<String>()] = it }
+        }
+        val interfaceWriter = stub<InterfaceWriter>()
+        every { interfaceWriter.write(any(), any()) }.answers {
+            firstArg<Writer>().write("interface   ${secondArg<Interface>().getInterfaceName()}   {}")
+        }
+
+        ApiWriter(
+            options,
+            stub(relaxed = true),
+            stub(relaxed = true),
+            interfaceWriter,
+            stub(),
+            stub(),
+            stub(),
+            emptyList(),
+            NullFormatter(),
+            factoryStub
+        ).write(api)
+
+        sources["Foo"].toString() shouldBe "interface Foo {\n}\n"
+        sources["Bar"].toString() shouldBe "interface Bar {\n}\n"
+    }
+
+    "reports the first failing source of a parallel write" {
+        options.parallelOptions.writer = true
+        options.parallelOptions.threads = 3
+
+        val itfs = listOf(
+            `interface`("Foo", options.getSourceDir("model").toString()) {},
+            `interface`("Bar", options.getSourceDir("model").toString()) {},
+            `interface`("Baz", options.getSourceDir("model").toString()) {}
+        )
+        val api = Api(itfs)
+
+        every { factoryStub.createWriter(any(), any()) }.answers { StringWriter() }
+        val interfaceWriter = stub<InterfaceWriter>()
+        every { interfaceWriter.write(any(), any()) }.answers {
+            firstArg<Writer>().write(secondArg<Interface>().getInterfaceName())
+        }
+
+        val formatter = SourceFormatter { raw ->
+            if (raw.contains("Bar") || raw.contains("Baz")) {
+                throw FormattingException(raw, RuntimeException())
+            }
+            raw
+        }
+
+        val e = shouldThrow<FormattingException> {
+            createApiWriter(interfaceWriter = interfaceWriter, formatterFactory = { formatter }).write(api)
+        }
+
+        e.message shouldContain "Bar"
+        e.suppressed.size shouldBe 1
+        e.suppressed[0].message!! shouldContain "Baz"
+    }
+
+    "streaming write writes each interface before the conversion is done" {
+        val foo = `interface`("Foo", options.getSourceDir("model").toString()) {}
+        val bar = `interface`("Bar", options.getSourceDir("model").toString()) {}
+
+        val dts = DataTypes()
+        val dt = ObjectDataType(DataTypeName("Foo"), "${options.packageName}.model")
+        dts.add(dt)
+        dts.addRef(dt.getName())
+
+        val written = mutableListOf<String>()
+        val interfaceWriter = stub<InterfaceWriter>()
+        every { interfaceWriter.write(any(), any()) }.answers {
+            written.add(secondArg<Interface>().getInterfaceName())
+        }
+        val dataTypeWriter = stub<DataTypeWriter>()
+        every { dataTypeWriter.write(any(), any()) }.answers {
+            written.add(secondArg<ObjectDataType>().getName())
+        }
+
+        var writtenBeforeBar = emptyList<String>()
+        createApiWriter(interfaceWriter = interfaceWriter, dataTypeWriter = dataTypeWriter).write { onInterface ->
+            onInterface(foo)
+            writtenBeforeBar = written.toList()
+            onInterface(bar)
+            Api(dataTypes = dts)
+        }
+
+        writtenBeforeBar shouldBe listOf(foo.getInterfaceName())
+        written shouldBe listOf(foo.getInterfaceName(), bar.getInterfaceName(), dt.getName())
+    }
+
+    "incremental write keeps a source if its dependencies did not change" {
+        options.targetDir = target.toString()
+        options.incrementalInputs = "inputs"
+
+        val dts = DataTypes()
+        val dt = ObjectDataType(DataTypeName("Foo"), "${options.packageName}.model")
+        dts.add(dt)
+        dts.addRef(dt.getName())
+
+        var dependencies = mapOf("path:/foo" to "1")
+        val sources = stub<SourceDependencies>()
+        every { sources.get(any(), any()) }.answers { dependencies }
+
+        val dataTypeWriter = stub<DataTypeWriter>()
+        every { dataTypeWriter.write(any(), any()) }.answers { firstArg<Writer>().write("class Foo {}") }
+
+        fun write() {
+            val api = Api(dataTypes = dts)
+            api.setSources(sources)
+
+            ApiWriter(
+                options,
+                stub(relaxed = true),
+                stub(relaxed = true),
+                stub(),
+                dataTypeWriter,
+                stub(),
+                stub(),
+                formatter = NullFormatter()
+            ).write(api)
+        }
+
+        write()
+        write()
+        verify(exactly = 1) { dataTypeWriter.write(any(), dt) }
+
+        dependencies = mapOf("path:/foo" to "2")
+        write()
+        verify(exactly = 2) { dataTypeWriter.write(any(), dt) }
+
+        options.incrementalInputs = "changed inputs"
+        write()
+        verify(exactly = 3) { dataTypeWriter.write(any(), dt) }
+    }
+
     "re-formats model data type source" {
         val dts = DataTypes()
         dts.add (ObjectDataType(DataTypeName("Foo"), "${options.packageName}.model"))
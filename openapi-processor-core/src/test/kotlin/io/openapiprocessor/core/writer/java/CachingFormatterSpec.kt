@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026 https://github.com/openapi-processor/openapi-processor-base
+ * PDX-License-Identifier: Apache-2.0
+ */
+
+package io.openapiprocessor.core.writer.java
+
+import io.kotest.core.spec.style.StringSpec
+import io.kotest.matchers.booleans.shouldBeFalse
+import io.kotest.matchers.booleans.shouldBeTrue
+import io.kotest.matchers.nulls.shouldBeNull
+import io.kotest.matchers.shouldBe
+import io.kotest.provided.tempFolder
+import io.openapiprocessor.core.writer.SourceFormatter
+import java.nio.file.Files
+import java.nio.file.attribute.FileTime
+
+class CachingFormatterSpec: StringSpec({
+
+    fun counting(calls: MutableList<String>): SourceFormatter {
+        return SourceFormatter { raw ->
+            calls.add(raw)
+            "formatted $raw"
+        }
+    }
+
+    "formats a source only once" {
+        val calls = mutableListOf<String>()
+        val cache = FormatterCache(tempFolder(), 1024 * 1024)
+        val formatter = CachingFormatter(counting(calls), "test", cache)
+
+        formatter.format("class Foo {}") shouldBe "formatted class Foo {}"
+        formatter.format("class Foo {}") shouldBe "formatted class Foo {}"
+        formatter.format("class Bar {}") shouldBe "formatted class Bar {}"
+
+        calls shouldBe listOf("class Foo {}", "class Bar {}")
+    }
+
+    "uses cached sources of a previous formatter with the same id" {
+        val dir = tempFolder()
+        val calls = mutableListOf<String>()
+
+        CachingFormatter(counting(calls), "test", FormatterCache(dir, 1024 * 1024)).format("class Foo {}")
+        CachingFormatter(counting(calls), "test", FormatterCache(dir, 1024 * 1024)).format("class Foo {}")
+        CachingFormatter(counting(calls), "other", FormatterCache(dir, 1024 * 1024)).format("class Foo {}")
+
+        calls shouldBe listOf("class Foo {}", "class Foo {}")
+    }
+
+    "drops corrupt entry" {
+        val dir = tempFolder()
+        val cache = FormatterCache(dir, 1024 * 1024)
+
+        Files.createDirectories(dir.resolve("key.formatted"))
+
+        cache.get("key").shouldBeNull()
+    }
+
+    "evicts least recently used entries" {
+        val dir = tempFolder()
+        val cache = FormatterCache(dir, 10)
+
+        cache.put("a", "12345")
+        cache.put("b", "12345")
+        cache.put("c", "12345")
+        Files.setLastModifiedTime(dir.resolve("a.formatted"), FileTime.fromMillis(1000))
+        Files.setLastModifiedTime(dir.resolve("b.formatted"), FileTime.fromMillis(3000))
+        Files.setLastModifiedTime(dir.resolve("c.formatted"), FileTime.fromMillis(2000))
+
+        cache.evict()
+
+        Files.exists(dir.resolve("a.formatted")).shouldBeFalse()
+        Files.exists(dir.resolve("b.formatted")).shouldBeTrue()
+        Files.exists(dir.resolve("c.formatted")).shouldBeTrue()
+    }
+})
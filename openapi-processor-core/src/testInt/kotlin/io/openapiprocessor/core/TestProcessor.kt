@@ -7,10 +7,9 @@ package io.openapiprocessor.core
 
 import io.openapiprocessor.core.converter.ApiConverter
 import io.openapiprocessor.core.converter.ApiOptions
-import io.openapiprocessor.core.converter.OptionsConverter
 import io.openapiprocessor.core.framework.FrameworkBase
-import io.openapiprocessor.core.parser.OpenApiParser
-import io.openapiprocessor.core.writer.SourceFormatter
+import io.openapiprocessor.core.session.ProcessorSession
+import io.openapiprocessor.core.session.SessionProcessor
 import io.openapiprocessor.core.writer.java.*
 import org.slf4j.Logger
 import org.slf4j.LoggerFactory
@@ -21,7 +20,8 @@ import org.slf4j.LoggerFactory
 class TestProcessor:
     io.openapiprocessor.api.v2.OpenApiProcessor,
     io.openapiprocessor.api.v1.OpenApiProcessor,
-    io.openapiprocessor.test.api.OpenApiProcessorTest
+    io.openapiprocessor.test.api.OpenApiProcessorTest,
+    SessionProcessor
 {
     private val log: Logger = LoggerFactory.getLogger(this.javaClass.name)
 
@@ -32,20 +32,28 @@ class TestProcessor:
     }
 
     override fun run(processorOptions: MutableMap<String, *>) {
+        val session = ProcessorSession(this)
+
+        // the source roots need the options even if the session skips an up-to-date run
+        apiOptions = session.convertOptions(processorOptions)
+        session.generate(processorOptions)
+    }
+
+    override fun run(session: ProcessorSession, processorOptions: Map<String, *>) {
         try {
-            val parser = OpenApiParser ()
-            val openapi = parser.parse(processorOptions)
+            val options = session.convertOptions(processorOptions)
+            options.validate()
+            apiOptions = options
+
+            val openapi = session.parse(processorOptions)
             if (processorOptions.containsKey("showWarnings")) {
                 openapi.printWarnings()
             }
 
-            val options = convertOptions(processorOptions)
-            apiOptions = options
             val identifier = JavaIdentifier(IdentifierOptions(
                 options.identifierWordBreakFromDigitToLetter,
                 options.identifierPrefixInvalidEnumStart))
             val cv = ApiConverter(options, identifier, FrameworkBase())
-            val api = cv.convert(openapi)
 
             val generatedInfo = GeneratedInfo("openapi-processor-core", "test")
             val generatedWriter = GeneratedWriterImpl(generatedInfo, options)
@@ -53,7 +61,7 @@ class TestProcessor:
             val beanValidation = BeanValidationFactory(options)
             val javaDocFactory = JavaDocFactory(identifier)
             val jacksonAnnotations = JacksonAnnotations(options)
-            val formatter = getFormatter()
+            val formatter = session.getFormatter(options)
 
             val writer = ApiWriter(
                 options,
@@ -100,10 +108,15 @@ class TestProcessor:
                     javaDocFactory
                 ),
                 listOf(),
-                formatter
+                formatter,
+                formatterFactory = { session.getFormatter(options) }
             )
 
-            writer.write(api)
+            if (options.streamInterfaces) {
+                writer.write { cv.convert(openapi, it) }
+            } else {
+                writer.write(cv.convert(openapi))
+            }
         } catch (e: Exception) {
             log.error ("processing failed!", e)
             throw e
@@ -123,19 +136,4 @@ class TestProcessor:
         }
         return null
     }
-
-    private fun getFormatter(): SourceFormatter {
-        return SourceFormatterFactory().getFormatter(apiOptions)
-    }
-}
-
-private fun convertOptions(processorOptions: MutableMap<String, *>): ApiOptions {
-    val target = mutableMapOf<String, Any>()
-    processorOptions.forEach {(key, value) ->
-        target[key] = value!!
-    }
-
-    val options = OptionsConverter().convertOptions(target)
-    options.validate()
-    return options
 }